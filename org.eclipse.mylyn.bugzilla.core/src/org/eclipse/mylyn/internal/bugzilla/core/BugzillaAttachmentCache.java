@@ -0,0 +1,359 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Tasktop Technologies and others.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * https://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Tasktop Technologies - initial API and implementation
+ *******************************************************************************/
+
+package org.eclipse.mylyn.internal.bugzilla.core;
+
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileNotFoundException;
+import java.io.FileOutputStream;
+import java.io.FilterInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.Date;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.eclipse.core.runtime.Assert;
+
+/**
+ * Caches the content of attachments on disk. Attachments are immutable in Bugzilla, hence cached content is
+ * identified by a key that is computed from the repository url, attachment id, size and creation date and does not
+ * need to be validated against the repository. When the total size of cached content exceeds the configured budget
+ * the least recently used attachments are evicted.
+ */
+public class BugzillaAttachmentCache {
+
+	public static final long DEFAULT_MAX_SIZE = 50 * 1024 * 1024;
+
+	private static final String TEMP_SUFFIX = ".tmp"; //$NON-NLS-1$
+
+	private final File directory;
+
+	private volatile long maxSize;
+
+	/**
+	 * Maps the file name of cached attachments to their size in least recently used order.
+	 */
+	private final LinkedHashMap<String, Long> sizeByName = new LinkedHashMap<String, Long>(16, 0.75f, true);
+
+	private long totalSize;
+
+	private boolean initialized;
+
+	private final AtomicLong hitCount = new AtomicLong();
+
+	private final AtomicLong missCount = new AtomicLong();
+
+	public BugzillaAttachmentCache(File directory, long maxSize) {
+		Assert.isNotNull(directory);
+		this.directory = directory;
+		this.maxSize = maxSize;
+	}
+
+	/**
+	 * Returns the key for an attachment or <code>null</code>, if neither size nor creation date are known which are
+	 * required to identify the content of an attachment.
+	 */
+	public static String getKey(String repositoryUrl, String attachmentId, Long size, Date creationDate) {
+		if (repositoryUrl == null || attachmentId == null || (size == null && creationDate == null)) {
+			return null;
+		}
+		return repositoryUrl + "\n" + attachmentId + "\n" + size + "\n" //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$
+				+ ((creationDate != null) ? creationDate.getTime() : null);
+	}
+
+	/**
+	 * Returns a stream to the cached content for <code>key</code> or <code>null</code>, if the content is not cached.
+	 */
+	public InputStream get(String key) {
+		String name = getFileName(key);
+		synchronized (this) {
+			initialize();
+			if (sizeByName.get(name) != null) {
+				File file = new File(directory, name);
+				try {
+					InputStream in = new FileInputStream(file);
+					// persist the access order across sessions
+					file.setLastModified(System.currentTimeMillis());
+					hitCount.incrementAndGet();
+					return in;
+				} catch (FileNotFoundException e) {
+					totalSize -= sizeByName.remove(name);
+				}
+			}
+		}
+		missCount.incrementAndGet();
+		return null;
+	}
+
+	/**
+	 * Returns a stream that reads <code>content</code> and adds it to the cache while it is read. The content is
+	 * cached when the returned stream is closed after it was read completely. Content that is not read completely or
+	 * that exceeds the maximum size of the cache is discarded. Closing the returned stream closes
+	 * <code>content</code>.
+	 */
+	public InputStream put(String key, InputStream content) throws IOException {
+		String name = getFileName(key);
+		synchronized (this) {
+			// read the index first since it removes temporary files
+			initialize();
+		}
+		File tempFile;
+		try {
+			directory.mkdirs();
+			tempFile = File.createTempFile(name, TEMP_SUFFIX, directory);
+		} catch (IOException e) {
+			// caching is optional
+			return content;
+		}
+		try {
+			return new CachingInputStream(content, name, tempFile);
+		} catch (IOException e) {
+			tempFile.delete();
+			return content;
+		}
+	}
+
+	private synchronized void commit(String name, File tempFile, long size) {
+		File file = new File(directory, name);
+		Long previousSize = sizeByName.remove(name);
+		if (previousSize != null) {
+			totalSize -= previousSize;
+		}
+		file.delete();
+		if (!tempFile.renameTo(file)) {
+			tempFile.delete();
+			return;
+		}
+		sizeByName.put(name, size);
+		totalSize += size;
+		evict();
+	}
+
+	private void evict() {
+		Iterator<Map.Entry<String, Long>> it = sizeByName.entrySet().iterator();
+		while (totalSize > maxSize && it.hasNext()) {
+			Map.Entry<String, Long> entry = it.next();
+			new File(directory, entry.getKey()).delete();
+			totalSize -= entry.getValue();
+			it.remove();
+		}
+	}
+
+	/**
+	 * Reads the index of cached content from disk in the order of last access.
+	 */
+	private void initialize() {
+		if (initialized) {
+			return;
+		}
+		initialized = true;
+		File[] files = directory.listFiles();
+		if (files == null) {
+			return;
+		}
+		Arrays.sort(files, new Comparator<File>() {
+			public int compare(File o1, File o2) {
+				return Long.compare(o1.lastModified(), o2.lastModified());
+			}
+		});
+		for (File file : files) {
+			if (file.getName().endsWith(TEMP_SUFFIX)) {
+				// left over from an aborted download
+				file.delete();
+			} else if (file.isFile()) {
+				sizeByName.put(file.getName(), file.length());
+				totalSize += file.length();
+			}
+		}
+		evict();
+	}
+
+	private static String getFileName(String key) {
+		try {
+			MessageDigest digest = MessageDigest.getInstance("SHA-1"); //$NON-NLS-1$
+			byte[] hash = digest.digest(key.getBytes(StandardCharsets.UTF_8));
+			StringBuilder sb = new StringBuilder(hash.length * 2);
+			for (byte b : hash) {
+				sb.append(Character.forDigit((b >> 4) & 0xF, 16));
+				sb.append(Character.forDigit(b & 0xF, 16));
+			}
+			return sb.toString();
+		} catch (NoSuchAlgorithmException e) {
+			// every Java platform is required to support SHA-1
+			throw new IllegalStateException(e);
+		}
+	}
+
+	public long getMaxSize() {
+		return maxSize;
+	}
+
+	/**
+	 * Sets the maximum total size of cached content in bytes.
+	 */
+	public synchronized void setMaxSize(long maxSize) {
+		this.maxSize = maxSize;
+		if (initialized) {
+			evict();
+		}
+	}
+
+	public synchronized long getSize() {
+		initialize();
+		return totalSize;
+	}
+
+	public long getHitCount() {
+		return hitCount.get();
+	}
+
+	public long getMissCount() {
+		return missCount.get();
+	}
+
+	/**
+	 * Removes all cached content.
+	 */
+	public synchronized void clear() {
+		initialize();
+		for (String name : sizeByName.keySet()) {
+			new File(directory, name).delete();
+		}
+		sizeByName.clear();
+		totalSize = 0;
+	}
+
+	/**
+	 * Copies content to a temporary file as it is read and commits the file to the cache when the stream is closed
+	 * after all content was read.
+	 */
+	private class CachingInputStream extends FilterInputStream {
+
+		private final String name;
+
+		private final File tempFile;
+
+		private OutputStream out;
+
+		private long size;
+
+		private boolean eof;
+
+		private boolean closed;
+
+		CachingInputStream(InputStream in, String name, File tempFile) throws IOException {
+			super(in);
+			this.name = name;
+			this.tempFile = tempFile;
+			this.out = new FileOutputStream(tempFile);
+		}
+
+		@Override
+		public int read() throws IOException {
+			int b = super.read();
+			if (b == -1) {
+				eof = true;
+			} else if (out != null) {
+				write(new byte[] { (byte) b }, 0, 1);
+			}
+			return b;
+		}
+
+		@Override
+		public int read(byte[] b, int off, int len) throws IOException {
+			int n = super.read(b, off, len);
+			if (n == -1) {
+				eof = true;
+			} else if (n > 0 && out != null) {
+				write(b, off, n);
+			}
+			return n;
+		}
+
+		@Override
+		public long skip(long n) throws IOException {
+			// skipped content is not cached
+			discard();
+			return super.skip(n);
+		}
+
+		@Override
+		public boolean markSupported() {
+			return false;
+		}
+
+		private void write(byte[] b, int off, int len) {
+			size += len;
+			if (size > maxSize) {
+				// too large to cache
+				discard();
+				return;
+			}
+			try {
+				out.write(b, off, len);
+			} catch (IOException e) {
+				discard();
+			}
+		}
+
+		private void discard() {
+			if (out != null) {
+				try {
+					out.close();
+				} catch (IOException e) {
+					// ignore
+				}
+				out = null;
+				tempFile.delete();
+			}
+		}
+
+		@Override
+		public void close() throws IOException {
+			if (closed) {
+				return;
+			}
+			closed = true;
+			try {
+				super.close();
+			} finally {
+				if (out != null) {
+					boolean complete = eof;
+					try {
+						out.close();
+					} catch (IOException e) {
+						complete = false;
+					}
+					out = null;
+					if (complete) {
+						commit(name, tempFile, size);
+					} else {
+						tempFile.delete();
+					}
+				}
+			}
+		}
+
+	}
+
+}
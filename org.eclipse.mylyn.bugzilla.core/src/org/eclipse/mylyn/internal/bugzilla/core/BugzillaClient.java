@@ -20,6 +20,7 @@ import java.io.BufferedReader;
 import java.io.ByteArrayOutputStream;
 import java.io.File;
 import java.io.FileOutputStream;
+import java.io.FilterInputStream;
 import java.io.IOException;
 import java.io.InputStream;
 import java.io.InputStreamReader;
@@ -114,6 +115,10 @@ public class BugzillaClient {
 
 	protected static final String USER_AGENT = "BugzillaConnector"; //$NON-NLS-1$
 
+	/**
+	 * The initial number of bugs retrieved per request by {@link #getTaskData}, subsequent requests are sized by
+	 * {@link TaskDataBatchSizer}.
+	 */
 	public static final int MAX_RETRIEVED_PER_QUERY = 50;
 
 	private static final String QUERY_DELIMITER = "?"; //$NON-NLS-1$
@@ -198,6 +203,8 @@ public class BugzillaClient {
 
 	private BugzillaXmlRpcClient xmlRpcClient = null;
 
+	private final TaskDataBatchSizer taskDataBatchSizer = new TaskDataBatchSizer(MAX_RETRIEVED_PER_QUERY);
+
 	public BugzillaClient(AbstractWebLocation location, String characterEncoding, Map<String, String> configParameters,
 			BugzillaLanguageSettings languageSettings, BugzillaRepositoryConnector connector)
 			throws MalformedURLException {
@@ -2284,7 +2291,8 @@ public class BugzillaClient {
 
 				Set<String> idsToRetrieve = new HashSet<String>();
 				Iterator<String> itr = taskIds.iterator();
-				for (int x = 0; itr.hasNext() && x < MAX_RETRIEVED_PER_QUERY; x++) {
+				int batchSize = taskDataBatchSizer.getBatchSize();
+				for (int x = 0; itr.hasNext() && x < batchSize; x++) {
 					String taskId = itr.next();
 					String taskIdOrg = taskId;
 					// remove leading zeros
@@ -2317,6 +2325,7 @@ public class BugzillaClient {
 				}
 				formData[x++] = new NameValuePair("ctype", "xml"); //$NON-NLS-1$ //$NON-NLS-2$
 				formData[x] = new NameValuePair("excludefield", "attachmentdata"); //$NON-NLS-1$ //$NON-NLS-2$
+				long startTime = System.currentTimeMillis();
 				method = postFormData(IBugzillaConstants.URL_POST_SHOW_BUG, formData, monitor);
 				if (method == null) {
 					throw new IOException("Could not post form, client returned null method."); //$NON-NLS-1$
@@ -2327,7 +2336,7 @@ public class BugzillaClient {
 					Header responseTypeHeader = method.getResponseHeader("Content-Type"); //$NON-NLS-1$
 					for (String type : VALID_CONFIG_CONTENT_TYPES) {
 						if (responseTypeHeader.getValue().toLowerCase(Locale.ENGLISH).contains(type)) {
-							InputStream input = getResponseStream(method, monitor);
+							CountingInputStream input = new CountingInputStream(getResponseStream(method, monitor));
 							try {
 								MultiBugReportFactory factory = new MultiBugReportFactory(input, getCharacterEncoding(),
 										connector);
@@ -2336,6 +2345,8 @@ public class BugzillaClient {
 									customFields = repositoryConfiguration.getCustomFields();
 								}
 								factory.populateReport(taskDataMap, collector, mapper, customFields);
+								taskDataBatchSizer.record(idsToRetrieve.size(), input.getCount(),
+										System.currentTimeMillis() - startTime);
 								taskIds.removeAll(idsToRetrieve);
 								taskDataMap.clear();
 								parseable = true;
@@ -2372,6 +2383,52 @@ public class BugzillaClient {
 		return BugzillaCorePlugin.CONNECTOR_KIND;
 	}
 
+	/**
+	 * Returns the object that sizes and records statistics for requests made by {@link #getTaskData}.
+	 */
+	public TaskDataBatchSizer getTaskDataBatchSizer() {
+		return taskDataBatchSizer;
+	}
+
+	private static class CountingInputStream extends FilterInputStream {
+
+		private long count;
+
+		CountingInputStream(InputStream in) {
+			super(in);
+		}
+
+		@Override
+		public int read() throws IOException {
+			int b = super.read();
+			if (b != -1) {
+				count++;
+			}
+			return b;
+		}
+
+		@Override
+		public int read(byte[] b, int off, int len) throws IOException {
+			int n = super.read(b, off, len);
+			if (n > 0) {
+				count += n;
+			}
+			return n;
+		}
+
+		@Override
+		public long skip(long n) throws IOException {
+			long skipped = super.skip(n);
+			count += skipped;
+			return skipped;
+		}
+
+		long getCount() {
+			return count;
+		}
+
+	}
+
 	public String getConfigurationTimestamp(IProgressMonitor monitor) throws CoreException {
 		if (!lastModifiedSupported) {
 			return null;
@@ -2646,6 +2703,50 @@ public class BugzillaClient {
 		}
 	}
 
+	/**
+	 * Returns the current time of the repository database or <code>null</code>, if XML-RPC is not enabled for the
+	 * repository. Requires Bugzilla 3.6 or later which reports the time in UTC.
+	 */
+	public Date getRepositoryTime(IProgressMonitor monitor) throws CoreException {
+		BugzillaXmlRpcClient client = getXmlRpcClient();
+		if (client == null) {
+			return null;
+		}
+		try {
+			Date dbTime = client.getDBTime(monitor);
+			return (dbTime != null) ? BugzillaXmlRpcClient.fromUtcTime(dbTime) : null;
+		} catch (XmlRpcException e) {
+			throw new CoreException(new BugzillaStatus(IStatus.ERROR, BugzillaCorePlugin.ID_PLUGIN,
+					RepositoryStatus.ERROR_IO, repositoryUrl.toString(), e));
+		}
+	}
+
+	/**
+	 * Retrieves the last change time of tasks with one of <code>taskIds</code> that were changed at or after
+	 * <code>since</code> without retrieving task data. Requires XML-RPC and Bugzilla 4.0 or later.
+	 *
+	 * @return maps the id of each changed task to its last change time or <code>null</code>, if XML-RPC is not
+	 *         enabled for the repository
+	 */
+	public Map<String, Date> getLastChangeTimes(Collection<String> taskIds, Date since, IProgressMonitor monitor)
+			throws CoreException {
+		BugzillaXmlRpcClient client = getXmlRpcClient();
+		if (client == null) {
+			return null;
+		}
+		Integer[] ids = new Integer[taskIds.size()];
+		int i = 0;
+		for (String taskId : taskIds) {
+			ids[i++] = Integer.valueOf(taskId);
+		}
+		try {
+			return client.getLastChangeTimes(monitor, ids, since);
+		} catch (XmlRpcException e) {
+			throw new CoreException(new BugzillaStatus(IStatus.ERROR, BugzillaCorePlugin.ID_PLUGIN,
+					RepositoryStatus.ERROR_IO, repositoryUrl.toString(), e));
+		}
+	}
+
 	/**
 	 * Copies all bytes in the given source stream to the given destination stream. Neither streams are closed.
 	 *
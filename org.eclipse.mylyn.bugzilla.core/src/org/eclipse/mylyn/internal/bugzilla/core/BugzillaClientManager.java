@@ -15,7 +15,10 @@ package org.eclipse.mylyn.internal.bugzilla.core;
 
 import java.net.MalformedURLException;
 import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedList;
 import java.util.Map;
+import java.util.Set;
 
 import org.eclipse.core.runtime.CoreException;
 import org.eclipse.core.runtime.IProgressMonitor;
@@ -30,8 +33,22 @@ import org.eclipse.mylyn.tasks.core.TaskRepository;
  */
 public class BugzillaClientManager implements IRepositoryListener {
 
+	/**
+	 * Clients for concurrent requests that are not shared with other threads. Idle clients are retained so that their
+	 * session is reused by subsequent requests.
+	 */
+	private static class ClientPool {
+
+		private final LinkedList<BugzillaClient> idleClients = new LinkedList<BugzillaClient>();
+
+		private final Set<BugzillaClient> acquiredClients = new HashSet<BugzillaClient>();
+
+	}
+
 	private final Map<String, BugzillaClient> clientByUrl = new HashMap<String, BugzillaClient>();
 
+	private final Map<String, ClientPool> clientPoolByUrl = new HashMap<String, ClientPool>();
+
 	private final BugzillaRepositoryConnector connector;
 
 	public BugzillaClientManager(BugzillaRepositoryConnector connector) {
@@ -61,6 +78,48 @@ public class BugzillaClientManager implements IRepositoryListener {
 		return client;
 	}
 
+	/**
+	 * Returns a client that is used exclusively by the caller until it is passed to
+	 * {@link #releaseClient(TaskRepository, BugzillaClient)}. Unlike {@link #getClient(TaskRepository, IProgressMonitor)}
+	 * the client may be used concurrently with other clients for the same repository.
+	 */
+	public BugzillaClient acquireClient(TaskRepository taskRepository) throws CoreException {
+		BugzillaClient client;
+		synchronized (clientByUrl) {
+			ClientPool pool = clientPoolByUrl.get(taskRepository.getRepositoryUrl());
+			if (pool == null) {
+				pool = new ClientPool();
+				clientPoolByUrl.put(taskRepository.getRepositoryUrl(), pool);
+			}
+			client = pool.idleClients.poll();
+			if (client == null) {
+				try {
+					client = createClient(taskRepository);
+				} catch (MalformedURLException e) {
+					throw new CoreException(new Status(IStatus.ERROR, BugzillaCorePlugin.ID_PLUGIN,
+							"Malformed Repository Url", e)); //$NON-NLS-1$
+				}
+			}
+			pool.acquiredClients.add(client);
+			RepositoryConfiguration config = connector.getRepositoryConfiguration(taskRepository.getUrl());
+			client.setRepositoryConfiguration(config);
+		}
+		return client;
+	}
+
+	/**
+	 * Returns a client obtained from {@link #acquireClient(TaskRepository)} for reuse. The client is discarded if the
+	 * repository settings have changed in the meantime.
+	 */
+	public void releaseClient(TaskRepository taskRepository, BugzillaClient client) {
+		synchronized (clientByUrl) {
+			ClientPool pool = clientPoolByUrl.get(taskRepository.getRepositoryUrl());
+			if (pool != null && pool.acquiredClients.remove(client)) {
+				pool.idleClients.add(client);
+			}
+		}
+	}
+
 	protected BugzillaClient createClient(TaskRepository taskRepository) throws MalformedURLException {
 		return BugzillaClientFactory.createClient(taskRepository, connector);
 	}
@@ -77,6 +136,7 @@ public class BugzillaClientManager implements IRepositoryListener {
 	private void removeClient(TaskRepository repository) {
 		synchronized (clientByUrl) {
 			clientByUrl.remove(repository.getRepositoryUrl());
+			clientPoolByUrl.remove(repository.getRepositoryUrl());
 		}
 	}
 
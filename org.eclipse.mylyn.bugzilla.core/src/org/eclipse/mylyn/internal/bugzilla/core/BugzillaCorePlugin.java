@@ -70,4 +70,12 @@ public class BugzillaCorePlugin extends Plugin {
 		return configFile;
 	}
 
+	/**
+	 * Returns the path to the directory caching attachment content.
+	 */
+	IPath getAttachmentCachePath() {
+		IPath stateLocation = Platform.getStateLocation(getBundle());
+		return stateLocation.append("attachments"); //$NON-NLS-1$
+	}
+
 }
@@ -30,16 +30,28 @@ import java.util.Collection;
 import java.util.Date;
 import java.util.HashMap;
 import java.util.HashSet;
-import java.util.Iterator;
 import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.SimpleTimeZone;
+import java.util.TimeZone;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
 
 import org.eclipse.core.runtime.CoreException;
 import org.eclipse.core.runtime.IPath;
 import org.eclipse.core.runtime.IProgressMonitor;
 import org.eclipse.core.runtime.IStatus;
+import org.eclipse.core.runtime.NullProgressMonitor;
+import org.eclipse.core.runtime.OperationCanceledException;
 import org.eclipse.core.runtime.Platform;
 import org.eclipse.core.runtime.Status;
 import org.eclipse.core.runtime.SubProgressMonitor;
@@ -87,6 +99,29 @@ public class BugzillaRepositoryConnector extends AbstractRepositoryConnector {
 
 	private static final long HOUR = 1000 * 60 * 60;
 
+	/**
+	 * The maximum number of task ids sent in a single query for changed tasks. Queries are posted as form data by
+	 * {@link BugzillaClient#getSearchHits(IRepositoryQuery, TaskDataCollector, TaskAttributeMapper, IProgressMonitor)}
+	 * and are therefore not limited by the maximum length of a URL.
+	 */
+	static final int MAX_TASKS_PER_CHANGED_QUERY = 2000;
+
+	/**
+	 * The maximum number of queries for changed tasks that are executed concurrently.
+	 */
+	static final int MAX_CONCURRENT_CHANGED_QUERIES = 4;
+
+	/**
+	 * Executes queries for changed tasks for all repositories. Threads are discarded when idle.
+	 */
+	private static final ExecutorService changedQueryExecutor = createChangedQueryExecutor();
+
+	private static final long POLL_INTERVAL = 500;
+
+	private static final String CHANGE_TIME_FORMAT = "yyyy-MM-dd HH:mm:ss"; //$NON-NLS-1$
+
+	private static final long CHANGE_TIME_MARGIN = 24 * HOUR;
+
 	private final BugzillaTaskAttachmentHandler attachmentHandler = new BugzillaTaskAttachmentHandler(this);
 
 	private final BugzillaTaskDataHandler taskDataHandler = new BugzillaTaskDataHandler(this);
@@ -105,6 +140,8 @@ public class BugzillaRepositoryConnector extends AbstractRepositoryConnector {
 
 	private File repositoryConfigurationFile;
 
+	private BugzillaAttachmentCache attachmentCache;
+
 	private final Map<String, RepositoryConfiguration> repositoryConfigurations = new HashMap<String, RepositoryConfiguration>();
 
 	// A Map from Java's  Platform to Buzilla's
@@ -152,6 +189,9 @@ public class BugzillaRepositoryConnector extends AbstractRepositoryConnector {
 			BugzillaCorePlugin.getDefault().setConnector(this);
 			IPath path = BugzillaCorePlugin.getDefault().getConfigurationCachePath();
 			this.repositoryConfigurationFile = path.toFile();
+			this.attachmentCache = new BugzillaAttachmentCache(
+					BugzillaCorePlugin.getDefault().getAttachmentCachePath().toFile(),
+					BugzillaAttachmentCache.DEFAULT_MAX_SIZE);
 		}
 	}
 
@@ -169,6 +209,17 @@ public class BugzillaRepositoryConnector extends AbstractRepositoryConnector {
 		return attachmentHandler;
 	}
 
+	/**
+	 * Returns the cache for attachment content or <code>null</code>, if attachment content is not cached.
+	 */
+	public BugzillaAttachmentCache getAttachmentCache() {
+		return attachmentCache;
+	}
+
+	public void setAttachmentCache(BugzillaAttachmentCache attachmentCache) {
+		this.attachmentCache = attachmentCache;
+	}
+
 	@Override
 	public String getConnectorKind() {
 		return BugzillaCorePlugin.CONNECTOR_KIND;
@@ -297,41 +348,25 @@ public class BugzillaRepositoryConnector extends AbstractRepositoryConnector {
 			}
 
 			String urlQueryBase = repository.getRepositoryUrl() + CHANGED_BUGS_CGI_QUERY
-					+ URLEncoder.encode(dateString, repository.getCharacterEncoding()) + CHANGED_BUGS_CGI_ENDDATE;
-
-			StringBuilder urlQueryString = new StringBuilder(Math.min(30 + 9 * session.getTasks().size(), 7009));
-			urlQueryString.append(urlQueryBase + BUG_ID);
-
-			Set<ITask> changedTasks = new HashSet<ITask>();
-			Iterator<ITask> itr = session.getTasks().iterator();
-			int queryCounter = 0;
-			Set<ITask> checking = new HashSet<ITask>();
-			while (itr.hasNext()) {
-				ITask task = itr.next();
-				checking.add(task);
-				queryCounter++;
-				urlQueryString.append(URLEncoder.encode(task.getTaskId() + ",", repository.getCharacterEncoding())); //$NON-NLS-1$
-				if (urlQueryString.length() >= 7000) {
-					queryForChanged(repository, changedTasks, urlQueryString.toString(), session,
-							new SubProgressMonitor(monitor, queryCounter));
-
-					queryCounter = 0;
-					urlQueryString.setLength(0);
-					urlQueryString.append(urlQueryBase + BUG_ID);
-				}
-
-				if (!itr.hasNext() && queryCounter != 0) {
-					queryForChanged(repository, changedTasks, urlQueryString.toString(), session,
-							new SubProgressMonitor(monitor, queryCounter));
-				}
-			}
+					+ URLEncoder.encode(dateString, repository.getCharacterEncoding()) + CHANGED_BUGS_CGI_ENDDATE
+					+ BUG_ID;
 
+			Map<String, ITask> taskById = new HashMap<String, ITask>();
+			List<List<ITask>> chunks = new ArrayList<List<ITask>>();
+			List<ITask> chunk = null;
 			for (ITask task : session.getTasks()) {
-				if (changedTasks.contains(task)) {
-					session.markStale(task);
+				taskById.put(task.getTaskId(), task);
+				if (chunk == null || chunk.size() == MAX_TASKS_PER_CHANGED_QUERY) {
+					chunk = new ArrayList<ITask>();
+					chunks.add(chunk);
 				}
+				chunk.add(task);
 			}
 
+			BugzillaClient client = getClientManager().getClient(repository, new SubProgressMonitor(monitor, 0));
+			if (!queryForChangedXmlRpc(repository, client, chunks, session, monitor)) {
+				queryForChanged(repository, urlQueryBase, chunks, taskById, session, monitor);
+			}
 		} catch (UnsupportedEncodingException e) {
 			throw new CoreException(new Status(IStatus.ERROR, BugzillaCorePlugin.ID_PLUGIN,
 					"Repository configured with unsupported encoding: " + repository.getCharacterEncoding() //$NON-NLS-1$
@@ -342,38 +377,253 @@ public class BugzillaRepositoryConnector extends AbstractRepositoryConnector {
 		}
 	}
 
-	private void queryForChanged(final TaskRepository repository, Set<ITask> changedTasks, String urlQueryString,
-			ISynchronizationSession syncSession, IProgressMonitor monitor)
+	/**
+	 * Queries each chunk of tasks for changes since the last synchronization and marks changed tasks stale. Chunks are
+	 * queried concurrently by up to {@link #MAX_CONCURRENT_CHANGED_QUERIES} threads and results are processed in the
+	 * order of chunks. If a query fails, the first failure is thrown.
+	 * <p>
+	 * {@link BugzillaClient} is not thread-safe, each query uses a client that is acquired from the client manager for
+	 * exclusive use.
+	 */
+	private void queryForChanged(final TaskRepository repository, String urlQueryBase, List<List<ITask>> chunks,
+			Map<String, ITask> taskById, ISynchronizationSession syncSession, IProgressMonitor monitor)
 			throws UnsupportedEncodingException, CoreException {
+		final TaskAttributeMapper mapper = getTaskDataHandler().getAttributeMapper(repository);
+		// shared by all queries to propagate cancellation
+		final IProgressMonitor queryMonitor = new NullProgressMonitor();
+		List<Future<BugzillaTaskDataCollector>> results = new ArrayList<Future<BugzillaTaskDataCollector>>(
+				chunks.size());
+		try {
+			for (List<ITask> chunk : chunks) {
+				final IRepositoryQuery query = createChangedQuery(repository, urlQueryBase, chunk);
+				results.add(changedQueryExecutor.submit(new Callable<BugzillaTaskDataCollector>() {
+					public BugzillaTaskDataCollector call() throws Exception {
+						BugzillaClient client = getClientManager().acquireClient(repository);
+						try {
+							BugzillaTaskDataCollector collector = new BugzillaTaskDataCollector();
+							if (!client.getSearchHits(query, collector, mapper, queryMonitor)) {
+								// XXX: HACK in case of ip change bugzilla can return 0 hits
+								// due to invalid authorization token, forcing relogin fixes
+								client.logout(queryMonitor);
+								collector = new BugzillaTaskDataCollector();
+								client.getSearchHits(query, collector, mapper, queryMonitor);
+							}
+							return collector;
+						} finally {
+							getClientManager().releaseClient(repository, client);
+						}
+					}
+				}));
+			}
+
+			for (int i = 0; i < chunks.size(); i++) {
+				List<ITask> chunk = chunks.get(i);
+				BugzillaTaskDataCollector collector;
+				try {
+					collector = getChangedQueryResult(results.get(i), queryMonitor, monitor);
+				} catch (ExecutionException e) {
+					// stop the remaining queries
+					queryMonitor.setCanceled(true);
+					if (e.getCause() instanceof CoreException) {
+						throw (CoreException) e.getCause();
+					} else if (e.getCause() instanceof OperationCanceledException) {
+						throw (OperationCanceledException) e.getCause();
+					}
+					throw new CoreException(new BugzillaStatus(IStatus.ERROR, BugzillaCorePlugin.ID_PLUGIN,
+							RepositoryStatus.ERROR_IO, repository.getRepositoryUrl(), e.getCause()));
+				}
+
+				for (TaskData data : collector.getTaskData()) {
+					ITask changedTask = taskById.get(data.getTaskId());
+					if (changedTask != null) {
+						syncSession.markStale(changedTask);
+					}
+				}
+
+				if (syncSession.getData() == null && collector.getQueryTimestamp() != null) {
+					// Bugzilla 4.2 does not parse the timezone of the time stamp properly hence it needs to be
+					// persisted in server time and not local time
+					syncSession.setData(collector.getQueryTimestamp());
+				}
+				monitor.worked(chunk.size());
+			}
+		} finally {
+			// stop queries that are pending after a failure or cancellation
+			queryMonitor.setCanceled(true);
+			for (Future<BugzillaTaskDataCollector> result : results) {
+				result.cancel(true);
+			}
+		}
+	}
+
+	private static ExecutorService createChangedQueryExecutor() {
+		ThreadPoolExecutor executor = new ThreadPoolExecutor(MAX_CONCURRENT_CHANGED_QUERIES,
+				MAX_CONCURRENT_CHANGED_QUERIES, 60, TimeUnit.SECONDS, new LinkedBlockingQueue<Runnable>(),
+				new ThreadFactory() {
+					public Thread newThread(Runnable runnable) {
+						Thread thread = new Thread(runnable, "Bugzilla Changed Tasks Query"); //$NON-NLS-1$
+						thread.setDaemon(true);
+						return thread;
+					}
+				});
+		executor.allowCoreThreadTimeOut(true);
+		return executor;
+	}
 
-		HashMap<String, ITask> taskById = new HashMap<String, ITask>();
-		for (ITask task : syncSession.getTasks()) {
-			taskById.put(task.getTaskId(), task);
+	/**
+	 * Determines changed tasks through XML-RPC by comparing the last change time reported by the repository with the
+	 * last known modification time of each task. This only transfers ids and time stamps instead of the RDF listing of
+	 * changed tasks.
+	 *
+	 * @return false, if change detection through XML-RPC is not available or failed in which case no tasks have been
+	 *         marked stale
+	 */
+	private boolean queryForChangedXmlRpc(TaskRepository repository, BugzillaClient client, List<List<ITask>> chunks,
+			ISynchronizationSession syncSession, IProgressMonitor monitor) {
+		if (!Boolean.parseBoolean(repository.getProperty(IBugzillaConstants.BUGZILLA_USE_XMLRPC))) {
+			return false;
+		}
+		RepositoryConfiguration configuration = getRepositoryConfiguration(repository.getRepositoryUrl());
+		if (configuration == null || configuration.getInstallVersion() == null
+				|| configuration.getInstallVersion().compareMajorMinorOnly(BugzillaVersion.BUGZILLA_4_0) < 0) {
+			return false;
+		}
+		Date since = BugzillaAttributeMapper.parseDate(repository.getSynchronizationTimeStamp());
+		if (since == null) {
+			return false;
+		}
+		TimeZone repositoryTimeZone = getRepositoryTimeZone(chunks);
+		if (repositoryTimeZone == null) {
+			// the time stamp can not be persisted in the time zone of queries
+			return false;
+		}
+		// the repository may interpret the time in a different time zone, extend the range to avoid missing changes
+		since = new Date(since.getTime() - CHANGE_TIME_MARGIN);
+
+		try {
+			// retrieve the time before searching to avoid missing changes in the next synchronization
+			Date repositoryTime = client.getRepositoryTime(monitor);
+			List<Map<String, Date>> results = new ArrayList<Map<String, Date>>(chunks.size());
+			for (List<ITask> chunk : chunks) {
+				List<String> taskIds = new ArrayList<String>(chunk.size());
+				for (ITask task : chunk) {
+					taskIds.add(task.getTaskId());
+				}
+				Map<String, Date> lastChangeTimes = client.getLastChangeTimes(taskIds, since,
+						new SubProgressMonitor(monitor, chunk.size()));
+				if (lastChangeTimes == null) {
+					return false;
+				}
+				results.add(lastChangeTimes);
+			}
+
+			for (int i = 0; i < chunks.size(); i++) {
+				Map<String, Date> lastChangeTimes = results.get(i);
+				for (ITask task : chunks.get(i)) {
+					Date lastChangeTime = lastChangeTimes.get(task.getTaskId());
+					if (lastChangeTime != null
+							&& hasChangedSince(task.getAttribute(BugzillaAttribute.DELTA_TS.getKey()), lastChangeTime)) {
+						syncSession.markStale(task);
+					}
+				}
+			}
+
+			if (syncSession.getData() == null && repositoryTime != null) {
+				// persisted in server time consistent with the time stamp of queries, the offset of the repository time
+				// zone may have changed due to daylight saving time hence the time stamp is moved back by an hour to
+				// avoid missing changes
+				SimpleDateFormat format = new SimpleDateFormat(CHANGE_TIME_FORMAT);
+				format.setTimeZone(repositoryTimeZone);
+				syncSession.setData(format.format(new Date(repositoryTime.getTime() - HOUR)));
+			}
+			return true;
+		} catch (CoreException e) {
+			StatusHandler.log(new Status(IStatus.WARNING, BugzillaCorePlugin.ID_PLUGIN,
+					"Query for changed tasks through XML-RPC failed on " + repository.getRepositoryUrl(), e)); //$NON-NLS-1$
+			return false;
+		} catch (NumberFormatException e) {
+			// not all task ids are numeric
+			return false;
+		}
+	}
+
+	/**
+	 * Returns false, if <code>lastChangeTime</code> is the same time as the last known modification time
+	 * <code>lastKnownMod</code> of a task. Returns true, if <code>lastKnownMod</code> does not specify a time zone
+	 * since the times can not be compared in that case.
+	 */
+	public static boolean hasChangedSince(String lastKnownMod, Date lastChangeTime) {
+		if (!hasTimzone(lastKnownMod)) {
+			return true;
 		}
+		Date lastKnownModDate = BugzillaAttributeMapper.parseDate(lastKnownMod);
+		return lastKnownModDate == null || lastKnownModDate.getTime() != lastChangeTime.getTime();
+	}
 
-		BugzillaTaskDataCollector collector = new BugzillaTaskDataCollector();
+	/**
+	 * Returns the time zone of the most recent last known modification time of a task which is the time zone used by
+	 * the repository for the time stamp of queries or <code>null</code>, if no modification time specifies a time
+	 * zone.
+	 */
+	private TimeZone getRepositoryTimeZone(List<List<ITask>> chunks) {
+		String latestMod = null;
+		Date latestModDate = null;
+		for (List<ITask> chunk : chunks) {
+			for (ITask task : chunk) {
+				String lastKnownMod = task.getAttribute(BugzillaAttribute.DELTA_TS.getKey());
+				if (hasTimzone(lastKnownMod)) {
+					Date lastKnownModDate = BugzillaAttributeMapper.parseDate(lastKnownMod);
+					if (lastKnownModDate != null && (latestModDate == null || lastKnownModDate.after(latestModDate))) {
+						latestMod = lastKnownMod;
+						latestModDate = lastKnownModDate;
+					}
+				}
+			}
+		}
+		if (latestMod == null) {
+			return null;
+		}
+		// the offset is the difference between the date and time of day read as UTC and the actual time
+		SimpleDateFormat format = new SimpleDateFormat(CHANGE_TIME_FORMAT);
+		format.setTimeZone(TimeZone.getTimeZone("UTC")); //$NON-NLS-1$
+		try {
+			long offset = format.parse(latestMod).getTime() - latestModDate.getTime();
+			return new SimpleTimeZone((int) offset, "Repository"); //$NON-NLS-1$
+		} catch (ParseException e) {
+			return null;
+		}
+	}
+
+	private IRepositoryQuery createChangedQuery(TaskRepository repository, String urlQueryBase, List<ITask> tasks)
+			throws UnsupportedEncodingException {
+		StringBuilder urlQueryString = new StringBuilder(urlQueryBase.length() + 9 * tasks.size());
+		urlQueryString.append(urlQueryBase);
+		for (ITask task : tasks) {
+			urlQueryString.append(URLEncoder.encode(task.getTaskId() + ",", repository.getCharacterEncoding())); //$NON-NLS-1$
+		}
 
 		// TODO: Decouple from internals
 		IRepositoryQuery query = new RepositoryQuery(repository.getConnectorKind(), ""); //$NON-NLS-1$
 		query.setSummary(Messages.BugzillaRepositoryConnector_Query_for_changed_tasks);
-		query.setUrl(urlQueryString);
-		performQuery(repository, query, collector, syncSession, monitor);
-		for (TaskData data : collector.getTaskData()) {
-			ITask changedTask = taskById.get(data.getTaskId());
-			if (changedTask != null) {
-				changedTasks.add(changedTask);
-			}
-		}
+		query.setUrl(urlQueryString.toString());
+		return query;
+	}
 
-		if (syncSession.getData() == null && collector.getQueryTimestamp() != null) {
-			// Bugzilla 4.2 does not parse the timezone of the time stamp properly hence it needs to be persisted in
-			// server time and not local time
-			syncSession.setData(collector.getQueryTimestamp());
-//			Date queryDate = BugzillaAttributeMapper.parseDate(collector.getQueryTimestamp());
-//			if (queryDate != null) {
-//				// Ensure time is in right format
-//				syncSession.setData(new SimpleDateFormat(TIMESTAMP_WITH_OFFSET).format(queryDate));
-//			}
+	private BugzillaTaskDataCollector getChangedQueryResult(Future<BugzillaTaskDataCollector> result,
+			IProgressMonitor queryMonitor, IProgressMonitor monitor) throws ExecutionException {
+		while (true) {
+			if (monitor.isCanceled()) {
+				queryMonitor.setCanceled(true);
+				throw new OperationCanceledException();
+			}
+			try {
+				return result.get(POLL_INTERVAL, TimeUnit.MILLISECONDS);
+			} catch (TimeoutException e) {
+				// check for cancellation
+			} catch (InterruptedException e) {
+				queryMonitor.setCanceled(true);
+				throw new OperationCanceledException();
+			}
 		}
 	}
 
@@ -596,7 +846,7 @@ public class BugzillaRepositoryConnector extends AbstractRepositoryConnector {
 		return true;
 	}
 
-	private boolean hasTimzone(String dateString) {
+	private static boolean hasTimzone(String dateString) {
 		if (dateString == null || dateString.length() == 0) {
 			return false;
 		}
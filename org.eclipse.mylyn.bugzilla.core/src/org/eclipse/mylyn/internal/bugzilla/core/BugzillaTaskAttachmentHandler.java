@@ -61,8 +61,24 @@ public class BugzillaTaskAttachmentHandler extends AbstractTaskAttachmentHandler
 		try {
 			monitor.beginTask(Messages.BugzillaTaskAttachmentHandler_Getting_attachment, IProgressMonitor.UNKNOWN);
 			TaskAttachmentMapper attachment = TaskAttachmentMapper.createFrom(attachmentAttribute);
+			BugzillaAttachmentCache cache = connector.getAttachmentCache();
+			String key = (cache != null)
+					? BugzillaAttachmentCache.getKey(repository.getRepositoryUrl(), attachment.getAttachmentId(),
+							attachment.getLength(), attachment.getCreationDate())
+					: null;
+			if (key != null) {
+				InputStream in = cache.get(key);
+				if (in != null) {
+					return in;
+				}
+			}
+
 			client = connector.getClientManager().getClient(repository, monitor);
-			return client.getAttachmentData(attachment.getAttachmentId(), monitor);
+			InputStream in = client.getAttachmentData(attachment.getAttachmentId(), monitor);
+			if (key != null) {
+				return cache.put(key, in);
+			}
+			return in;
 		} catch (IOException e) {
 			throw new CoreException(new Status(IStatus.ERROR, BugzillaCorePlugin.ID_PLUGIN,
 					"Unable to retrieve attachment", e)); //$NON-NLS-1$
@@ -46,7 +46,39 @@ public class SaxMultiBugReportContentHandler extends DefaultHandler {
 
 	private static final String ID_STRING_END = ")"; //$NON-NLS-1$
 
-	private StringBuffer characters;
+	/**
+	 * Maps element names to attributes. Element names are usually the lower case name of the attribute, other names are
+	 * resolved through {@link #TAG_BY_NAME}.
+	 */
+	private static final Map<String, BugzillaAttribute> TAG_BY_ELEMENT_NAME = new HashMap<String, BugzillaAttribute>();
+
+	private static final Map<String, BugzillaAttribute> TAG_BY_NAME = new HashMap<String, BugzillaAttribute>();
+
+	static {
+		for (BugzillaAttribute attribute : BugzillaAttribute.values()) {
+			TAG_BY_ELEMENT_NAME.put(attribute.name().toLowerCase(Locale.ENGLISH), attribute);
+			TAG_BY_NAME.put(attribute.name(), attribute);
+		}
+	}
+
+	private static final ThreadLocal<SimpleDateFormat> simpleFormatter = new ThreadLocal<SimpleDateFormat>() {
+		@Override
+		protected SimpleDateFormat initialValue() {
+			return new SimpleDateFormat("yyyy-MM-dd HH:mm"); //$NON-NLS-1$
+		}
+	};
+
+	private static final ThreadLocal<SimpleDateFormat> simpleFormatter_deltaTS = new ThreadLocal<SimpleDateFormat>() {
+		@Override
+		protected SimpleDateFormat initialValue() {
+			return new SimpleDateFormat("yyyy-MM-dd HH:mm:ss"); //$NON-NLS-1$
+		}
+	};
+
+	/**
+	 * The text of the current element, the builder is reused across elements to avoid allocating a buffer for each.
+	 */
+	private final StringBuilder characters = new StringBuilder();
 
 	private TaskComment taskComment;
 
@@ -64,7 +96,7 @@ public class SaxMultiBugReportContentHandler extends DefaultHandler {
 
 	private String errorMessage = null;
 
-	private final List<BugzillaCustomField> customFields;
+	private final Map<String, BugzillaCustomField> customFieldByName;
 
 	private final TaskDataCollector collector;
 
@@ -86,10 +118,6 @@ public class SaxMultiBugReportContentHandler extends DefaultHandler {
 
 	private final TaskAttributeMapper mapper;
 
-	private final SimpleDateFormat simpleFormatter = new SimpleDateFormat("yyyy-MM-dd HH:mm"); //$NON-NLS-1$
-
-	private final SimpleDateFormat simpleFormatter_deltaTS = new SimpleDateFormat("yyyy-MM-dd HH:mm:ss"); //$NON-NLS-1$
-
 	private String bugIDValue;
 
 	public SaxMultiBugReportContentHandler(TaskAttributeMapper mapper, TaskDataCollector collector,
@@ -97,7 +125,13 @@ public class SaxMultiBugReportContentHandler extends DefaultHandler {
 			BugzillaRepositoryConnector connector) {
 		this.mapper = mapper;
 		this.taskDataMap = taskDataMap;
-		this.customFields = customFields;
+		this.customFieldByName = new HashMap<String, BugzillaCustomField>();
+		for (BugzillaCustomField customField : customFields) {
+			// retain the first field like a linear search would
+			if (!customFieldByName.containsKey(customField.getName())) {
+				customFieldByName.put(customField.getName(), customField);
+			}
+		}
 		this.collector = collector;
 		this.connector = connector;
 		TaskRepository taskRepository = mapper.getTaskRepository();
@@ -119,21 +153,24 @@ public class SaxMultiBugReportContentHandler extends DefaultHandler {
 		//System.err.println(String.copyValueOf(ch, start, length));
 	}
 
+	private static BugzillaAttribute getTag(String localName) {
+		BugzillaAttribute tag = TAG_BY_ELEMENT_NAME.get(localName);
+		if (tag == null) {
+			tag = TAG_BY_NAME.get(localName.trim().toUpperCase(Locale.ENGLISH));
+		}
+		return tag;
+	}
+
 	@Override
 	public void startElement(String uri, String localName, String qName, Attributes attributes) throws SAXException {
-		characters = new StringBuffer();
-		BugzillaAttribute tag = BugzillaAttribute.UNKNOWN;
+		characters.setLength(0);
 		if (localName.startsWith(BugzillaCustomField.CUSTOM_FIELD_PREFIX)) {
 			return;
 		}
-		try {
-			tag = BugzillaAttribute.valueOf(localName.trim().toUpperCase(Locale.ENGLISH));
-		} catch (RuntimeException e) {
-			if (e instanceof IllegalArgumentException) {
-				// ignore unrecognized tags
-				return;
-			}
-			throw e;
+		BugzillaAttribute tag = getTag(localName);
+		if (tag == null) {
+			// ignore unrecognized tags
+			return;
 		}
 		switch (tag) {
 		case BUGZILLA:
@@ -246,23 +283,18 @@ public class SaxMultiBugReportContentHandler extends DefaultHandler {
 	public void endElement(String uri, String localName, String qName) throws SAXException {
 
 		//remove whitespaces from the end of the parsed Text
-		while (characters.length() > 0 && Character.isWhitespace(characters.charAt(characters.length() - 1))) {
-			characters.setLength(characters.length() - 1);
+		int end = characters.length();
+		while (end > 0 && Character.isWhitespace(characters.charAt(end - 1))) {
+			end--;
 		}
 
-		String parsedText = characters.toString();
+		String parsedText = characters.substring(0, end);
 
 		if (localName.startsWith(BugzillaCustomField.CUSTOM_FIELD_PREFIX)) {
 			TaskAttribute endAttribute = repositoryTaskData.getRoot().getAttribute(localName);
 			if (endAttribute == null) {
 				String desc = "???"; //$NON-NLS-1$
-				BugzillaCustomField customField = null;
-				for (BugzillaCustomField bugzillaCustomField : customFields) {
-					if (localName.equals(bugzillaCustomField.getName())) {
-						customField = bugzillaCustomField;
-						break;
-					}
-				}
+				BugzillaCustomField customField = customFieldByName.get(localName);
 				if (customField != null) {
 					TaskAttribute atr = repositoryTaskData.getRoot().createAttribute(localName);
 					desc = customField.getDescription();
@@ -302,15 +334,10 @@ public class SaxMultiBugReportContentHandler extends DefaultHandler {
 			}
 		}
 
-		BugzillaAttribute tag = BugzillaAttribute.UNKNOWN;
-		try {
-			tag = BugzillaAttribute.valueOf(localName.trim().toUpperCase(Locale.ENGLISH));
-		} catch (RuntimeException e) {
-			if (e instanceof IllegalArgumentException) {
-				// ignore unrecognized tags
-				return;
-			}
-			throw e;
+		BugzillaAttribute tag = getTag(localName);
+		if (tag == null) {
+			// ignore unrecognized tags
+			return;
 		}
 		switch (tag) {
 		case BUG_ID: {
@@ -378,7 +405,7 @@ public class SaxMultiBugReportContentHandler extends DefaultHandler {
 		case DATE:
 			if (attachment != null) {
 				try {
-					attachment.setCreationDate(simpleFormatter.parse(parsedText));
+					attachment.setCreationDate(simpleFormatter.get().parse(parsedText));
 					break;
 				} catch (ParseException e) {
 				} catch (NumberFormatException e) {
@@ -406,7 +433,7 @@ public class SaxMultiBugReportContentHandler extends DefaultHandler {
 				try {
 					if (parsedText != null) {
 						try {
-							attachment.setDeltaDate(simpleFormatter_deltaTS.parse(parsedText));
+							attachment.setDeltaDate(simpleFormatter_deltaTS.get().parse(parsedText));
 						} catch (ParseException e) {
 						}
 					}
@@ -0,0 +1,128 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Tasktop Technologies and others.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * https://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Tasktop Technologies - initial API and implementation
+ *******************************************************************************/
+
+package org.eclipse.mylyn.internal.bugzilla.core;
+
+/**
+ * Adapts the number of bugs that {@link BugzillaClient} retrieves per request to the size of responses and the latency
+ * of a repository. The next batch is sized so that it is expected to transfer about {@link #TARGET_BYTES} and to
+ * complete within {@link #TARGET_MILLIS}, bounded by {@link #MIN_BATCH_SIZE} and {@link #MAX_BATCH_SIZE}. The size
+ * and time per bug are tracked as moving averages that favor recent batches and the batch size at most doubles from
+ * one batch to the next.
+ * <p>
+ * Also records statistics about the retrieved batches.
+ */
+public class TaskDataBatchSizer {
+
+	public static final int MIN_BATCH_SIZE = 5;
+
+	public static final int MAX_BATCH_SIZE = 200;
+
+	static final long TARGET_BYTES = 4 * 1024 * 1024;
+
+	static final long TARGET_MILLIS = 10 * 1000;
+
+	/**
+	 * The weight of the most recent batch in the moving averages.
+	 */
+	private static final double WEIGHT = 0.5;
+
+	private int batchSize;
+
+	private double bytesPerBug = -1;
+
+	private double millisPerBug = -1;
+
+	private int batchCount;
+
+	private long bugCount;
+
+	private long totalBytes;
+
+	private long totalMillis;
+
+	private long maxMillis;
+
+	public TaskDataBatchSizer(int initialBatchSize) {
+		this.batchSize = clamp(initialBatchSize);
+	}
+
+	/**
+	 * Returns the number of bugs to retrieve with the next request.
+	 */
+	public synchronized int getBatchSize() {
+		return batchSize;
+	}
+
+	/**
+	 * Records a completed batch and adjusts the size of the next batch.
+	 *
+	 * @param bugs
+	 *            the number of bugs retrieved
+	 * @param bytes
+	 *            the size of the response
+	 * @param millis
+	 *            the time it took to retrieve and process the response
+	 */
+	public synchronized void record(int bugs, long bytes, long millis) {
+		if (bugs <= 0) {
+			return;
+		}
+		batchCount++;
+		bugCount += bugs;
+		totalBytes += bytes;
+		totalMillis += millis;
+		maxMillis = Math.max(maxMillis, millis);
+
+		bytesPerBug = average(bytesPerBug, (double) bytes / bugs);
+		millisPerBug = average(millisPerBug, (double) millis / bugs);
+
+		double size = Math.min(TARGET_BYTES / Math.max(bytesPerBug, 1), TARGET_MILLIS / Math.max(millisPerBug, 1));
+		batchSize = clamp((int) Math.min(size, 2L * batchSize));
+	}
+
+	private static double average(double average, double value) {
+		return (average < 0) ? value : WEIGHT * value + (1 - WEIGHT) * average;
+	}
+
+	private static int clamp(int size) {
+		return Math.max(MIN_BATCH_SIZE, Math.min(MAX_BATCH_SIZE, size));
+	}
+
+	public synchronized int getBatchCount() {
+		return batchCount;
+	}
+
+	public synchronized long getBugCount() {
+		return bugCount;
+	}
+
+	public synchronized long getTotalBytes() {
+		return totalBytes;
+	}
+
+	public synchronized long getTotalMillis() {
+		return totalMillis;
+	}
+
+	public synchronized long getMaxMillis() {
+		return maxMillis;
+	}
+
+	@Override
+	public synchronized String toString() {
+		return "batchSize=" + batchSize + ", batches=" + batchCount + ", bugs=" + bugCount + ", bytes=" + totalBytes //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$ //$NON-NLS-4$
+				+ ", time=" + totalMillis + "ms, maxTime=" + maxMillis + "ms"; //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$
+	}
+
+}
@@ -18,6 +18,7 @@ import java.text.NumberFormat;
 import java.text.ParseException;
 import java.text.SimpleDateFormat;
 import java.util.ArrayList;
+import java.util.Calendar;
 import java.util.Collections;
 import java.util.Date;
 import java.util.HashMap;
@@ -27,6 +28,7 @@ import java.util.List;
 import java.util.Locale;
 import java.util.Map;
 import java.util.Set;
+import java.util.TimeZone;
 
 import org.apache.commons.httpclient.HttpClient;
 import org.apache.xmlrpc.XmlRpcException;
@@ -81,6 +83,8 @@ public class BugzillaXmlRpcClient extends CommonXmlRpcClient {
 
 	public static final String XML_BUG_HISTORY = "Bug.history"; //$NON-NLS-1$
 
+	public static final String XML_BUG_SEARCH = "Bug.search"; //$NON-NLS-1$
+
 	public static final String XML_PRODUCT_GET_SELECTABLE = "Product.get_selectable_products"; //$NON-NLS-1$
 
 	public static final String XML_PRODUCT_GET_ENTERABLE = "Product.get_enterable_products"; //$NON-NLS-1$
@@ -108,6 +112,12 @@ public class BugzillaXmlRpcClient extends CommonXmlRpcClient {
 
 	public static final String XML_PARAMETER_EXCLUDE_FIELDS = "exclude_fields"; //$NON-NLS-1$
 
+	public static final String XML_PARAMETER_INCLUDE_FIELDS = "include_fields"; //$NON-NLS-1$
+
+	public static final String XML_PARAMETER_ID = "id"; //$NON-NLS-1$
+
+	public static final String XML_PARAMETER_LAST_CHANGE_TIME = "last_change_time"; //$NON-NLS-1$
+
 	public static final String XML_PARAMETER_TOKEN = "Bugzilla_token"; //$NON-NLS-1$
 
 	/*
@@ -138,6 +148,8 @@ public class BugzillaXmlRpcClient extends CommonXmlRpcClient {
 
 	public static final String XML_RESPONSE_TOKEN = "token"; //$NON-NLS-1$
 
+	public static final String XML_RESPONSE_LAST_CHANGE_TIME = "last_change_time"; //$NON-NLS-1$
+
 	/*
 	 * Fields
 	 *
@@ -616,6 +628,81 @@ public class BugzillaXmlRpcClient extends CommonXmlRpcClient {
 		}).execute();
 	}
 
+	/**
+	 * Searches for bugs with one of <code>ids</code> that were changed at or after <code>since</code>. Only the id and
+	 * last change time of matching bugs are retrieved. Requires Bugzilla 4.0 or later.
+	 *
+	 * @return maps the id of each matching bug to its last change time, converted from UTC
+	 * @see #fromUtcTime(Date)
+	 */
+	public Map<String, Date> getLastChangeTimes(final IProgressMonitor monitor, final Object[] ids, final Date since)
+			throws XmlRpcException {
+		return (new BugzillaXmlRpcOperation<Map<String, Date>>(this) {
+			@SuppressWarnings("serial")
+			@Override
+			public Map<String, Date> execute() throws XmlRpcException {
+				HashMap<?, ?> response = (HashMap<?, ?>) call(monitor, XML_BUG_SEARCH,
+						new Object[] { new HashMap<String, Object>() {
+							{
+								put(XML_PARAMETER_ID, ids);
+								put(XML_PARAMETER_LAST_CHANGE_TIME, toUtcTime(since));
+								put(XML_PARAMETER_INCLUDE_FIELDS,
+										new String[] { XML_RESPONSE_ID, XML_RESPONSE_LAST_CHANGE_TIME });
+								if (token != null) {
+									put(XML_PARAMETER_TOKEN, token);
+								}
+							}
+						} });
+				Object[] bugs = response2ObjectArray(response, XML_RESPONSE_BUGS);
+				Map<String, Date> result = new HashMap<String, Date>();
+				if (bugs != null) {
+					for (Object item : bugs) {
+						Map<?, ?> bug = (Map<?, ?>) item;
+						Object id = bug.get(XML_RESPONSE_ID);
+						Object lastChangeTime = bug.get(XML_RESPONSE_LAST_CHANGE_TIME);
+						if (id != null && lastChangeTime instanceof Date) {
+							result.put(id.toString(), fromUtcTime((Date) lastChangeTime));
+						}
+					}
+				}
+				return result;
+			}
+		}).execute();
+	}
+
+	/**
+	 * Returns the time that a time in UTC returned by Bugzilla 3.6 or later represents. XML-RPC times do not specify a
+	 * time zone and are parsed in the default time zone.
+	 */
+	public static Date fromUtcTime(Date utcTime) {
+		return convertTimeZone(utcTime, TimeZone.getDefault(), TimeZone.getTimeZone("UTC")); //$NON-NLS-1$
+	}
+
+	/**
+	 * Returns the representation of <code>date</code> that Bugzilla 3.6 or later interprets as the same time in UTC
+	 * when sent through XML-RPC.
+	 *
+	 * @see #fromUtcTime(Date)
+	 */
+	public static Date toUtcTime(Date date) {
+		return convertTimeZone(date, TimeZone.getTimeZone("UTC"), TimeZone.getDefault()); //$NON-NLS-1$
+	}
+
+	/**
+	 * Returns the time in <code>to</code> that has the same date and time of day as <code>date</code> in
+	 * <code>from</code>.
+	 */
+	private static Date convertTimeZone(Date date, TimeZone from, TimeZone to) {
+		Calendar source = Calendar.getInstance(from);
+		source.setTime(date);
+		Calendar target = Calendar.getInstance(to);
+		target.clear();
+		target.set(source.get(Calendar.YEAR), source.get(Calendar.MONTH), source.get(Calendar.DAY_OF_MONTH),
+				source.get(Calendar.HOUR_OF_DAY), source.get(Calendar.MINUTE), source.get(Calendar.SECOND));
+		target.set(Calendar.MILLISECOND, source.get(Calendar.MILLISECOND));
+		return target.getTime();
+	}
+
 	public HashMap<String, HashMap<String, Object[]>> getCommentsInternal(final IProgressMonitor monitor,
 			final Object[] ids) throws XmlRpcException {
 		return (new BugzillaXmlRpcOperation<HashMap<String, HashMap<String, Object[]>>>(this) {
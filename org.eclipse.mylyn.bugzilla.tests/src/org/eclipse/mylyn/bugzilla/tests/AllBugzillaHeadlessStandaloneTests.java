@@ -19,8 +19,10 @@ import java.util.List;
 import junit.framework.Test;
 import junit.framework.TestSuite;
 
+import org.eclipse.mylyn.bugzilla.tests.core.BugzillaAttachmentCacheTest;
 import org.eclipse.mylyn.bugzilla.tests.core.BugzillaAttributeMapperTest;
 import org.eclipse.mylyn.bugzilla.tests.core.BugzillaAttributeTest;
+import org.eclipse.mylyn.bugzilla.tests.core.BugzillaClientManagerTest;
 import org.eclipse.mylyn.bugzilla.tests.core.BugzillaClientTest;
 import org.eclipse.mylyn.bugzilla.tests.core.BugzillaConfigurationTest;
 import org.eclipse.mylyn.bugzilla.tests.core.BugzillaCustomFieldsTest;
@@ -31,6 +33,7 @@ import org.eclipse.mylyn.bugzilla.tests.core.BugzillaTaskCompletionTest;
 import org.eclipse.mylyn.bugzilla.tests.core.BugzillaUtilTest;
 import org.eclipse.mylyn.bugzilla.tests.core.BugzillaVersionTest;
 import org.eclipse.mylyn.bugzilla.tests.core.RepositoryConfigurationTest;
+import org.eclipse.mylyn.bugzilla.tests.core.TaskDataBatchSizerTest;
 import org.eclipse.mylyn.bugzilla.tests.support.BugzillaFixture;
 import org.eclipse.mylyn.commons.sdk.util.TestConfiguration;
 import org.eclipse.mylyn.internal.bugzilla.core.BugzillaVersion;
@@ -50,6 +53,9 @@ public class AllBugzillaHeadlessStandaloneTests {
 		TestSuite suite = new TestSuite(AllBugzillaHeadlessStandaloneTests.class.getName());
 		suite.addTestSuite(BugzillaConfigurationTest.class);
 		suite.addTestSuite(BugzillaVersionTest.class);
+		suite.addTestSuite(TaskDataBatchSizerTest.class);
+		suite.addTestSuite(BugzillaAttachmentCacheTest.class);
+		suite.addTestSuite(BugzillaClientManagerTest.class);
 		suite.addTestSuite(BugzillaDateTimeTests.class);
 		suite.addTestSuite(BugzillaAttributeMapperTest.class);
 		suite.addTestSuite(BugzillaAttributeTest.class);
@@ -0,0 +1,129 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Tasktop Technologies and others.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * https://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Tasktop Technologies - initial API and implementation
+ *******************************************************************************/
+
+package org.eclipse.mylyn.bugzilla.tests.core;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.Date;
+
+import junit.framework.TestCase;
+
+import org.eclipse.mylyn.internal.bugzilla.core.BugzillaAttachmentCache;
+
+public class BugzillaAttachmentCacheTest extends TestCase {
+
+	private File directory;
+
+	private BugzillaAttachmentCache cache;
+
+	@Override
+	protected void setUp() throws Exception {
+		directory = File.createTempFile("attachments", null);
+		directory.delete();
+		cache = new BugzillaAttachmentCache(directory, 100);
+	}
+
+	@Override
+	protected void tearDown() throws Exception {
+		cache.clear();
+		directory.delete();
+	}
+
+	public void testGetKey() {
+		assertNull(BugzillaAttachmentCache.getKey("http://repository", "1", null, null));
+		assertNotNull(BugzillaAttachmentCache.getKey("http://repository", "1", 10L, null));
+		assertNotNull(BugzillaAttachmentCache.getKey("http://repository", "1", null, new Date()));
+		assertFalse(BugzillaAttachmentCache.getKey("http://repository", "1", 10L, null)
+				.equals(BugzillaAttachmentCache.getKey("http://repository", "1", 11L, null)));
+	}
+
+	public void testPutGet() throws Exception {
+		assertNull(cache.get("key"));
+		assertEquals(1, cache.getMissCount());
+
+		assertEquals("content", read(cache.put("key", stream("content"))));
+		assertEquals("content", read(cache.get("key")));
+		assertEquals(1, cache.getHitCount());
+		assertEquals(7, cache.getSize());
+	}
+
+	public void testEvictLeastRecentlyUsed() throws Exception {
+		read(cache.put("a", stream(40)));
+		read(cache.put("b", stream(40)));
+		read(cache.get("a"));
+		read(cache.put("c", stream(40)));
+		assertEquals(80, cache.getSize());
+		assertNotNull(cache.get("a"));
+		assertNull(cache.get("b"));
+		assertNotNull(cache.get("c"));
+	}
+
+	public void testPutTooLarge() throws Exception {
+		assertEquals(101, read(cache.put("key", stream(101))).length());
+		assertEquals(0, cache.getSize());
+		assertNull(cache.get("key"));
+		assertEquals(0, directory.list().length);
+	}
+
+	public void testPutNotReadCompletely() throws Exception {
+		InputStream in = cache.put("key", stream("content"));
+		assertEquals('c', in.read());
+		in.close();
+		assertEquals(0, cache.getSize());
+		assertNull(cache.get("key"));
+		assertEquals(0, directory.list().length);
+	}
+
+	public void testSetMaxSize() throws Exception {
+		read(cache.put("a", stream(40)));
+		read(cache.put("b", stream(40)));
+		cache.setMaxSize(50);
+		assertEquals(40, cache.getSize());
+		assertNull(cache.get("a"));
+		assertNotNull(cache.get("b"));
+	}
+
+	public void testReadIndex() throws Exception {
+		read(cache.put("key", stream("content")));
+		cache = new BugzillaAttachmentCache(directory, 100);
+		assertEquals(7, cache.getSize());
+		assertEquals("content", read(cache.get("key")));
+	}
+
+	private InputStream stream(String content) {
+		return new ByteArrayInputStream(content.getBytes());
+	}
+
+	private InputStream stream(int size) {
+		return new ByteArrayInputStream(new byte[size]);
+	}
+
+	private String read(InputStream in) throws IOException {
+		try {
+			ByteArrayOutputStream out = new ByteArrayOutputStream();
+			byte[] buffer = new byte[1024];
+			int n;
+			while ((n = in.read(buffer)) != -1) {
+				out.write(buffer, 0, n);
+			}
+			return out.toString();
+		} finally {
+			in.close();
+		}
+	}
+
+}
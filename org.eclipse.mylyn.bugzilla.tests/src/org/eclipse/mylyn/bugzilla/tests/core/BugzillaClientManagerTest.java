@@ -0,0 +1,64 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Tasktop Technologies and others.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * https://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Tasktop Technologies - initial API and implementation
+ *******************************************************************************/
+
+package org.eclipse.mylyn.bugzilla.tests.core;
+
+import junit.framework.TestCase;
+
+import org.eclipse.mylyn.internal.bugzilla.core.BugzillaClient;
+import org.eclipse.mylyn.internal.bugzilla.core.BugzillaClientManager;
+import org.eclipse.mylyn.internal.bugzilla.core.BugzillaCorePlugin;
+import org.eclipse.mylyn.internal.bugzilla.core.BugzillaRepositoryConnector;
+import org.eclipse.mylyn.internal.bugzilla.core.RepositoryConfiguration;
+import org.eclipse.mylyn.tasks.core.TaskRepository;
+
+public class BugzillaClientManagerTest extends TestCase {
+
+	private BugzillaClientManager manager;
+
+	private TaskRepository repository;
+
+	@Override
+	protected void setUp() throws Exception {
+		BugzillaRepositoryConnector connector = new BugzillaRepositoryConnector() {
+			@Override
+			public RepositoryConfiguration getRepositoryConfiguration(String repositoryUrl) {
+				return null;
+			}
+		};
+		manager = new BugzillaClientManager(connector);
+		repository = new TaskRepository(BugzillaCorePlugin.CONNECTOR_KIND, "http://localhost/bugzilla");
+	}
+
+	public void testAcquireClientExclusive() throws Exception {
+		BugzillaClient client1 = manager.acquireClient(repository);
+		BugzillaClient client2 = manager.acquireClient(repository);
+		assertNotSame(client1, client2);
+		assertNotSame(manager.getClient(repository, null), client1);
+		assertNotSame(manager.getClient(repository, null), client2);
+	}
+
+	public void testReleaseClientReused() throws Exception {
+		BugzillaClient client = manager.acquireClient(repository);
+		manager.releaseClient(repository, client);
+		assertSame(client, manager.acquireClient(repository));
+	}
+
+	public void testReleaseClientDiscardedAfterSettingsChanged() throws Exception {
+		BugzillaClient client = manager.acquireClient(repository);
+		manager.repositorySettingsChanged(repository);
+		manager.releaseClient(repository, client);
+		assertNotSame(client, manager.acquireClient(repository));
+	}
+
+}
@@ -15,6 +15,7 @@
 
 package org.eclipse.mylyn.bugzilla.tests.core;
 
+import java.text.SimpleDateFormat;
 import java.util.Date;
 import java.util.HashMap;
 import java.util.HashSet;
@@ -30,10 +31,12 @@ import org.eclipse.mylyn.commons.net.AuthenticationCredentials;
 import org.eclipse.mylyn.commons.net.AuthenticationType;
 import org.eclipse.mylyn.commons.sdk.util.CommonTestUtil.PrivilegeLevel;
 import org.eclipse.mylyn.internal.bugzilla.core.BugzillaAttribute;
+import org.eclipse.mylyn.internal.bugzilla.core.BugzillaAttributeMapper;
 import org.eclipse.mylyn.internal.bugzilla.core.BugzillaClient;
 import org.eclipse.mylyn.internal.bugzilla.core.BugzillaRepositoryConnector;
 import org.eclipse.mylyn.internal.bugzilla.core.BugzillaVersion;
 import org.eclipse.mylyn.internal.bugzilla.core.RepositoryConfiguration;
+import org.eclipse.mylyn.internal.bugzilla.core.service.BugzillaXmlRpcClient;
 import org.eclipse.mylyn.internal.tasks.core.AbstractTask;
 import org.eclipse.mylyn.internal.tasks.core.RepositoryQuery;
 import org.eclipse.mylyn.internal.tasks.core.TaskTask;
@@ -144,6 +147,31 @@ public class BugzillaRepositoryConnectorStandaloneTest extends TestCase {
 
 	}
 
+	public void testHasChangedSince() {
+		Date lastChangeTime = BugzillaAttributeMapper.parseDate("2009-09-04 07:00:00 +0000");
+
+		// same time reported in different time zones
+		assertFalse(BugzillaRepositoryConnector.hasChangedSince("2009-09-04 00:00:00 PDT", lastChangeTime));
+		assertFalse(BugzillaRepositoryConnector.hasChangedSince("2009-09-04 09:00:00 +0200", lastChangeTime));
+
+		// same date and time of day in a different time zone
+		assertTrue(BugzillaRepositoryConnector.hasChangedSince("2009-09-04 07:00:00 PDT", lastChangeTime));
+
+		// different time
+		assertTrue(BugzillaRepositoryConnector.hasChangedSince("2009-09-04 00:00:01 PDT", lastChangeTime));
+
+		// no time zone or unknown modification time
+		assertTrue(BugzillaRepositoryConnector.hasChangedSince("2009-09-04 07:00:00", lastChangeTime));
+		assertTrue(BugzillaRepositoryConnector.hasChangedSince(null, lastChangeTime));
+	}
+
+	public void testUtcTime() {
+		Date date = BugzillaAttributeMapper.parseDate("2009-09-04 00:00:00 PDT");
+		Date utcTime = BugzillaXmlRpcClient.toUtcTime(date);
+		assertEquals("2009-09-04 07:00:00", new SimpleDateFormat("yyyy-MM-dd HH:mm:ss").format(utcTime));
+		assertEquals(date, BugzillaXmlRpcClient.fromUtcTime(utcTime));
+	}
+
 	/**
 	 * This is the first test so that the repository credentials are correctly set for the other tests
 	 */
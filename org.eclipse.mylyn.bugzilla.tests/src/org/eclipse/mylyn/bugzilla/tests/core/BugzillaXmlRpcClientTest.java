@@ -14,6 +14,7 @@
 package org.eclipse.mylyn.bugzilla.tests.core;
 
 import java.util.ArrayList;
+import java.util.Date;
 import java.util.HashMap;
 import java.util.HashSet;
 import java.util.List;
@@ -34,6 +35,7 @@ import org.eclipse.mylyn.commons.net.WebLocation;
 import org.eclipse.mylyn.internal.bugzilla.core.AbstractBugzillaOperation;
 import org.eclipse.mylyn.internal.bugzilla.core.BugzillaAttribute;
 import org.eclipse.mylyn.internal.bugzilla.core.BugzillaAttributeMapper;
+import org.eclipse.mylyn.internal.bugzilla.core.BugzillaRepositoryConnector;
 import org.eclipse.mylyn.internal.bugzilla.core.BugzillaVersion;
 import org.eclipse.mylyn.internal.bugzilla.core.CustomTransitionManager;
 import org.eclipse.mylyn.internal.bugzilla.core.RepositoryConfiguration;
@@ -453,6 +455,33 @@ public class BugzillaXmlRpcClientTest extends AbstractBugzillaTest {
 		}
 	}
 
+	public void testGetLastChangeTimes() throws Exception {
+		if (!BugzillaFixture.current().isXmlRpcEnabled()
+				|| BugzillaFixture.current().getBugzillaVersion().isSmaller(BugzillaVersion.BUGZILLA_4_0)) {
+			return;
+		}
+		String taskId = harness.taskXmlRpcExists();
+		if (taskId == null) {
+			taskId = harness.createXmlRpcTask();
+		}
+		String lastKnownMod = BugzillaFixture.current()
+				.getTask(taskId, client)
+				.getRoot()
+				.getAttribute(BugzillaAttribute.DELTA_TS.getKey())
+				.getValue();
+		Date lastModified = BugzillaAttributeMapper.parseDate(lastKnownMod);
+		assertNotNull(lastModified);
+
+		Map<String, Date> lastChangeTimes = bugzillaClient.getLastChangeTimes(new NullProgressMonitor(),
+				new Object[] { Integer.valueOf(taskId) }, new Date(lastModified.getTime() - 1000));
+		assertEquals(lastModified, lastChangeTimes.get(taskId));
+		assertFalse(BugzillaRepositoryConnector.hasChangedSince(lastKnownMod, lastChangeTimes.get(taskId)));
+
+		lastChangeTimes = bugzillaClient.getLastChangeTimes(new NullProgressMonitor(),
+				new Object[] { Integer.valueOf(taskId) }, new Date(lastModified.getTime() + 1000));
+		assertFalse(lastChangeTimes.containsKey(taskId));
+	}
+
 	public void testXmlRpcBugGet() throws Exception {
 		if (!BugzillaFixture.current().isXmlRpcEnabled()) {
 			return;
@@ -0,0 +1,61 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Tasktop Technologies and others.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * https://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Tasktop Technologies - initial API and implementation
+ *******************************************************************************/
+
+package org.eclipse.mylyn.bugzilla.tests.core;
+
+import junit.framework.TestCase;
+
+import org.eclipse.mylyn.internal.bugzilla.core.TaskDataBatchSizer;
+
+public class TaskDataBatchSizerTest extends TestCase {
+
+	public void testInitialBatchSize() {
+		assertEquals(50, new TaskDataBatchSizer(50).getBatchSize());
+		assertEquals(TaskDataBatchSizer.MIN_BATCH_SIZE, new TaskDataBatchSizer(0).getBatchSize());
+		assertEquals(TaskDataBatchSizer.MAX_BATCH_SIZE, new TaskDataBatchSizer(1000).getBatchSize());
+	}
+
+	public void testGrowsForSmallFastBugs() {
+		TaskDataBatchSizer sizer = new TaskDataBatchSizer(50);
+		sizer.record(50, 50 * 1024, 500);
+		assertEquals(100, sizer.getBatchSize());
+		sizer.record(100, 100 * 1024, 1000);
+		assertEquals(TaskDataBatchSizer.MAX_BATCH_SIZE, sizer.getBatchSize());
+	}
+
+	public void testShrinksForLargeBugs() {
+		TaskDataBatchSizer sizer = new TaskDataBatchSizer(50);
+		sizer.record(1, 8 * 1024 * 1024, 2000);
+		assertEquals(TaskDataBatchSizer.MIN_BATCH_SIZE, sizer.getBatchSize());
+	}
+
+	public void testShrinksForSlowRepository() {
+		TaskDataBatchSizer sizer = new TaskDataBatchSizer(50);
+		sizer.record(50, 50 * 1024, 50 * 1000);
+		assertEquals(10, sizer.getBatchSize());
+	}
+
+	public void testStatistics() {
+		TaskDataBatchSizer sizer = new TaskDataBatchSizer(50);
+		sizer.record(0, 100, 100);
+		assertEquals(0, sizer.getBatchCount());
+		sizer.record(10, 1000, 300);
+		sizer.record(20, 3000, 100);
+		assertEquals(2, sizer.getBatchCount());
+		assertEquals(30, sizer.getBugCount());
+		assertEquals(4000, sizer.getTotalBytes());
+		assertEquals(400, sizer.getTotalMillis());
+		assertEquals(300, sizer.getMaxMillis());
+	}
+
+}
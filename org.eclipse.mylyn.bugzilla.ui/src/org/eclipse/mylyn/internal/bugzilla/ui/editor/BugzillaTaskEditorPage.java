@@ -421,6 +421,12 @@ public class BugzillaTaskEditorPage extends AbstractTaskEditorPage {
 		return model;
 	}
 
+	@Override
+	protected boolean canCreateModelInBackground() {
+		// createModel() only registers a model listener
+		return true;
+	}
+
 	/**
 	 * @since 3.1
 	 */
@@ -0,0 +1,108 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Tasktop Technologies and others.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * https://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Tasktop Technologies - initial API and implementation
+ *******************************************************************************/
+
+package org.eclipse.mylyn.internal.jira.core.client;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Date;
+
+import org.eclipse.mylyn.internal.jira.core.model.JiraComponent;
+import org.eclipse.mylyn.internal.jira.core.model.JiraMilestone;
+import org.eclipse.mylyn.internal.jira.core.model.JiraPriority;
+import org.eclipse.mylyn.internal.jira.core.model.JiraTicketField;
+import org.eclipse.mylyn.internal.jira.core.model.JiraVersion;
+import org.junit.Test;
+
+public class JiraClientDataSerializerTest {
+
+	@Test
+	public void testRoundTrip() throws Exception {
+		JiraClientData data = new JiraClientData();
+		data.lastUpdate = 123;
+		data.lastFullUpdate = 456;
+		data.attributeHashes.put("ticket.milestone", 789);
+
+		JiraComponent component = new JiraComponent("component");
+		component.setOwner("owner");
+		data.components = Collections.singletonList(component);
+
+		JiraMilestone milestone = new JiraMilestone("milestone \u00e4");
+		milestone.setDue(new Date(1000));
+		milestone.setDescription("description");
+		data.milestones = Collections.singletonList(milestone);
+
+		data.priorities = new ArrayList<JiraPriority>();
+		data.priorities.add(new JiraPriority("major", 2));
+
+		JiraTicketField field = new JiraTicketField("field");
+		field.setType(JiraTicketField.Type.SELECT);
+		field.setOptions(new String[] { "a", null, "c" });
+		field.setCustom(true);
+		field.setOrder(3);
+		data.ticketFields = Collections.singletonList(field);
+
+		data.versions = Collections.singletonList(new JiraVersion("1.0"));
+
+		JiraClientData result = JiraClientDataSerializer.decode(JiraClientDataSerializer.encode(data));
+		assertEquals(123, result.lastUpdate);
+		assertEquals(456, result.lastFullUpdate);
+		assertEquals(Integer.valueOf(789), result.attributeHashes.get("ticket.milestone"));
+
+		assertEquals("component", result.components.get(0).getName());
+		assertEquals("owner", result.components.get(0).getOwner());
+		assertNull(result.components.get(0).getDescription());
+
+		assertEquals("milestone \u00e4", result.milestones.get(0).getName());
+		assertEquals(new Date(1000), result.milestones.get(0).getDue());
+		assertNull(result.milestones.get(0).getCompleted());
+		assertEquals("description", result.milestones.get(0).getDescription());
+
+		assertEquals(data.priorities, result.priorities);
+
+		JiraTicketField resultField = result.ticketFields.get(0);
+		assertEquals("field", resultField.getName());
+		assertEquals(JiraTicketField.Type.SELECT, resultField.getType());
+		assertArrayEquals(new String[] { "a", null, "c" }, resultField.getOptions());
+		assertEquals(true, resultField.isCustom());
+		assertEquals(3, resultField.getOrder());
+		assertEquals(JiraTicketField.DEFAULT_SIZE, resultField.getWidth());
+
+		assertEquals("1.0", result.versions.get(0).getName());
+		assertNull(result.severities);
+		assertNull(result.ticketStatus);
+	}
+
+	@Test(expected = IOException.class)
+	public void testDecodeUnsupportedVersion() throws Exception {
+		byte[] bytes = JiraClientDataSerializer.encode(new JiraClientData());
+		bytes[3] = (byte) (JiraClientDataSerializer.FORMAT_VERSION + 1);
+		JiraClientDataSerializer.decode(bytes);
+	}
+
+	@Test(expected = IOException.class)
+	public void testDecodeTruncated() throws Exception {
+		JiraClientData data = new JiraClientData();
+		data.versions = Collections.singletonList(new JiraVersion("1.0"));
+		byte[] bytes = JiraClientDataSerializer.encode(data);
+		byte[] truncated = new byte[bytes.length - 2];
+		System.arraycopy(bytes, 0, truncated, 0, truncated.length);
+		JiraClientDataSerializer.decode(truncated);
+	}
+
+}
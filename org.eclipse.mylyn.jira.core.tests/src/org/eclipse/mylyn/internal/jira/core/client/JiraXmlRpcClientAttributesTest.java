@@ -0,0 +1,134 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Tasktop Technologies and others.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * https://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Tasktop Technologies - initial API and implementation
+ *******************************************************************************/
+
+package org.eclipse.mylyn.internal.jira.core.client;
+
+import static org.junit.Assert.assertEquals;
+
+import java.util.Date;
+import java.util.HashMap;
+import java.util.Map;
+
+import org.eclipse.core.runtime.IProgressMonitor;
+import org.eclipse.core.runtime.NullProgressMonitor;
+import org.eclipse.mylyn.commons.net.WebLocation;
+import org.eclipse.mylyn.internal.jira.core.client.IJiraClient.Version;
+import org.junit.Before;
+import org.junit.Test;
+
+public class JiraXmlRpcClientAttributesTest {
+
+	private static class StubClient extends JiraXmlRpcClient {
+
+		private Date due = new Date(1000);
+
+		private int milestoneRequests;
+
+		private String[] priorities = { "major" };
+
+		private int priorityRequests;
+
+		public StubClient() {
+			super(new WebLocation("http://localhost"), Version.XML_RPC);
+		}
+
+		@Override
+		Object call(IProgressMonitor monitor, String method, Object... parameters) throws JiraException {
+			if ("system.getAPIVersion".equals(method)) {
+				return new Object[] { 1, 2, 0 };
+			}
+			assertEquals("system.multicall", method);
+			Map<?, ?>[] calls = (Map<?, ?>[]) parameters[0];
+			Object[] result = new Object[calls.length];
+			for (int i = 0; i < calls.length; i++) {
+				result[i] = new Object[] { respond((String) calls[i].get("methodName")) };
+			}
+			return result;
+		}
+
+		private Object respond(String methodName) {
+			if ("ticket.milestone.getAll".equals(methodName)) {
+				return new Object[] { "m1" };
+			} else if ("ticket.milestone.get".equals(methodName)) {
+				milestoneRequests++;
+				Map<String, Object> milestone = new HashMap<String, Object>();
+				milestone.put("name", "m1");
+				milestone.put("due", due);
+				milestone.put("completed", 0);
+				milestone.put("description", "");
+				return milestone;
+			} else if ("ticket.priority.getAll".equals(methodName)) {
+				return priorities;
+			} else if ("ticket.priority.get".equals(methodName)) {
+				priorityRequests++;
+				return String.valueOf(priorityRequests);
+			}
+			// no values for other attribute types and ticket fields
+			return new Object[0];
+		}
+
+	}
+
+	private StubClient client;
+
+	@Before
+	public void setUp() throws Exception {
+		client = new StubClient();
+		client.updateAttributes(new NullProgressMonitor(), true);
+		assertEquals(new Date(1000), client.getMilestones()[0].getDue());
+		assertEquals(1, client.milestoneRequests);
+		assertEquals(1, client.priorityRequests);
+	}
+
+	@Test
+	public void testForcedUpdateRetrievesChangedDetails() throws Exception {
+		client.due = new Date(2000);
+		client.updateAttributes(new NullProgressMonitor(), true);
+		assertEquals(2, client.milestoneRequests);
+		assertEquals(new Date(2000), client.getMilestones()[0].getDue());
+	}
+
+	@Test
+	public void testRefreshRetrievesMilestoneDetails() throws Exception {
+		client.due = new Date(2000);
+		client.refreshAttributes(new NullProgressMonitor());
+		assertEquals(2, client.milestoneRequests);
+		assertEquals(new Date(2000), client.getMilestones()[0].getDue());
+	}
+
+	@Test
+	public void testRefreshSkipsUnchangedPriorities() throws Exception {
+		client.refreshAttributes(new NullProgressMonitor());
+		assertEquals(1, client.priorityRequests);
+		assertEquals("major", client.getPriorities()[0].getName());
+	}
+
+	@Test
+	public void testRefreshRetrievesChangedPriorities() throws Exception {
+		client.priorities = new String[] { "major", "minor" };
+		client.refreshAttributes(new NullProgressMonitor());
+		assertEquals(3, client.priorityRequests);
+		assertEquals(2, client.getPriorities().length);
+	}
+
+	@Test
+	public void testRefreshRetrievesDetailsAfterFullUpdateInterval() throws Exception {
+		client.data.lastFullUpdate = System.currentTimeMillis() - JiraXmlRpcClient.FULL_ATTRIBUTE_UPDATE_INTERVAL - 1;
+		client.due = new Date(2000);
+		client.refreshAttributes(new NullProgressMonitor());
+		assertEquals(2, client.milestoneRequests);
+		assertEquals(new Date(2000), client.getMilestones()[0].getDue());
+		assertEquals(2, client.priorityRequests);
+	}
+
+}
@@ -0,0 +1,111 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Tasktop Technologies and others.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * https://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Tasktop Technologies - initial API and implementation
+ *******************************************************************************/
+
+package org.eclipse.mylyn.internal.jira.core.client;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Date;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.eclipse.core.runtime.IProgressMonitor;
+import org.eclipse.core.runtime.NullProgressMonitor;
+import org.eclipse.mylyn.commons.net.WebLocation;
+import org.eclipse.mylyn.internal.jira.core.client.IJiraClient.Version;
+import org.eclipse.mylyn.internal.jira.core.model.JiraSearch;
+import org.eclipse.mylyn.internal.jira.core.model.JiraTicket;
+import org.junit.Before;
+import org.junit.Test;
+
+public class JiraXmlRpcClientSearchTest {
+
+	private static class StubClient extends JiraXmlRpcClient {
+
+		private final AtomicInteger multicalls = new AtomicInteger();
+
+		private volatile IProgressMonitor searchMonitor;
+
+		public StubClient() {
+			super(new WebLocation("http://localhost"), Version.XML_RPC);
+		}
+
+		@Override
+		Object call(IProgressMonitor monitor, String method, Object... parameters) throws JiraException {
+			if ("system.getAPIVersion".equals(method)) {
+				return new Object[] { 1, 2, 0 };
+			} else if ("ticket.query".equals(method)) {
+				return new Object[] { 1, 2, 3, 4, 5, 6, 7, 8, 9, 10 };
+			}
+			assertEquals("system.multicall", method);
+			assertNotSame(searchMonitor, monitor);
+			multicalls.incrementAndGet();
+			Map<?, ?>[] calls = (Map<?, ?>[]) parameters[0];
+			Object[] result = new Object[calls.length];
+			for (int i = 0; i < calls.length; i++) {
+				Object id = ((Object[]) calls[i].get("params"))[0];
+				result[i] = new Object[] { new Object[] { id, new Date(0), new Date(0), Collections.emptyMap() } };
+			}
+			return result;
+		}
+
+	}
+
+	private StubClient client;
+
+	private NullProgressMonitor monitor;
+
+	@Before
+	public void setUp() throws Exception {
+		client = new StubClient();
+		client.setMaxTicketsPerMulticall(2);
+		monitor = new NullProgressMonitor();
+		client.searchMonitor = monitor;
+	}
+
+	@Test
+	public void testSearch() throws Exception {
+		List<JiraTicket> tickets = new ArrayList<JiraTicket>();
+		client.search(new JiraSearch(), tickets, monitor);
+		assertEquals(10, tickets.size());
+		assertEquals(1, tickets.get(0).getId());
+		assertEquals(10, tickets.get(9).getId());
+		assertEquals(5, client.multicalls.get());
+	}
+
+	@Test
+	public void testSearchAbortedByCollector() throws Exception {
+		final JiraException abort = new JiraException();
+		try {
+			client.search(new JiraSearch(), new JiraTicketCollector() {
+				@Override
+				public void accept(JiraTicket ticket) throws JiraException {
+					throw abort;
+				}
+			}, monitor);
+			fail("Expected JiraException");
+		} catch (JiraException e) {
+			assertSame(abort, e);
+		}
+		// the first chunk and at most one prefetched chunk
+		assertTrue(client.multicalls.get() <= 2);
+	}
+
+}
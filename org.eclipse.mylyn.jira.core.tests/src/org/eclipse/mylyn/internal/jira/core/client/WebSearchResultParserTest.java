@@ -14,9 +14,13 @@
 package org.eclipse.mylyn.internal.jira.core.client;
 
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
 
 import java.io.BufferedReader;
 import java.io.StringReader;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
 
 import org.eclipse.mylyn.internal.jira.core.model.JiraTicket;
 import org.eclipse.mylyn.internal.jira.core.model.JiraTicket.Key;
@@ -60,4 +64,62 @@ public class WebSearchResultParserTest {
 		assertEquals(null, ticket.getValue(Key.VERSION));
 	}
 
+	@Test
+	public void testParseTrailingEmptyValue() throws Exception {
+		String input = "id\tsummary\tmilestone\towner\n";
+		input += "7\tsummary\t\t\n";
+		parser.parse(new BufferedReader(new StringReader(input)));
+		JiraTicket ticket = parser.getTickets().get(0);
+		assertEquals(7, ticket.getId());
+		assertEquals("summary", ticket.getValue(Key.SUMMARY));
+		assertEquals("", ticket.getValue(Key.MILESTONE));
+		assertEquals(null, ticket.getValue(Key.OWNER));
+	}
+
+	@Test
+	public void testParseCollector() throws Exception {
+		final List<Integer> ids = new ArrayList<Integer>();
+		WebSearchResultParser parser = new WebSearchResultParser(new JiraTicketCollector() {
+			@Override
+			public void accept(JiraTicket ticket) {
+				ids.add(ticket.getId());
+			}
+		});
+		parser.parse(new BufferedReader(new StringReader(createInput(20000))));
+		assertEquals(20000, ids.size());
+		assertEquals(Integer.valueOf(1), ids.get(0));
+		assertEquals(Integer.valueOf(20000), ids.get(19999));
+		assertTrue(parser.getTickets().isEmpty());
+	}
+
+	@Test
+	public void testParseIds() throws Exception {
+		String input = "\ufeffsummary\tid\towner\n";
+		input += "first\t12\tuser\n";
+		input += "\t13\n";
+		input += "third\tinvalid\tuser\n";
+		input += "fourth\n";
+		input += "fifth\t14";
+		List<Integer> ids = new ArrayList<Integer>();
+		parser.parseIds(new BufferedReader(new StringReader(input)), ids);
+		assertEquals(Arrays.asList(12, 13, 14), ids);
+		assertTrue(parser.getTickets().isEmpty());
+	}
+
+	@Test
+	public void testParseIdsLarge() throws Exception {
+		List<Integer> ids = new ArrayList<Integer>();
+		parser.parseIds(new BufferedReader(new StringReader(createInput(20000))), ids);
+		assertEquals(20000, ids.size());
+		assertEquals(Integer.valueOf(20000), ids.get(19999));
+	}
+
+	private String createInput(int rows) {
+		StringBuilder sb = new StringBuilder("id\tsummary\tmilestone\towner\ttype\tstatus\tpriority\n");
+		for (int i = 1; i <= rows; i++) {
+			sb.append(i).append("\tsummary ").append(i).append("\tmilestone1\t\tdefect\tnew\tmajor\n");
+		}
+		return sb.toString();
+	}
+
 }
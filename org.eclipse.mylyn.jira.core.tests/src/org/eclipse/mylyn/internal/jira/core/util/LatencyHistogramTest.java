@@ -0,0 +1,56 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Tasktop Technologies and others.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * https://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Tasktop Technologies - initial API and implementation
+ *******************************************************************************/
+
+package org.eclipse.mylyn.internal.jira.core.util;
+
+import static org.junit.Assert.assertEquals;
+
+import org.junit.Test;
+
+public class LatencyHistogramTest {
+
+	private final LatencyHistogram histogram = new LatencyHistogram();
+
+	@Test
+	public void testGetBucket() {
+		assertEquals(0, LatencyHistogram.getBucket(0));
+		assertEquals(0, LatencyHistogram.getBucket(1));
+		assertEquals(1, LatencyHistogram.getBucket(2));
+		assertEquals(2, LatencyHistogram.getBucket(3));
+		assertEquals(2, LatencyHistogram.getBucket(4));
+		assertEquals(3, LatencyHistogram.getBucket(5));
+		assertEquals(LatencyHistogram.BUCKET_COUNT - 1, LatencyHistogram.getBucket(Long.MAX_VALUE));
+	}
+
+	@Test
+	public void testEmpty() {
+		assertEquals(0, histogram.getCount());
+		assertEquals(0, histogram.getMean());
+		assertEquals(0, histogram.getPercentile(99));
+	}
+
+	@Test
+	public void testRecord() {
+		for (int i = 0; i < 9; i++) {
+			histogram.record(10);
+		}
+		histogram.record(1000);
+		assertEquals(10, histogram.getCount());
+		assertEquals(109, histogram.getMean());
+		assertEquals(1000, histogram.getMax());
+		assertEquals(16, histogram.getPercentile(50));
+		assertEquals(16, histogram.getPercentile(90));
+		assertEquals(1000, histogram.getPercentile(99));
+	}
+
+}
@@ -13,14 +13,18 @@
 
 package org.eclipse.mylyn.internal.jira.core;
 
+import java.io.BufferedInputStream;
 import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
 import java.io.File;
 import java.io.FileInputStream;
 import java.io.FileOutputStream;
 import java.io.IOException;
-import java.io.ObjectInputStream;
-import java.io.ObjectOutputStream;
+import java.nio.file.Files;
+import java.nio.file.StandardCopyOption;
 import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.Map;
 
 import org.eclipse.core.runtime.IStatus;
@@ -29,6 +33,7 @@ import org.eclipse.mylyn.commons.core.StatusHandler;
 import org.eclipse.mylyn.commons.net.AbstractWebLocation;
 import org.eclipse.mylyn.internal.jira.core.client.IJiraClient;
 import org.eclipse.mylyn.internal.jira.core.client.JiraClientData;
+import org.eclipse.mylyn.internal.jira.core.client.JiraClientDataSerializer;
 import org.eclipse.mylyn.internal.jira.core.client.IJiraClient.Version;
 import org.eclipse.mylyn.tasks.core.IRepositoryListener;
 import org.eclipse.mylyn.tasks.core.TaskRepository;
@@ -36,15 +41,29 @@ import org.eclipse.mylyn.tasks.core.TaskRepositoryLocationFactory;
 
 /**
  * Caches {@link IJiraClient} objects.
+ * <p>
+ * Repository attributes are persisted in a cache file that stores the encoded attributes of each repository
+ * separately. The file is read when a client is first requested and attributes are only decoded for repositories
+ * that are accessed. Cache files that were written in a different format are discarded and the attributes are
+ * retrieved from the repository again.
  *
  * @author Steffen Pingel
  */
 public class JiraClientManager implements IRepositoryListener {
 
+	private static final int CACHE_MAGIC = 0x4A434443;
+
 	private final Map<String, IJiraClient> clientByUrl = new HashMap<String, IJiraClient>();
 
 	private final Map<String, JiraClientData> clientDataByUrl = new HashMap<String, JiraClientData>();
 
+	/**
+	 * Encoded attributes read from the cache file that have not been decoded yet.
+	 */
+	private final Map<String, byte[]> encodedDataByUrl = new HashMap<String, byte[]>();
+
+	private boolean cacheRead;
+
 	private final File cacheFile;
 
 	private volatile TaskRepositoryLocationFactory taskRepositoryLocationFactory;
@@ -52,8 +71,6 @@ public class JiraClientManager implements IRepositoryListener {
 	public JiraClientManager(File cacheFile, TaskRepositoryLocationFactory taskRepositoryLocationFactory) {
 		this.cacheFile = cacheFile;
 		this.taskRepositoryLocationFactory = taskRepositoryLocationFactory;
-
-		readCache();
 	}
 
 	public synchronized IJiraClient getJiraClient(TaskRepository taskRepository) {
@@ -63,7 +80,7 @@ public class JiraClientManager implements IRepositoryListener {
 			repository = JiraClientFactory.createClient(location, Version.fromVersion(taskRepository.getVersion()));
 			clientByUrl.put(taskRepository.getRepositoryUrl(), repository);
 
-			JiraClientData data = clientDataByUrl.get(taskRepository.getRepositoryUrl());
+			JiraClientData data = getClientData(taskRepository.getRepositoryUrl());
 			if (data == null) {
 				data = new JiraClientData();
 				clientDataByUrl.put(taskRepository.getRepositoryUrl(), data);
@@ -73,6 +90,31 @@ public class JiraClientManager implements IRepositoryListener {
 		return repository;
 	}
 
+	private JiraClientData getClientData(String url) {
+		ensureCacheRead();
+		JiraClientData data = clientDataByUrl.get(url);
+		if (data == null) {
+			byte[] bytes = encodedDataByUrl.remove(url);
+			if (bytes != null) {
+				try {
+					data = JiraClientDataSerializer.decode(bytes);
+					clientDataByUrl.put(url, data);
+				} catch (IOException e) {
+					StatusHandler.log(new Status(IStatus.WARNING, JiraCorePlugin.ID_PLUGIN,
+							"The Jira respository configuration cache for " + url + " could not be read", e)); //$NON-NLS-1$ //$NON-NLS-2$
+				}
+			}
+		}
+		return data;
+	}
+
+	private void ensureCacheRead() {
+		if (!cacheRead) {
+			cacheRead = true;
+			readCache();
+		}
+	}
+
 	public void repositoriesRead() {
 		// ignore
 	}
@@ -80,20 +122,37 @@ public class JiraClientManager implements IRepositoryListener {
 	public synchronized void repositoryAdded(TaskRepository repository) {
 		// make sure there is no stale client still in the cache, bug #149939
 		removeClient(repository);
-		clientDataByUrl.remove(repository.getRepositoryUrl());
+		removeClientData(repository.getRepositoryUrl());
 	}
 
 	public synchronized void clearClients() {
+		updateClientData();
 		clientByUrl.clear();
 	}
 
+	private void removeClientData(String url) {
+		ensureCacheRead();
+		clientDataByUrl.remove(url);
+		encodedDataByUrl.remove(url);
+	}
+
+	private void updateClientData() {
+		for (Map.Entry<String, IJiraClient> entry : clientByUrl.entrySet()) {
+			clientDataByUrl.put(entry.getKey(), entry.getValue().getData());
+		}
+	}
+
 	private synchronized void removeClient(TaskRepository repository) {
-		clientByUrl.remove(repository.getRepositoryUrl());
+		IJiraClient client = clientByUrl.remove(repository.getRepositoryUrl());
+		if (client != null) {
+			// clients replace the data object when attributes are updated
+			clientDataByUrl.put(repository.getRepositoryUrl(), client.getData());
+		}
 	}
 
 	public synchronized void repositoryRemoved(TaskRepository repository) {
 		removeClient(repository);
-		clientDataByUrl.remove(repository.getRepositoryUrl());
+		removeClientData(repository.getRepositoryUrl());
 	}
 
 	public synchronized void repositorySettingsChanged(TaskRepository repository) {
@@ -102,49 +161,71 @@ public class JiraClientManager implements IRepositoryListener {
 		// clientDataByUrl, bug #149939
 	}
 
+	/**
+	 * Reads the encoded attributes of all repositories from the cache file. Attributes are decoded when the client for
+	 * a repository is first requested.
+	 */
 	public synchronized void readCache() {
+		cacheRead = true;
 		if (cacheFile == null || !cacheFile.exists()) {
 			return;
 		}
 
-		ObjectInputStream in = null;
-		try {
-			in = new ObjectInputStream(new FileInputStream(cacheFile));
+		try (DataInputStream in = new DataInputStream(new BufferedInputStream(new FileInputStream(cacheFile)))) {
+			if (cacheFile.length() < 8 || in.readInt() != CACHE_MAGIC
+					|| in.readInt() != JiraClientDataSerializer.FORMAT_VERSION) {
+				// the cache was written by a previous version, attributes will be retrieved from the repository
+				return;
+			}
 			int size = in.readInt();
 			for (int i = 0; i < size; i++) {
-				String url = (String) in.readObject();
-				JiraClientData data = (JiraClientData) in.readObject();
-				if (url != null && data != null) {
-					clientDataByUrl.put(url, data);
+				String url = in.readUTF();
+				byte[] bytes = new byte[in.readInt()];
+				in.readFully(bytes);
+				if (!clientDataByUrl.containsKey(url)) {
+					encodedDataByUrl.put(url, bytes);
 				}
 			}
 		} catch (Throwable e) {
 			StatusHandler.log(new Status(IStatus.WARNING, JiraCorePlugin.ID_PLUGIN,
 					"The Jira respository configuration cache could not be read", e)); //$NON-NLS-1$
-		} finally {
-			if (in != null) {
-				try {
-					in.close();
-				} catch (IOException e) {
-					// ignore
-				}
-			}
 		}
-
 	}
 
 	public synchronized void writeCache() {
 		if (cacheFile == null) {
 			return;
 		}
-		try (ObjectOutputStream out = new ObjectOutputStream(
-				new BufferedOutputStream(new FileOutputStream(cacheFile)))) {
-			out.writeInt(clientDataByUrl.size());
-			for (String url : clientDataByUrl.keySet()) {
-				out.writeObject(url);
-				out.writeObject(clientDataByUrl.get(url));
+		ensureCacheRead();
+		updateClientData();
+
+		Map<String, byte[]> entries = new LinkedHashMap<String, byte[]>(encodedDataByUrl);
+		for (Map.Entry<String, JiraClientData> entry : clientDataByUrl.entrySet()) {
+			try {
+				entries.put(entry.getKey(), JiraClientDataSerializer.encode(entry.getValue()));
+			} catch (IOException e) {
+				StatusHandler.log(new Status(IStatus.WARNING, JiraCorePlugin.ID_PLUGIN,
+						"The Jira respository configuration for " + entry.getKey() + " could not be encoded", e)); //$NON-NLS-1$ //$NON-NLS-2$
+			}
+		}
+
+		File tempFile = new File(cacheFile.getPath() + ".tmp"); //$NON-NLS-1$
+		try {
+			try (DataOutputStream out = new DataOutputStream(
+					new BufferedOutputStream(new FileOutputStream(tempFile)))) {
+				out.writeInt(CACHE_MAGIC);
+				out.writeInt(JiraClientDataSerializer.FORMAT_VERSION);
+				out.writeInt(entries.size());
+				for (Map.Entry<String, byte[]> entry : entries.entrySet()) {
+					out.writeUTF(entry.getKey());
+					out.writeInt(entry.getValue().length);
+					out.write(entry.getValue());
+				}
 			}
+			// replace the previous cache only once the complete cache has been written
+			Files.move(tempFile.toPath(), cacheFile.toPath(), StandardCopyOption.REPLACE_EXISTING);
 		} catch (IOException e) {
+			tempFile.delete();
 			StatusHandler.log(new Status(IStatus.WARNING, JiraCorePlugin.ID_PLUGIN,
 					"The Jira respository configuration cache could not be written", e)); //$NON-NLS-1$
 		}
@@ -38,6 +38,7 @@ import org.eclipse.mylyn.internal.jira.core.client.AbstractWikiHandler;
 import org.eclipse.mylyn.internal.jira.core.client.IJiraClient;
 import org.eclipse.mylyn.internal.jira.core.client.IJiraWikiClient;
 import org.eclipse.mylyn.internal.jira.core.client.JiraException;
+import org.eclipse.mylyn.internal.jira.core.client.JiraTicketCollector;
 import org.eclipse.mylyn.internal.jira.core.client.IJiraClient.Version;
 import org.eclipse.mylyn.internal.jira.core.model.JiraTicket;
 import org.eclipse.mylyn.internal.jira.core.model.JiraComment;
@@ -448,8 +449,9 @@ public class JiraRepositoryConnector extends AbstractRepositoryConnector {
 	}
 
 	@Override
-	public IStatus performQuery(TaskRepository repository, IRepositoryQuery query, TaskDataCollector resultCollector,
-			ISynchronizationSession session, IProgressMonitor monitor) {
+	public IStatus performQuery(final TaskRepository repository, IRepositoryQuery query,
+			final TaskDataCollector resultCollector, final ISynchronizationSession session,
+			final IProgressMonitor monitor) {
 		try {
 			monitor.beginTask(Messages.JiraRepositoryConnector_Querying_repository, IProgressMonitor.UNKNOWN);
 
@@ -488,27 +490,41 @@ public class JiraRepositoryConnector extends AbstractRepositoryConnector {
 						resultCollector.accept(taskData);
 					}
 				} else {
-					List<JiraTicket> tickets = new ArrayList<JiraTicket>();
-					client.search(search, tickets, monitor);
-
-					for (JiraTicket ticket : tickets) {
-						TaskData taskData = taskDataHandler.createTaskDataFromTicket(client, repository, ticket,
-								monitor);
-						taskData.setPartial(true);
-						if (session != null && !session.isFullSynchronization() && hasRichEditor(repository)) {
-							if (taskById == null) {
-								taskById = new HashMap<String, ITask>();
-								for (ITask task : session.getTasks()) {
-									taskById.put(task.getTaskId(), task);
+					final IJiraClient searchClient = client;
+					final Map<String, ITask> tasksById = new HashMap<String, ITask>();
+					if (session != null && !session.isFullSynchronization() && hasRichEditor(repository)) {
+						for (ITask task : session.getTasks()) {
+							tasksById.put(task.getTaskId(), task);
+						}
+					}
+					final CoreException[] collectionException = new CoreException[1];
+					// tickets are converted as they are received to avoid holding the complete result in memory
+					try {
+						client.search(search, new JiraTicketCollector() {
+							@Override
+							public void accept(JiraTicket ticket) throws JiraException {
+								try {
+									TaskData taskData = taskDataHandler.createTaskDataFromTicket(searchClient,
+											repository, ticket, monitor);
+									taskData.setPartial(true);
+									// preSyncronization() only handles full synchronizations
+									ITask task = tasksById.get(ticket.getId() + ""); //$NON-NLS-1$
+									if (task != null && hasTaskChanged(repository, task, taskData)) {
+										session.markStale(task);
+									}
+									resultCollector.accept(taskData);
+								} catch (CoreException e) {
+									// abort the search to avoid retrieving the remaining tickets
+									collectionException[0] = e;
+									throw new JiraException(e);
 								}
 							}
-							// preSyncronization() only handles full synchronizations
-							ITask task = taskById.get(ticket.getId() + ""); //$NON-NLS-1$
-							if (task != null && hasTaskChanged(repository, task, taskData)) {
-								session.markStale(task);
-							}
+						}, monitor);
+					} catch (JiraException e) {
+						if (collectionException[0] != null) {
+							return collectionException[0].getStatus();
 						}
-						resultCollector.accept(taskData);
+						throw e;
 					}
 				}
 			} catch (OperationCanceledException e) {
@@ -646,8 +662,27 @@ public class JiraRepositoryConnector extends AbstractRepositoryConnector {
 		}
 	}
 
+	@Override
+	public boolean isRepositoryConfigurationStale(TaskRepository repository, IProgressMonitor monitor)
+			throws CoreException {
+		if (super.isRepositoryConfigurationStale(repository, monitor)) {
+			// invoked periodically by synchronization, only retrieve details that are likely to have changed
+			try {
+				IJiraClient client = getClientManager().getJiraClient(repository);
+				client.refreshAttributes(monitor);
+			} catch (OperationCanceledException e) {
+				throw e;
+			} catch (Throwable e) {
+				throw new CoreException(JiraCorePlugin.toStatus(e, repository));
+			}
+			repository.setConfigurationDate(new Date());
+		}
+		return false;
+	}
+
 	@Override
 	public void updateRepositoryConfiguration(TaskRepository repository, IProgressMonitor monitor) throws CoreException {
+		// invoked when the user requests an update, retrieve all details
 		try {
 			IJiraClient client = getClientManager().getJiraClient(repository);
 			client.updateAttributes(monitor, true);
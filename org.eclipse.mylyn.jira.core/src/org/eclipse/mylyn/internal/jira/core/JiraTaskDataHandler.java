@@ -17,6 +17,7 @@ package org.eclipse.mylyn.internal.jira.core;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Date;
+import java.util.HashMap;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
@@ -28,9 +29,12 @@ import org.eclipse.core.runtime.CoreException;
 import org.eclipse.core.runtime.IProgressMonitor;
 import org.eclipse.core.runtime.IStatus;
 import org.eclipse.core.runtime.OperationCanceledException;
+import org.eclipse.core.runtime.SubProgressMonitor;
 import org.eclipse.mylyn.commons.net.Policy;
 import org.eclipse.mylyn.internal.jira.core.client.IJiraClient;
 import org.eclipse.mylyn.internal.jira.core.client.InvalidTicketException;
+import org.eclipse.mylyn.internal.jira.core.client.JiraException;
+import org.eclipse.mylyn.internal.jira.core.client.JiraXmlRpcClient;
 import org.eclipse.mylyn.internal.jira.core.model.JiraTicket;
 import org.eclipse.mylyn.internal.jira.core.model.JiraAction;
 import org.eclipse.mylyn.internal.jira.core.model.JiraAttachment;
@@ -51,6 +55,7 @@ import org.eclipse.mylyn.tasks.core.data.TaskAttributeMapper;
 import org.eclipse.mylyn.tasks.core.data.TaskAttributeMetaData;
 import org.eclipse.mylyn.tasks.core.data.TaskCommentMapper;
 import org.eclipse.mylyn.tasks.core.data.TaskData;
+import org.eclipse.mylyn.tasks.core.data.TaskDataCollector;
 import org.eclipse.mylyn.tasks.core.data.TaskMapper;
 import org.eclipse.mylyn.tasks.core.data.TaskOperation;
 import org.eclipse.osgi.util.NLS;
@@ -108,6 +113,65 @@ public class JiraTaskDataHandler extends AbstractTaskDataHandler {
 		return createTaskDataFromTicket(client, repository, ticket, monitor);
 	}
 
+	@Override
+	public boolean canGetMultiTaskData(TaskRepository repository) {
+		return JiraRepositoryConnector.hasRichEditor(repository);
+	}
+
+	@Override
+	public void getMultiTaskData(TaskRepository repository, Set<String> taskIds, TaskDataCollector collector,
+			IProgressMonitor monitor) throws CoreException {
+		monitor = Policy.monitorFor(monitor);
+		try {
+			monitor.beginTask("Task Download", taskIds.size()); //$NON-NLS-1$
+			IJiraClient client = connector.getClientManager().getJiraClient(repository);
+			if (!(client instanceof JiraXmlRpcClient)) {
+				for (String taskId : taskIds) {
+					collector.accept(downloadTaskData(repository, JiraRepositoryConnector.getTicketId(taskId),
+							new SubProgressMonitor(monitor, 1)));
+				}
+				return;
+			}
+
+			JiraXmlRpcClient xmlRpcClient = (JiraXmlRpcClient) client;
+			List<Integer> ids = new ArrayList<Integer>(taskIds.size());
+			for (String taskId : taskIds) {
+				ids.add(JiraRepositoryConnector.getTicketId(taskId));
+			}
+			int chunkSize = xmlRpcClient.getMaxTicketsPerMulticall();
+			for (int start = 0; start < ids.size(); start += chunkSize) {
+				List<Integer> chunk = ids.subList(start, Math.min(start + chunkSize, ids.size()));
+				int[] chunkIds = new int[chunk.size()];
+				for (int i = 0; i < chunkIds.length; i++) {
+					chunkIds[i] = chunk.get(i);
+				}
+
+				List<JiraTicket> tickets;
+				Map<Integer, JiraException> failures = new HashMap<Integer, JiraException>();
+				try {
+					client.updateAttributes(monitor, false);
+					tickets = xmlRpcClient.getTickets(chunkIds, failures, monitor);
+				} catch (OperationCanceledException e) {
+					throw e;
+				} catch (Exception e) {
+					throw new CoreException(JiraCorePlugin.toStatus(e, repository));
+				}
+
+				// hand each chunk to the collector as soon as it has been parsed
+				for (JiraTicket ticket : tickets) {
+					collector.accept(createTaskDataFromTicket(client, repository, ticket, monitor));
+				}
+				for (Entry<Integer, JiraException> failure : failures.entrySet()) {
+					collector.failed(failure.getKey().toString(), JiraCorePlugin.toStatus(failure.getValue(),
+							repository));
+				}
+				monitor.worked(chunkIds.length);
+			}
+		} finally {
+			monitor.done();
+		}
+	}
+
 	public TaskData createTaskDataFromTicket(IJiraClient client, TaskRepository repository, JiraTicket ticket,
 			IProgressMonitor monitor) throws CoreException {
 		TaskData taskData = new TaskData(getAttributeMapper(repository), JiraCorePlugin.CONNECTOR_KIND,
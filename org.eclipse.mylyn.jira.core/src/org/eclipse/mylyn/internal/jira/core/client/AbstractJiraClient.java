@@ -17,7 +17,9 @@ import java.io.IOException;
 import java.net.HttpURLConnection;
 import java.net.Proxy;
 import java.net.URL;
+import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.List;
 
 import org.apache.commons.httpclient.Cookie;
 import org.apache.commons.httpclient.HostConfiguration;
@@ -34,7 +36,9 @@ import org.eclipse.mylyn.commons.net.WebUtil;
 import org.eclipse.mylyn.internal.jira.core.model.JiraComponent;
 import org.eclipse.mylyn.internal.jira.core.model.JiraMilestone;
 import org.eclipse.mylyn.internal.jira.core.model.JiraPriority;
+import org.eclipse.mylyn.internal.jira.core.model.JiraSearch;
 import org.eclipse.mylyn.internal.jira.core.model.JiraSeverity;
+import org.eclipse.mylyn.internal.jira.core.model.JiraTicket;
 import org.eclipse.mylyn.internal.jira.core.model.JiraTicketField;
 import org.eclipse.mylyn.internal.jira.core.model.JiraTicketResolution;
 import org.eclipse.mylyn.internal.jira.core.model.JiraTicketStatus;
@@ -64,7 +68,13 @@ public abstract class AbstractJiraClient implements IJiraClient {
 
 	protected final AbstractWebLocation location;
 
-	protected JiraClientData data;
+	/**
+	 * The cached repository attributes. Implementations may replace the instance when attributes are updated, readers
+	 * need to access the field once and keep a local reference to see a consistent state.
+	 */
+	protected volatile JiraClientData data;
+
+	private final Object updateAttributesLock = new Object();
 
 	public AbstractJiraClient(URL repositoryUrl, Version version, String username, String password, Proxy proxy) {
 		this.repositoryUrl = repositoryUrl.toString();
@@ -95,6 +105,15 @@ public abstract class AbstractJiraClient implements IJiraClient {
 		return version;
 	}
 
+	public void search(JiraSearch query, JiraTicketCollector collector, IProgressMonitor monitor)
+			throws JiraException {
+		List<JiraTicket> tickets = new ArrayList<JiraTicket>();
+		search(query, tickets, monitor);
+		for (JiraTicket ticket : tickets) {
+			collector.accept(ticket);
+		}
+	}
+
 	protected boolean credentialsValid(AuthenticationCredentials credentials) {
 		return credentials != null && credentials.getUserName().length() > 0;
 	}
@@ -172,28 +191,34 @@ public abstract class AbstractJiraClient implements IJiraClient {
 	}
 
 	public JiraComponent[] getComponents() {
-		return (data.components != null) ? data.components.toArray(new JiraComponent[0]) : null;
+		List<JiraComponent> components = data.components;
+		return (components != null) ? components.toArray(new JiraComponent[0]) : null;
 	}
 
 	public JiraMilestone[] getMilestones() {
-		return (data.milestones != null) ? data.milestones.toArray(new JiraMilestone[0]) : null;
+		List<JiraMilestone> milestones = data.milestones;
+		return (milestones != null) ? milestones.toArray(new JiraMilestone[0]) : null;
 	}
 
 	public JiraPriority[] getPriorities() {
-		return (data.priorities != null) ? data.priorities.toArray(new JiraPriority[0]) : null;
+		List<JiraPriority> priorities = data.priorities;
+		return (priorities != null) ? priorities.toArray(new JiraPriority[0]) : null;
 	}
 
 	public JiraSeverity[] getSeverities() {
-		return (data.severities != null) ? data.severities.toArray(new JiraSeverity[0]) : null;
+		List<JiraSeverity> severities = data.severities;
+		return (severities != null) ? severities.toArray(new JiraSeverity[0]) : null;
 	}
 
 	public JiraTicketField[] getTicketFields() {
-		return (data.ticketFields != null) ? data.ticketFields.toArray(new JiraTicketField[0]) : null;
+		List<JiraTicketField> ticketFields = data.ticketFields;
+		return (ticketFields != null) ? ticketFields.toArray(new JiraTicketField[0]) : null;
 	}
 
 	public JiraTicketField getTicketFieldByName(String name) {
+		JiraClientData data = this.data;
 		if (data.ticketFields != null) {
-			synchronized (this) {
+			synchronized (data) {
 				// lazily fill fieldByName map
 				if (data.ticketFieldByName == null) {
 					data.ticketFieldByName = new HashMap<String, JiraTicketField>();
@@ -208,19 +233,23 @@ public abstract class AbstractJiraClient implements IJiraClient {
 	}
 
 	public JiraTicketResolution[] getTicketResolutions() {
-		return (data.ticketResolutions != null) ? data.ticketResolutions.toArray(new JiraTicketResolution[0]) : null;
+		List<JiraTicketResolution> ticketResolutions = data.ticketResolutions;
+		return (ticketResolutions != null) ? ticketResolutions.toArray(new JiraTicketResolution[0]) : null;
 	}
 
 	public JiraTicketStatus[] getTicketStatus() {
-		return (data.ticketStatus != null) ? data.ticketStatus.toArray(new JiraTicketStatus[0]) : null;
+		List<JiraTicketStatus> ticketStatus = data.ticketStatus;
+		return (ticketStatus != null) ? ticketStatus.toArray(new JiraTicketStatus[0]) : null;
 	}
 
 	public JiraTicketType[] getTicketTypes() {
-		return (data.ticketTypes != null) ? data.ticketTypes.toArray(new JiraTicketType[0]) : null;
+		List<JiraTicketType> ticketTypes = data.ticketTypes;
+		return (ticketTypes != null) ? ticketTypes.toArray(new JiraTicketType[0]) : null;
 	}
 
 	public JiraVersion[] getVersions() {
-		return (data.versions != null) ? data.versions.toArray(new JiraVersion[0]) : null;
+		List<JiraVersion> versions = data.versions;
+		return (versions != null) ? versions.toArray(new JiraVersion[0]) : null;
 	}
 
 	public boolean hasAttributes() {
@@ -229,17 +258,44 @@ public abstract class AbstractJiraClient implements IJiraClient {
 
 	public void updateAttributes(IProgressMonitor monitor, boolean force) throws JiraException {
 		if (!hasAttributes() || force) {
-			updateAttributes(monitor);
+			synchronized (updateAttributesLock) {
+				// another thread may have completed the update while this thread was waiting for the lock
+				if (!hasAttributes() || force) {
+					updateAttributes(monitor);
+					data.lastUpdate = System.currentTimeMillis();
+				}
+			}
+		}
+	}
+
+	public void refreshAttributes(IProgressMonitor monitor) throws JiraException {
+		synchronized (updateAttributesLock) {
+			refreshAttributesInternal(monitor);
 			data.lastUpdate = System.currentTimeMillis();
 		}
 	}
 
+	/**
+	 * Retrieves the details of all attributes.
+	 */
 	public abstract void updateAttributes(IProgressMonitor monitor) throws JiraException;
 
+	/**
+	 * Retrieves the details of attributes that may have changed. The default implementation retrieves the details of
+	 * all attributes.
+	 */
+	protected void refreshAttributesInternal(IProgressMonitor monitor) throws JiraException {
+		updateAttributes(monitor);
+	}
+
 	public void setData(JiraClientData data) {
 		this.data = data;
 	}
 
+	public JiraClientData getData() {
+		return data;
+	}
+
 	public String[] getDefaultTicketResolutions() {
 		return new String[] { "fixed", "invalid", "wontfix", "duplicate", "worksforme" }; //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$ //$NON-NLS-4$ //$NON-NLS-5$
 	}
@@ -132,6 +132,19 @@ public interface IJiraClient {
 	 */
 	void search(JiraSearch query, List<JiraTicket> result, IProgressMonitor monitor) throws JiraException;
 
+	/**
+	 * Queries tickets from repository. Found tickets are passed to <code>collector</code> as they are retrieved
+	 * which avoids holding the complete result in memory.
+	 *
+	 * @param query
+	 *            the search criteria
+	 * @param collector
+	 *            receives the found tickets
+	 * @throws JiraException
+	 *             thrown in case of a connection error or if <code>collector</code> aborted the search
+	 */
+	void search(JiraSearch query, JiraTicketCollector collector, IProgressMonitor monitor) throws JiraException;
+
 	/**
 	 * Queries ticket id from repository. All found tickets are added to <code>result</code>.
 	 *
@@ -162,13 +175,24 @@ public interface IJiraClient {
 	boolean hasAttributes();
 
 	/**
-	 * Updates cached repository details: milestones, versions etc.
+	 * Updates cached repository details: milestones, versions etc. If <code>force</code> is true, the details of all
+	 * attributes are retrieved. Otherwise the cached details are only updated if none are cached.
 	 *
 	 * @throws JiraException
 	 *             thrown in case of a connection error
+	 * @see #refreshAttributes(IProgressMonitor)
 	 */
 	void updateAttributes(IProgressMonitor monitor, boolean force) throws JiraException;
 
+	/**
+	 * Updates cached repository details in the background. Clients may skip retrieving the details of attributes that
+	 * can not have changed which is less expensive than <code>updateAttributes(monitor, true)</code>.
+	 *
+	 * @throws JiraException
+	 *             thrown in case of a connection error
+	 */
+	void refreshAttributes(IProgressMonitor monitor) throws JiraException;
+
 	JiraComponent[] getComponents();
 
 	JiraTicketField[] getTicketFields();
@@ -211,6 +235,13 @@ public interface IJiraClient {
 	 */
 	void setData(JiraClientData data);
 
+	/**
+	 * Returns the cached repository attributes. The returned instance is replaced when attributes are updated.
+	 *
+	 * @see #setData(JiraClientData)
+	 */
+	JiraClientData getData();
+
 	Set<Integer> getChangedTickets(Date since, IProgressMonitor monitor) throws JiraException;
 
 	Date getTicketLastChanged(Integer id, IProgressMonitor monitor) throws JiraException;
@@ -14,6 +14,7 @@
 package org.eclipse.mylyn.internal.jira.core.client;
 
 import java.io.Serializable;
+import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 
@@ -51,6 +52,16 @@ public class JiraClientData implements Serializable {
 
 	long lastUpdate;
 
+	/**
+	 * The time of the last update that retrieved the details of all attributes.
+	 */
+	long lastFullUpdate;
+
+	/**
+	 * Maps an attribute type to the hash of the attribute ids that were retrieved for it.
+	 */
+	Map<String, Integer> attributeHashes = new HashMap<String, Integer>();
+
 	transient Map<String, JiraTicketField> ticketFieldByName;
 
 }
@@ -0,0 +1,337 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Tasktop Technologies and others.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * https://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Tasktop Technologies - initial API and implementation
+ *******************************************************************************/
+
+package org.eclipse.mylyn.internal.jira.core.client;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInput;
+import java.io.DataInputStream;
+import java.io.DataOutput;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.List;
+import java.util.Map;
+
+import org.eclipse.mylyn.internal.jira.core.model.JiraComponent;
+import org.eclipse.mylyn.internal.jira.core.model.JiraMilestone;
+import org.eclipse.mylyn.internal.jira.core.model.JiraPriority;
+import org.eclipse.mylyn.internal.jira.core.model.JiraSeverity;
+import org.eclipse.mylyn.internal.jira.core.model.JiraTicketAttribute;
+import org.eclipse.mylyn.internal.jira.core.model.JiraTicketField;
+import org.eclipse.mylyn.internal.jira.core.model.JiraTicketResolution;
+import org.eclipse.mylyn.internal.jira.core.model.JiraTicketStatus;
+import org.eclipse.mylyn.internal.jira.core.model.JiraTicketType;
+import org.eclipse.mylyn.internal.jira.core.model.JiraVersion;
+
+/**
+ * Encodes {@link JiraClientData} objects in a compact binary format that does not depend on Java serialization. The
+ * encoding is prefixed with {@link #FORMAT_VERSION}, data that was encoded with a different version is rejected by
+ * {@link #decode(byte[])} so callers can discard it and retrieve the attributes from the repository again.
+ */
+public class JiraClientDataSerializer {
+
+	/**
+	 * The version of the encoding. Needs to be incremented whenever the encoding changes.
+	 */
+	public static final int FORMAT_VERSION = 1;
+
+	private static final int NULL = -1;
+
+	private static abstract class Codec<T> {
+
+		abstract void write(DataOutput out, T item) throws IOException;
+
+		abstract T read(DataInput in) throws IOException;
+
+	}
+
+	private static final Codec<JiraComponent> COMPONENT = new Codec<JiraComponent>() {
+		@Override
+		void write(DataOutput out, JiraComponent item) throws IOException {
+			writeString(out, item.getName());
+			writeString(out, item.getOwner());
+			writeString(out, item.getDescription());
+		}
+
+		@Override
+		JiraComponent read(DataInput in) throws IOException {
+			JiraComponent item = new JiraComponent(readString(in));
+			item.setOwner(readString(in));
+			item.setDescription(readString(in));
+			return item;
+		}
+	};
+
+	private static final Codec<JiraMilestone> MILESTONE = new Codec<JiraMilestone>() {
+		@Override
+		void write(DataOutput out, JiraMilestone item) throws IOException {
+			writeString(out, item.getName());
+			writeDate(out, item.getDue());
+			writeDate(out, item.getCompleted());
+			writeString(out, item.getDescription());
+		}
+
+		@Override
+		JiraMilestone read(DataInput in) throws IOException {
+			JiraMilestone item = new JiraMilestone(readString(in));
+			item.setDue(readDate(in));
+			item.setCompleted(readDate(in));
+			item.setDescription(readString(in));
+			return item;
+		}
+	};
+
+	private static final Codec<JiraVersion> VERSION = new Codec<JiraVersion>() {
+		@Override
+		void write(DataOutput out, JiraVersion item) throws IOException {
+			writeString(out, item.getName());
+			writeDate(out, item.getTime());
+			writeString(out, item.getDescription());
+		}
+
+		@Override
+		JiraVersion read(DataInput in) throws IOException {
+			JiraVersion item = new JiraVersion(readString(in));
+			item.setTime(readDate(in));
+			item.setDescription(readString(in));
+			return item;
+		}
+	};
+
+	private static final Codec<JiraTicketField> TICKET_FIELD = new Codec<JiraTicketField>() {
+		@Override
+		void write(DataOutput out, JiraTicketField item) throws IOException {
+			writeString(out, item.getName());
+			writeString(out, (item.getType() != null) ? item.getType().name() : null);
+			writeString(out, item.getLabel());
+			String[] options = item.getOptions();
+			out.writeInt((options != null) ? options.length : NULL);
+			if (options != null) {
+				for (String option : options) {
+					writeString(out, option);
+				}
+			}
+			writeString(out, item.getDefaultValue());
+			out.writeBoolean(item.isCustom());
+			out.writeInt(item.getOrder());
+			out.writeBoolean(item.isOptional());
+			out.writeInt(item.getWidth());
+			out.writeInt(item.getHeight());
+		}
+
+		@Override
+		JiraTicketField read(DataInput in) throws IOException {
+			JiraTicketField item = new JiraTicketField(readString(in));
+			String type = readString(in);
+			if (type != null) {
+				try {
+					item.setType(JiraTicketField.Type.valueOf(type));
+				} catch (IllegalArgumentException e) {
+					throw new IOException("Invalid ticket field type: " + type); //$NON-NLS-1$
+				}
+			}
+			item.setLabel(readString(in));
+			int length = in.readInt();
+			if (length != NULL) {
+				String[] options = new String[length];
+				for (int i = 0; i < length; i++) {
+					options[i] = readString(in);
+				}
+				item.setOptions(options);
+			}
+			item.setDefaultValue(readString(in));
+			item.setCustom(in.readBoolean());
+			item.setOrder(in.readInt());
+			item.setOptional(in.readBoolean());
+			item.setWidth(in.readInt());
+			item.setHeight(in.readInt());
+			return item;
+		}
+	};
+
+	private static abstract class TicketAttributeCodec<T extends JiraTicketAttribute> extends Codec<T> {
+
+		@Override
+		void write(DataOutput out, T item) throws IOException {
+			writeString(out, item.getName());
+			out.writeInt(item.getValue());
+		}
+
+		@Override
+		T read(DataInput in) throws IOException {
+			return create(readString(in), in.readInt());
+		}
+
+		abstract T create(String name, int value);
+
+	}
+
+	private static final Codec<JiraPriority> PRIORITY = new TicketAttributeCodec<JiraPriority>() {
+		@Override
+		JiraPriority create(String name, int value) {
+			return new JiraPriority(name, value);
+		}
+	};
+
+	private static final Codec<JiraSeverity> SEVERITY = new TicketAttributeCodec<JiraSeverity>() {
+		@Override
+		JiraSeverity create(String name, int value) {
+			return new JiraSeverity(name, value);
+		}
+	};
+
+	private static final Codec<JiraTicketResolution> RESOLUTION = new TicketAttributeCodec<JiraTicketResolution>() {
+		@Override
+		JiraTicketResolution create(String name, int value) {
+			return new JiraTicketResolution(name, value);
+		}
+	};
+
+	private static final Codec<JiraTicketStatus> STATUS = new TicketAttributeCodec<JiraTicketStatus>() {
+		@Override
+		JiraTicketStatus create(String name, int value) {
+			return new JiraTicketStatus(name, value);
+		}
+	};
+
+	private static final Codec<JiraTicketType> TYPE = new TicketAttributeCodec<JiraTicketType>() {
+		@Override
+		JiraTicketType create(String name, int value) {
+			return new JiraTicketType(name, value);
+		}
+	};
+
+	public static byte[] encode(JiraClientData data) throws IOException {
+		ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+		DataOutputStream out = new DataOutputStream(bytes);
+		out.writeInt(FORMAT_VERSION);
+		out.writeLong(data.lastUpdate);
+		out.writeLong(data.lastFullUpdate);
+		out.writeInt(data.attributeHashes.size());
+		for (Map.Entry<String, Integer> entry : data.attributeHashes.entrySet()) {
+			writeString(out, entry.getKey());
+			out.writeInt(entry.getValue());
+		}
+		writeList(out, data.components, COMPONENT);
+		writeList(out, data.milestones, MILESTONE);
+		writeList(out, data.priorities, PRIORITY);
+		writeList(out, data.severities, SEVERITY);
+		writeList(out, data.ticketFields, TICKET_FIELD);
+		writeList(out, data.ticketResolutions, RESOLUTION);
+		writeList(out, data.ticketStatus, STATUS);
+		writeList(out, data.ticketTypes, TYPE);
+		writeList(out, data.versions, VERSION);
+		out.flush();
+		return bytes.toByteArray();
+	}
+
+	/**
+	 * Decodes data that was encoded by {@link #encode(JiraClientData)}.
+	 *
+	 * @throws IOException
+	 *             if <code>bytes</code> is not valid or was encoded with a different {@link #FORMAT_VERSION}
+	 */
+	public static JiraClientData decode(byte[] bytes) throws IOException {
+		DataInputStream in = new DataInputStream(new ByteArrayInputStream(bytes));
+		int version = in.readInt();
+		if (version != FORMAT_VERSION) {
+			throw new IOException("Unsupported format version: " + version); //$NON-NLS-1$
+		}
+		JiraClientData data = new JiraClientData();
+		data.lastUpdate = in.readLong();
+		data.lastFullUpdate = in.readLong();
+		int size = in.readInt();
+		for (int i = 0; i < size; i++) {
+			String type = readString(in);
+			data.attributeHashes.put(type, in.readInt());
+		}
+		data.components = readList(in, COMPONENT);
+		data.milestones = readList(in, MILESTONE);
+		data.priorities = readList(in, PRIORITY);
+		data.severities = readList(in, SEVERITY);
+		data.ticketFields = readList(in, TICKET_FIELD);
+		data.ticketResolutions = readList(in, RESOLUTION);
+		data.ticketStatus = readList(in, STATUS);
+		data.ticketTypes = readList(in, TYPE);
+		data.versions = readList(in, VERSION);
+		if (in.available() > 0) {
+			throw new IOException("Unexpected data after end of encoding"); //$NON-NLS-1$
+		}
+		return data;
+	}
+
+	private static <T> void writeList(DataOutput out, List<T> list, Codec<? super T> codec) throws IOException {
+		if (list == null) {
+			out.writeInt(NULL);
+			return;
+		}
+		out.writeInt(list.size());
+		for (T item : list) {
+			codec.write(out, item);
+		}
+	}
+
+	private static <T> List<T> readList(DataInput in, Codec<T> codec) throws IOException {
+		int size = in.readInt();
+		if (size == NULL) {
+			return null;
+		}
+		if (size < 0) {
+			throw new IOException("Invalid list size: " + size); //$NON-NLS-1$
+		}
+		List<T> list = new ArrayList<T>(Math.min(size, 1024));
+		for (int i = 0; i < size; i++) {
+			list.add(codec.read(in));
+		}
+		return list;
+	}
+
+	static void writeString(DataOutput out, String value) throws IOException {
+		if (value == null) {
+			out.writeInt(NULL);
+			return;
+		}
+		byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+		out.writeInt(bytes.length);
+		out.write(bytes);
+	}
+
+	static String readString(DataInput in) throws IOException {
+		int length = in.readInt();
+		if (length == NULL) {
+			return null;
+		}
+		if (length < 0) {
+			throw new IOException("Invalid string length: " + length); //$NON-NLS-1$
+		}
+		byte[] bytes = new byte[length];
+		in.readFully(bytes);
+		return new String(bytes, StandardCharsets.UTF_8);
+	}
+
+	private static void writeDate(DataOutput out, Date date) throws IOException {
+		out.writeBoolean(date != null);
+		if (date != null) {
+			out.writeLong(date.getTime());
+		}
+	}
+
+	private static Date readDate(DataInput in) throws IOException {
+		return (in.readBoolean()) ? new Date(in.readLong()) : null;
+	}
+
+}
@@ -0,0 +1,34 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Tasktop Technologies and others.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * https://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Tasktop Technologies - initial API and implementation
+ *******************************************************************************/
+
+package org.eclipse.mylyn.internal.jira.core.client;
+
+import org.eclipse.mylyn.internal.jira.core.model.JiraTicket;
+
+/**
+ * Receives tickets as they are retrieved from a repository.
+ *
+ * @see IJiraClient#search(org.eclipse.mylyn.internal.jira.core.model.JiraSearch, JiraTicketCollector,
+ *      org.eclipse.core.runtime.IProgressMonitor)
+ */
+public abstract class JiraTicketCollector {
+
+	/**
+	 * Invoked for each retrieved ticket.
+	 *
+	 * @throws JiraException
+	 *             thrown to abort the search, the exception is passed on to the caller of the search
+	 */
+	public abstract void accept(JiraTicket ticket) throws JiraException;
+
+}
@@ -471,32 +471,55 @@ public class JiraWebClient extends AbstractJiraClient {
 
 	public void searchForTicketIds(JiraSearch query, List<Integer> result, IProgressMonitor monitor)
 			throws JiraException {
-		List<JiraTicket> ticketResult = new ArrayList<JiraTicket>();
-		search(query, ticketResult, monitor);
-		for (JiraTicket jiraTicket : ticketResult) {
-			result.add(jiraTicket.getId());
+		GetMethod method = connect(repositoryUrl + IJiraClient.QUERY_URL + query.toUrl(), monitor);
+		try {
+			InputStream in = WebUtil.getResponseBodyAsStream(method, monitor);
+			try {
+				BufferedReader reader = new BufferedReader(new InputStreamReader(in, method.getResponseCharSet()));
+				new WebSearchResultParser().parseIds(reader, result);
+			} finally {
+				in.close();
+			}
+		} catch (IOException e) {
+			throw new JiraException(e);
+		} finally {
+			WebUtil.releaseConnection(method, monitor);
 		}
 	}
 
-	public void search(JiraSearch query, List<JiraTicket> result, IProgressMonitor monitor) throws JiraException {
+	public void search(JiraSearch query, final List<JiraTicket> result, IProgressMonitor monitor)
+			throws JiraException {
+		search(query, new JiraTicketCollector() {
+			@Override
+			public void accept(JiraTicket ticket) {
+				result.add(ticket);
+			}
+		}, monitor);
+	}
+
+	@Override
+	public void search(JiraSearch query, final JiraTicketCollector collector, IProgressMonitor monitor)
+			throws JiraException {
+		final Map<String, String> constantValues = getExactMatchValues(query);
 		GetMethod method = connect(repositoryUrl + IJiraClient.QUERY_URL + query.toUrl(), monitor);
 		try {
 			InputStream in = WebUtil.getResponseBodyAsStream(method, monitor);
 			try {
 				BufferedReader reader = new BufferedReader(new InputStreamReader(in, method.getResponseCharSet()));
 
-				WebSearchResultParser parser = new WebSearchResultParser();
-				parser.parse(reader);
-
-				Map<String, String> constantValues = getExactMatchValues(query);
-				for (JiraTicket ticket : parser.getTickets()) {
-					if (ticket.isValid()) {
-						for (String key : constantValues.keySet()) {
-							ticket.putValue(key, WebSearchResultParser.parseTicketValue(constantValues.get(key)));
+				// tickets are passed on as each line is parsed and not retained by the parser
+				WebSearchResultParser parser = new WebSearchResultParser(new JiraTicketCollector() {
+					@Override
+					public void accept(JiraTicket ticket) throws JiraException {
+						if (ticket.isValid()) {
+							for (String key : constantValues.keySet()) {
+								ticket.putValue(key, WebSearchResultParser.parseTicketValue(constantValues.get(key)));
+							}
+							collector.accept(ticket);
 						}
-						result.add(ticket);
 					}
-				}
+				});
+				parser.parse(reader);
 			} finally {
 				in.close();
 			}
@@ -20,6 +20,7 @@ import java.io.IOException;
 import java.io.InputStream;
 import java.net.URL;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collections;
 import java.util.Date;
 import java.util.HashMap;
@@ -28,6 +29,18 @@ import java.util.List;
 import java.util.Map;
 import java.util.Set;
 import java.util.TimeZone;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
 import java.util.regex.Pattern;
 
 import org.apache.commons.httpclient.Credentials;
@@ -47,6 +60,7 @@ import org.apache.xmlrpc.XmlRpcException;
 import org.apache.xmlrpc.client.XmlRpcClient;
 import org.apache.xmlrpc.client.XmlRpcClientConfigImpl;
 import org.apache.xmlrpc.serializer.CharSetXmlWriterFactory;
+import org.eclipse.core.runtime.Assert;
 import org.eclipse.core.runtime.IProgressMonitor;
 import org.eclipse.core.runtime.IStatus;
 import org.eclipse.core.runtime.NullProgressMonitor;
@@ -86,6 +100,7 @@ import org.eclipse.mylyn.internal.jira.core.util.JiraHttpClientTransportFactory;
 import org.eclipse.mylyn.internal.jira.core.util.JiraHttpClientTransportFactory.JiraHttpException;
 import org.eclipse.mylyn.internal.jira.core.util.JiraUtil;
 import org.eclipse.mylyn.internal.jira.core.util.JiraXmlRpcClientRequest;
+import org.eclipse.mylyn.internal.jira.core.util.LatencyHistogram;
 import org.eclipse.osgi.util.NLS;
 
 /**
@@ -103,6 +118,57 @@ public class JiraXmlRpcClient extends AbstractJiraClient implements IJiraWikiCli
 
 	private static final String ERROR_XML_RPC_PRIVILEGES_REQUIRED = "XML_RPC privileges are required to perform this operation"; //$NON-NLS-1$
 
+	/**
+	 * The default for the maximum number of tickets retrieved in a single <code>system.multicall</code> request.
+	 *
+	 * @see #setMaxTicketsPerMulticall(int)
+	 */
+	public static final int MAX_TICKETS_PER_MULTICALL = 25;
+
+	/**
+	 * The default for the maximum number of requests that are executed concurrently against a repository.
+	 *
+	 * @see #setMaxConcurrentRequests(int)
+	 */
+	public static final int DEFAULT_MAX_CONCURRENT_REQUESTS = 4;
+
+	/**
+	 * The interval in milliseconds after which {@link #refreshAttributes(IProgressMonitor)} requests the details of
+	 * all attributes regardless of whether their ids have changed.
+	 *
+	 * @see #ORDERED_ATTRIBUTE_TYPES
+	 */
+	public static final long FULL_ATTRIBUTE_UPDATE_INTERVAL = 7 * 24 * 60 * 60 * 1000L;
+
+	private static final long POLL_INTERVAL = 500;
+
+	private static final String TYPE_COMPONENT = "ticket.component"; //$NON-NLS-1$
+
+	private static final String TYPE_MILESTONE = "ticket.milestone"; //$NON-NLS-1$
+
+	private static final String TYPE_PRIORITY = "ticket.priority"; //$NON-NLS-1$
+
+	private static final String TYPE_RESOLUTION = "ticket.resolution"; //$NON-NLS-1$
+
+	private static final String TYPE_SEVERITY = "ticket.severity"; //$NON-NLS-1$
+
+	private static final String TYPE_STATUS = "ticket.status"; //$NON-NLS-1$
+
+	private static final String TYPE_TYPE = "ticket.type"; //$NON-NLS-1$
+
+	private static final String TYPE_VERSION = "ticket.version"; //$NON-NLS-1$
+
+	private static final String[] ATTRIBUTE_TYPES = { TYPE_COMPONENT, TYPE_MILESTONE, TYPE_PRIORITY, TYPE_RESOLUTION,
+			TYPE_SEVERITY, TYPE_STATUS, TYPE_TYPE, TYPE_VERSION };
+
+	/**
+	 * Attribute types whose details only consist of a value that determines the order of the ids returned by
+	 * <code>getAll</code>. The details of these types are unchanged as long as the ids are unchanged whereas details
+	 * of other types, e.g. the due date of a milestone, may change without affecting the ids.
+	 */
+	private static final Set<String> ORDERED_ATTRIBUTE_TYPES = new HashSet<String>(Arrays.asList(TYPE_PRIORITY,
+			TYPE_RESOLUTION, TYPE_SEVERITY, TYPE_STATUS, TYPE_TYPE));
+
 	private class XmlRpcRequest {
 
 		private final String method;
@@ -273,25 +339,39 @@ public class JiraXmlRpcClient extends AbstractJiraClient implements IJiraWikiCli
 
 	public static final int REQUIRED_WIKI_RPC_VERSION = 2;
 
-	private XmlRpcClient xmlrpc;
+	private volatile XmlRpcClient xmlrpc;
 
 	private JiraHttpClientTransportFactory factory;
 
-	private boolean accountMangerAuthenticationFailed;
+	private volatile boolean accountMangerAuthenticationFailed;
 
 	private XmlRpcClientConfigImpl config;
 
 	private final HttpClient httpClient;
 
-	private boolean probed;
+	private volatile boolean probed;
 
 	private volatile DigestScheme digestScheme;
 
 	private final AuthScope authScope;
 
-	private boolean isTracd;
+	private volatile boolean isTracd;
+
+	private volatile JiraRepositoryInfo info = new JiraRepositoryInfo();
+
+	private volatile int maxTicketsPerMulticall = MAX_TICKETS_PER_MULTICALL;
+
+	private volatile int maxConcurrentRequests = DEFAULT_MAX_CONCURRENT_REQUESTS;
 
-	private JiraRepositoryInfo info = new JiraRepositoryInfo();
+	private volatile Semaphore requestPermits = new Semaphore(DEFAULT_MAX_CONCURRENT_REQUESTS, true);
+
+	private final ConcurrentMap<String, LatencyHistogram> latencyByMethod = new ConcurrentHashMap<String, LatencyHistogram>(
+			8);
+
+	/**
+	 * Retrieves the next chunk of tickets while a search passes on the current chunk. Threads are discarded when idle.
+	 */
+	private final ExecutorService prefetchExecutor = createPrefetchExecutor();
 
 	public JiraXmlRpcClient(AbstractWebLocation location, Version version) {
 		super(location, version);
@@ -300,69 +380,94 @@ public class JiraXmlRpcClient extends AbstractJiraClient implements IJiraWikiCli
 				AuthScope.ANY_SCHEME);
 	}
 
-	public synchronized XmlRpcClient getClient() throws JiraException {
-		if (xmlrpc == null) {
-			config = new XmlRpcClientConfigImpl();
-			config.setEncoding(IJiraClient.CHARSET);
-			config.setTimeZone(TimeZone.getTimeZone(IJiraClient.TIME_ZONE));
-			config.setContentLengthOptional(false);
-			config.setConnectionTimeout(WebUtil.getConnectionTimeout());
-			config.setReplyTimeout(WebUtil.getSocketTimeout());
-
-			xmlrpc = new XmlRpcClient();
-			xmlrpc.setConfig(config);
-			// bug 307200: force factory that supports proper UTF-8 encoding
-			xmlrpc.setXmlWriterFactory(new CharSetXmlWriterFactory());
-
-			factory = new JiraHttpClientTransportFactory(xmlrpc, httpClient);
-			factory.setLocation(location);
-			factory.setInterceptor(new HttpMethodInterceptor() {
-				public void processRequest(HttpMethod method) {
-					DigestScheme scheme = digestScheme;
-					if (scheme != null) {
-						if (DEBUG_AUTH) {
-							System.err.println(location.getUrl() + ": Digest scheme is present"); //$NON-NLS-1$
-						}
-						Credentials creds = httpClient.getState().getCredentials(authScope);
-						if (creds != null) {
-							if (DEBUG_AUTH) {
-								System.err.println(location.getUrl() + ": Setting digest scheme for request"); //$NON-NLS-1$
-							}
-							method.getHostAuthState().setAuthScheme(digestScheme);
-							method.getHostAuthState().setAuthRequested(true);
-						}
+	private static ExecutorService createPrefetchExecutor() {
+		ThreadPoolExecutor executor = new ThreadPoolExecutor(DEFAULT_MAX_CONCURRENT_REQUESTS,
+				DEFAULT_MAX_CONCURRENT_REQUESTS, 60, TimeUnit.SECONDS, new LinkedBlockingQueue<Runnable>(),
+				new ThreadFactory() {
+					public Thread newThread(Runnable runnable) {
+						Thread thread = new Thread(runnable, "Jira Search Prefetch"); //$NON-NLS-1$
+						thread.setDaemon(true);
+						return thread;
 					}
+				});
+		executor.allowCoreThreadTimeOut(true);
+		return executor;
+	}
+
+	public XmlRpcClient getClient() throws JiraException {
+		XmlRpcClient client = xmlrpc;
+		if (client == null) {
+			synchronized (this) {
+				if (xmlrpc == null) {
+					xmlrpc = createClient();
 				}
+				client = xmlrpc;
+			}
+		}
+		return client;
+	}
+
+	private XmlRpcClient createClient() throws JiraException {
+		config = new XmlRpcClientConfigImpl();
+		config.setEncoding(IJiraClient.CHARSET);
+		config.setTimeZone(TimeZone.getTimeZone(IJiraClient.TIME_ZONE));
+		config.setContentLengthOptional(false);
+		config.setConnectionTimeout(WebUtil.getConnectionTimeout());
+		config.setReplyTimeout(WebUtil.getSocketTimeout());
 
-				public void processResponse(HttpMethod method) {
-					AuthScheme authScheme = method.getHostAuthState().getAuthScheme();
-					if (authScheme instanceof DigestScheme) {
-						digestScheme = (DigestScheme) authScheme;
+		XmlRpcClient client = new XmlRpcClient();
+		client.setConfig(config);
+		// bug 307200: force factory that supports proper UTF-8 encoding
+		client.setXmlWriterFactory(new CharSetXmlWriterFactory());
+
+		factory = new JiraHttpClientTransportFactory(client, httpClient);
+		factory.setLocation(location);
+		factory.setInterceptor(new HttpMethodInterceptor() {
+			public void processRequest(HttpMethod method) {
+				DigestScheme scheme = digestScheme;
+				if (scheme != null) {
+					if (DEBUG_AUTH) {
+						System.err.println(location.getUrl() + ": Digest scheme is present"); //$NON-NLS-1$
+					}
+					Credentials creds = httpClient.getState().getCredentials(authScope);
+					if (creds != null) {
 						if (DEBUG_AUTH) {
-							System.err.println(location.getUrl() + ": Received digest scheme"); //$NON-NLS-1$
+							System.err.println(location.getUrl() + ": Setting digest scheme for request"); //$NON-NLS-1$
 						}
+						method.getHostAuthState().setAuthScheme(digestScheme);
+						method.getHostAuthState().setAuthRequested(true);
 					}
 				}
-			});
-			xmlrpc.setTransportFactory(factory);
+			}
 
-			// update configuration with latest values
-			AuthenticationCredentials credentials = location.getCredentials(AuthenticationType.REPOSITORY);
-			config.setServerURL(getXmlRpcUrl(credentials));
-			if (credentialsValid(credentials)) {
-				Credentials httpCredentials = WebUtil.getHttpClientCredentials(credentials,
-						WebUtil.getHost(location.getUrl()));
-				httpClient.getState().setCredentials(authScope, httpCredentials);
+			public void processResponse(HttpMethod method) {
+				AuthScheme authScheme = method.getHostAuthState().getAuthScheme();
+				if (authScheme instanceof DigestScheme) {
+					digestScheme = (DigestScheme) authScheme;
+					if (DEBUG_AUTH) {
+						System.err.println(location.getUrl() + ": Received digest scheme"); //$NON-NLS-1$
+					}
+				}
+			}
+		});
+		client.setTransportFactory(factory);
+
+		// update configuration with latest values
+		AuthenticationCredentials credentials = location.getCredentials(AuthenticationType.REPOSITORY);
+		config.setServerURL(getXmlRpcUrl(credentials));
+		if (credentialsValid(credentials)) {
+			Credentials httpCredentials = WebUtil.getHttpClientCredentials(credentials,
+					WebUtil.getHost(location.getUrl()));
+			httpClient.getState().setCredentials(authScope, httpCredentials);
 //				if (CoreUtil.TEST_MODE) {
 //					System.err.println(" Setting credentials: " + httpCredentials); //$NON-NLS-1$
 //				}
-				httpClient.getState().setCredentials(authScope, httpCredentials);
-			} else {
-				httpClient.getState().clearCredentials();
-			}
+			httpClient.getState().setCredentials(authScope, httpCredentials);
+		} else {
+			httpClient.getState().clearCredentials();
 		}
 
-		return xmlrpc;
+		return client;
 	}
 
 	private URL getXmlRpcUrl(AuthenticationCredentials credentials) throws JiraException {
@@ -446,7 +551,7 @@ public class JiraXmlRpcClient extends AbstractJiraClient implements IJiraWikiCli
 		}
 	}
 
-	private Object call(IProgressMonitor monitor, String method, Object... parameters) throws JiraException {
+	Object call(IProgressMonitor monitor, String method, Object... parameters) throws JiraException {
 		monitor = Policy.monitorFor(monitor);
 		JiraException lastException = null;
 		for (int attempt = 0; attempt < 3; attempt++) {
@@ -462,7 +567,7 @@ public class JiraXmlRpcClient extends AbstractJiraClient implements IJiraWikiCli
 
 			try {
 				XmlRpcRequest request = new XmlRpcRequest(method, parameters);
-				return request.execute(monitor);
+				return execute(request, monitor);
 			} catch (JiraLoginException e) {
 				try {
 					location.requestCredentials(AuthenticationType.REPOSITORY, null, monitor);
@@ -501,20 +606,82 @@ public class JiraXmlRpcClient extends AbstractJiraClient implements IJiraWikiCli
 		}
 	}
 
+	private Object execute(XmlRpcRequest request, IProgressMonitor monitor) throws JiraException {
+		Semaphore permits = requestPermits;
+		try {
+			permits.acquire();
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			throw new OperationCanceledException();
+		}
+		long start = System.currentTimeMillis();
+		try {
+			return request.execute(monitor);
+		} finally {
+			permits.release();
+			long duration = System.currentTimeMillis() - start;
+			getLatencyHistogram(request.method).record(duration);
+			if (DEBUG_XMLRPC) {
+				System.err.println("Completed " + location.getUrl() + ": " + request.method + " in " + duration + "ms"); //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$ //$NON-NLS-4$
+			}
+		}
+	}
+
+	private LatencyHistogram getLatencyHistogram(String method) {
+		LatencyHistogram histogram = latencyByMethod.get(method);
+		if (histogram == null) {
+			histogram = new LatencyHistogram();
+			LatencyHistogram existing = latencyByMethod.putIfAbsent(method, histogram);
+			if (existing != null) {
+				histogram = existing;
+			}
+		}
+		return histogram;
+	}
+
+	/**
+	 * Returns the latencies of requests executed by this client keyed by XML-RPC method name. Calls that are part of a
+	 * <code>system.multicall</code> request are recorded as the multicall.
+	 */
+	public Map<String, LatencyHistogram> getLatencyHistograms() {
+		return Collections.unmodifiableMap(latencyByMethod);
+	}
+
+	/**
+	 * Returns the maximum number of requests that are executed concurrently by this client.
+	 */
+	public int getMaxConcurrentRequests() {
+		return maxConcurrentRequests;
+	}
+
+	/**
+	 * Sets the maximum number of requests that are executed concurrently by this client. Requests that exceed the limit
+	 * wait until a running request completes. Requests that are already waiting are not affected by a change.
+	 */
+	public void setMaxConcurrentRequests(int maxConcurrentRequests) {
+		Assert.isLegal(maxConcurrentRequests > 0);
+		this.maxConcurrentRequests = maxConcurrentRequests;
+		this.requestPermits = new Semaphore(maxConcurrentRequests, true);
+	}
+
 	private Object[] multicall(IProgressMonitor monitor, Map<String, Object>... calls) throws JiraException {
 		Object[] result = (Object[]) call(monitor, "system.multicall", new Object[] { calls }); //$NON-NLS-1$
 		for (Object item : result) {
-			try {
-				checkForException(item);
-			} catch (XmlRpcException e) {
-				throw new JiraRemoteException(e);
-			} catch (Exception e) {
-				throw new JiraException(e);
-			}
+			checkMultiCallResult(item);
 		}
 		return result;
 	}
 
+	private void checkMultiCallResult(Object item) throws JiraException {
+		try {
+			checkForException(item);
+		} catch (XmlRpcException e) {
+			throw new JiraRemoteException(e);
+		} catch (Exception e) {
+			throw new JiraException(e);
+		}
+	}
+
 	private void checkForException(Object result) throws NumberFormatException, XmlRpcException {
 		if (result instanceof Map<?, ?>) {
 			Map<?, ?> exceptionData = (Map<?, ?>) result;
@@ -613,18 +780,79 @@ public class JiraXmlRpcClient extends AbstractJiraClient implements IJiraWikiCli
 		ticket.setActions(actions);
 
 		updateAttributes(new NullProgressMonitor(), false);
+		ticket.setResolutions(getResolutionNames());
+
+		return ticket;
+	}
+
+	/**
+	 * Retrieves tickets including comments, attachments and actions. The details of all tickets are requested in a
+	 * single <code>system.multicall</code> request, callers are expected to split large sets of ids into chunks of
+	 * {@link #getMaxTicketsPerMulticall()}. Each ticket contributes four calls to the request.
+	 *
+	 * @param ids
+	 *            the ids of the tickets to retrieve
+	 * @param failures
+	 *            receives the error for each ticket that could not be retrieved, keyed by ticket id
+	 * @return the retrieved tickets in the order of <code>ids</code>
+	 * @throws JiraException
+	 *             thrown in case of a connection error
+	 */
+	@SuppressWarnings("unchecked")
+	public List<JiraTicket> getTickets(int[] ids, Map<Integer, JiraException> failures, IProgressMonitor monitor)
+			throws JiraException {
+		boolean supportsWorkFlow = supportsWorkFlow(monitor);
+		String actionsMethod = (supportsWorkFlow) ? "ticket.getActions" : "ticket.getAvailableActions"; //$NON-NLS-1$ //$NON-NLS-2$
+		Map<String, Object>[] calls = new Map[ids.length * 4];
+		for (int i = 0; i < ids.length; i++) {
+			calls[i * 4] = createMultiCall("ticket.get", ids[i]); //$NON-NLS-1$
+			calls[i * 4 + 1] = createMultiCall("ticket.changeLog", ids[i], 0); //$NON-NLS-1$
+			calls[i * 4 + 2] = createMultiCall("ticket.listAttachments", ids[i]); //$NON-NLS-1$
+			calls[i * 4 + 3] = createMultiCall(actionsMethod, ids[i]);
+		}
+
+		Object[] result = (Object[]) call(monitor, "system.multicall", new Object[] { calls }); //$NON-NLS-1$
+		assert result.length == calls.length;
+
+		updateAttributes(new NullProgressMonitor(), false);
+		String[] resolutions = getResolutionNames();
+
+		List<JiraTicket> tickets = new ArrayList<JiraTicket>(ids.length);
+		for (int i = 0; i < ids.length; i++) {
+			try {
+				for (int j = i * 4; j < i * 4 + 4; j++) {
+					checkMultiCallResult(result[j]);
+				}
+
+				JiraTicket ticket = parseTicket((Object[]) getMultiCallResult(result[i * 4]));
+				for (Object item : (Object[]) getMultiCallResult(result[i * 4 + 1])) {
+					ticket.addComment(parseChangeLogEntry((Object[]) item));
+				}
+				for (Object item : (Object[]) getMultiCallResult(result[i * 4 + 2])) {
+					ticket.addAttachment(parseAttachment((Object[]) item));
+				}
+				Object[] actions = (Object[]) getMultiCallResult(result[i * 4 + 3]);
+				ticket.setActions((supportsWorkFlow) ? parseActions(actions) : parseAvailableActions(actions));
+				ticket.setResolutions(resolutions);
+				tickets.add(ticket);
+			} catch (JiraException e) {
+				failures.put(ids[i], e);
+			}
+		}
+		return tickets;
+	}
+
+	private String[] getResolutionNames() {
 		JiraTicketResolution[] resolutions = getTicketResolutions();
 		if (resolutions != null) {
 			String[] resolutionStrings = new String[resolutions.length];
 			for (int i = 0; i < resolutions.length; i++) {
 				resolutionStrings[i] = resolutions[i].getName();
 			}
-			ticket.setResolutions(resolutionStrings);
+			return resolutionStrings;
 		} else {
-			ticket.setResolutions(getDefaultTicketResolutions());
+			return getDefaultTicketResolutions();
 		}
-
-		return ticket;
 	}
 
 	private JiraAttachment parseAttachment(Object[] entry) {
@@ -676,24 +904,115 @@ public class JiraXmlRpcClient extends AbstractJiraClient implements IJiraWikiCli
 		}
 	}
 
-	@SuppressWarnings("unchecked")
-	public void search(JiraSearch query, List<JiraTicket> tickets, IProgressMonitor monitor) throws JiraException {
-		// an empty query string is not valid, therefore prepend order
-		Object[] result = (Object[]) call(monitor, "ticket.query", //$NON-NLS-1$
-				"order=id" + query.toQuery(supportsMaxSearchResults(monitor))); //$NON-NLS-1$
+	public void search(JiraSearch query, final List<JiraTicket> tickets, IProgressMonitor monitor)
+			throws JiraException {
+		search(query, new JiraTicketCollector() {
+			@Override
+			public void accept(JiraTicket ticket) {
+				tickets.add(ticket);
+			}
+		}, monitor);
+	}
 
-		Map<String, Object>[] calls = new Map[result.length];
-		for (int i = 0; i < calls.length; i++) {
-			calls[i] = createMultiCall("ticket.get", result[i]); //$NON-NLS-1$
+	/**
+	 * Retrieves matching tickets in chunks of {@link #getMaxTicketsPerMulticall()}. The next chunk is requested while
+	 * the tickets of the current chunk are passed to <code>collector</code> so at most two chunks are held in memory
+	 * at any time. No further chunks are requested once <code>collector</code> aborts the search.
+	 */
+	@Override
+	public void search(JiraSearch query, JiraTicketCollector collector, IProgressMonitor monitor)
+			throws JiraException {
+		monitor = Policy.monitorFor(monitor);
+		List<Integer> ids = new ArrayList<Integer>();
+		searchForTicketIds(query, ids, monitor);
+		if (ids.isEmpty()) {
+			return;
 		}
-		result = multicall(monitor, calls);
 
-		for (Object item : result) {
-			Object[] ticketResult = (Object[]) getMultiCallResult(item);
-			tickets.add(parseTicket(ticketResult));
+		int chunkSize = getMaxTicketsPerMulticall();
+		// progress monitors are not thread-safe, the prefetch is cancelled through a separate monitor
+		IProgressMonitor prefetchMonitor = new NullProgressMonitor();
+		Future<List<JiraTicket>> pending = submitGetTickets(ids.subList(0, Math.min(chunkSize, ids.size())),
+				prefetchMonitor);
+		try {
+			for (int start = chunkSize; pending != null; start += chunkSize) {
+				List<JiraTicket> tickets = getResult(pending, prefetchMonitor, monitor);
+				if (start < ids.size()) {
+					pending = submitGetTickets(ids.subList(start, Math.min(start + chunkSize, ids.size())),
+							prefetchMonitor);
+				} else {
+					pending = null;
+				}
+				for (JiraTicket ticket : tickets) {
+					collector.accept(ticket);
+				}
+			}
+		} finally {
+			// stop a prefetch that is pending after the collector aborted, a failure or cancellation
+			prefetchMonitor.setCanceled(true);
+			if (pending != null) {
+				pending.cancel(true);
+			}
+		}
+	}
+
+	private Future<List<JiraTicket>> submitGetTickets(List<Integer> chunk, final IProgressMonitor prefetchMonitor) {
+		final int[] ids = new int[chunk.size()];
+		for (int i = 0; i < ids.length; i++) {
+			ids[i] = chunk.get(i);
+		}
+		return prefetchExecutor.submit(new Callable<List<JiraTicket>>() {
+			public List<JiraTicket> call() throws Exception {
+				return getTickets(ids, prefetchMonitor);
+			}
+		});
+	}
+
+	private List<JiraTicket> getResult(Future<List<JiraTicket>> future, IProgressMonitor prefetchMonitor,
+			IProgressMonitor monitor) throws JiraException {
+		while (true) {
+			if (monitor.isCanceled()) {
+				prefetchMonitor.setCanceled(true);
+				throw new OperationCanceledException();
+			}
+			try {
+				return future.get(POLL_INTERVAL, TimeUnit.MILLISECONDS);
+			} catch (TimeoutException e) {
+				// check for cancellation
+			} catch (InterruptedException e) {
+				Thread.currentThread().interrupt();
+				prefetchMonitor.setCanceled(true);
+				throw new OperationCanceledException();
+			} catch (ExecutionException e) {
+				Throwable cause = e.getCause();
+				if (cause instanceof JiraException) {
+					throw (JiraException) cause;
+				} else if (cause instanceof RuntimeException) {
+					throw (RuntimeException) cause;
+				} else if (cause instanceof Error) {
+					throw (Error) cause;
+				}
+				throw new JiraException(cause);
+			}
 		}
 	}
 
+	/**
+	 * Returns the maximum number of tickets that are retrieved in a single <code>system.multicall</code> request.
+	 */
+	public int getMaxTicketsPerMulticall() {
+		return maxTicketsPerMulticall;
+	}
+
+	/**
+	 * Sets the maximum number of tickets that are retrieved in a single <code>system.multicall</code> request. Smaller
+	 * values reduce the size of individual requests and responses at the expense of more round trips.
+	 */
+	public void setMaxTicketsPerMulticall(int maxTicketsPerMulticall) {
+		Assert.isLegal(maxTicketsPerMulticall > 0);
+		this.maxTicketsPerMulticall = maxTicketsPerMulticall;
+	}
+
 	private boolean supportsWorkFlow(IProgressMonitor monitor) throws JiraException {
 		return isApiVersionOrHigher(1, 0, 1, monitor);
 	}
@@ -723,78 +1042,170 @@ public class JiraXmlRpcClient extends AbstractJiraClient implements IJiraWikiCli
 	}
 
 	@Override
-	public synchronized void updateAttributes(IProgressMonitor monitor) throws JiraException {
-		monitor.beginTask("Updating attributes", 9); //$NON-NLS-1$
-
-		Object[] result = getAttributes("ticket.component", monitor); //$NON-NLS-1$
-		data.components = new ArrayList<JiraComponent>(result.length);
-		for (Object item : result) {
-			data.components.add(parseComponent((Map<?, ?>) getMultiCallResult(item)));
-		}
-		advance(monitor, 1);
-
-		result = getAttributes("ticket.milestone", monitor); //$NON-NLS-1$
-		data.milestones = new ArrayList<JiraMilestone>(result.length);
-		for (Object item : result) {
-			data.milestones.add(parseMilestone((Map<?, ?>) getMultiCallResult(item)));
-		}
-		advance(monitor, 1);
+	public void updateAttributes(IProgressMonitor monitor) throws JiraException {
+		retrieveAttributes(monitor, true);
+	}
 
-		List<TicketAttributeResult> attributes = getTicketAttributes("ticket.priority", monitor); //$NON-NLS-1$
-		data.priorities = new ArrayList<JiraPriority>(result.length);
-		for (TicketAttributeResult attribute : attributes) {
-			data.priorities.add(new JiraPriority(attribute.name, attribute.value));
-		}
-		Collections.sort(data.priorities);
-		advance(monitor, 1);
+	/**
+	 * Skips the details of priorities, resolutions, severities, statuses and ticket types if their ids have not changed
+	 * since the last update. The details of components, milestones and versions are always requested. All details are
+	 * requested if the last full update is older than {@link #FULL_ATTRIBUTE_UPDATE_INTERVAL}.
+	 */
+	@Override
+	protected void refreshAttributesInternal(IProgressMonitor monitor) throws JiraException {
+		retrieveAttributes(monitor, false);
+	}
 
-		attributes = getTicketAttributes("ticket.resolution", monitor); //$NON-NLS-1$
-		data.ticketResolutions = new ArrayList<JiraTicketResolution>(result.length);
-		for (TicketAttributeResult attribute : attributes) {
-			data.ticketResolutions.add(new JiraTicketResolution(attribute.name, attribute.value));
-		}
-		Collections.sort(data.ticketResolutions);
+	/**
+	 * Retrieves repository attributes into a new {@link JiraClientData} object that replaces the current one once all
+	 * attributes have been retrieved. Concurrent readers continue to see the previous attributes while the update is
+	 * in progress.
+	 * <p>
+	 * The ids of all attribute types are retrieved in a single request. Unless <code>fullUpdate</code> is true, the
+	 * previous values are retained for {@link #ORDERED_ATTRIBUTE_TYPES} whose ids have not changed since the last
+	 * update and details are requested for all other types.
+	 */
+	@SuppressWarnings("unchecked")
+	private void retrieveAttributes(IProgressMonitor monitor, boolean fullUpdate) throws JiraException {
+		monitor.beginTask("Updating attributes", 3); //$NON-NLS-1$
+
+		JiraClientData previous = this.data;
+		JiraClientData data = new JiraClientData();
+		data.lastUpdate = previous.lastUpdate;
+		long now = System.currentTimeMillis();
+		fullUpdate |= now - previous.lastFullUpdate > FULL_ATTRIBUTE_UPDATE_INTERVAL;
+		boolean assignStatusValues = isApiVersionOrHigher(1, 0, 0, monitor);
+
+		// retrieve the ids of all attribute types and the ticket fields in a single request
+		Map<String, Object>[] calls = new Map[ATTRIBUTE_TYPES.length + 1];
+		for (int i = 0; i < ATTRIBUTE_TYPES.length; i++) {
+			calls[i] = createMultiCall(ATTRIBUTE_TYPES[i] + ".getAll"); //$NON-NLS-1$
+		}
+		calls[ATTRIBUTE_TYPES.length] = createMultiCall("ticket.getTicketFields"); //$NON-NLS-1$
+		Object[] result = multicall(monitor, calls);
 		advance(monitor, 1);
 
-		attributes = getTicketAttributes("ticket.severity", monitor); //$NON-NLS-1$
-		data.severities = new ArrayList<JiraSeverity>(result.length);
-		for (TicketAttributeResult attribute : attributes) {
-			data.severities.add(new JiraSeverity(attribute.name, attribute.value));
-		}
-		Collections.sort(data.severities);
-		advance(monitor, 1);
+		List<String> changedTypes = new ArrayList<String>(ATTRIBUTE_TYPES.length);
+		Map<String, Object[]> idsByType = new HashMap<String, Object[]>();
+		List<Map<String, Object>> detailCalls = new ArrayList<Map<String, Object>>();
+		for (int i = 0; i < ATTRIBUTE_TYPES.length; i++) {
+			String type = ATTRIBUTE_TYPES[i];
+			Object[] ids = (Object[]) getMultiCallResult(result[i]);
+			int hash = Arrays.hashCode(ids);
+			data.attributeHashes.put(type, hash);
+
+			Integer previousHash = previous.attributeHashes.get(type);
+			boolean unchanged = !fullUpdate && ORDERED_ATTRIBUTE_TYPES.contains(type) && previousHash != null
+					&& previousHash == hash;
+			if (unchanged && copyAttributes(type, previous, data)) {
+				if (DEBUG_XMLRPC) {
+					System.err.println("Skipping unchanged attributes " + location.getUrl() + ": " + type); //$NON-NLS-1$ //$NON-NLS-2$
+				}
+				continue;
+			}
 
-		boolean assignValues = isApiVersionOrHigher(1, 0, 0, monitor);
-		attributes = getTicketAttributes("ticket.status", assignValues, monitor); //$NON-NLS-1$
-		data.ticketStatus = new ArrayList<JiraTicketStatus>(result.length);
-		for (TicketAttributeResult attribute : attributes) {
-			data.ticketStatus.add(new JiraTicketStatus(attribute.name, attribute.value));
+			changedTypes.add(type);
+			idsByType.put(type, ids);
+			for (Object id : ids) {
+				detailCalls.add(createMultiCall(type + ".get", id)); //$NON-NLS-1$
+			}
 		}
-		Collections.sort(data.ticketStatus);
-		advance(monitor, 1);
 
-		attributes = getTicketAttributes("ticket.type", monitor); //$NON-NLS-1$
-		data.ticketTypes = new ArrayList<JiraTicketType>(result.length);
-		for (TicketAttributeResult attribute : attributes) {
-			data.ticketTypes.add(new JiraTicketType(attribute.name, attribute.value));
+		// retrieve the details of all changed attribute types in a single request
+		Object[] details = (detailCalls.isEmpty())
+				? new Object[0]
+				: multicall(monitor, detailCalls.toArray(new Map[detailCalls.size()]));
+		int offset = 0;
+		for (String type : changedTypes) {
+			Object[] ids = idsByType.get(type);
+			parseAttributes(type, ids, details, offset, assignStatusValues, data);
+			offset += ids.length;
 		}
-		Collections.sort(data.ticketTypes);
 		advance(monitor, 1);
 
-		result = getAttributes("ticket.version", monitor); //$NON-NLS-1$
-		data.versions = new ArrayList<JiraVersion>(result.length);
-		for (Object item : result) {
-			data.versions.add(parseVersion((Map<?, ?>) getMultiCallResult(item)));
+		Object[] fields = (Object[]) getMultiCallResult(result[ATTRIBUTE_TYPES.length]);
+		data.ticketFields = new ArrayList<JiraTicketField>(fields.length);
+		for (Object item : fields) {
+			data.ticketFields.add(parseTicketField((Map<?, ?>) item));
 		}
+		data.lastFullUpdate = (fullUpdate) ? now : previous.lastFullUpdate;
 		advance(monitor, 1);
 
-		result = (Object[]) call(monitor, "ticket.getTicketFields"); //$NON-NLS-1$
-		data.ticketFields = new ArrayList<JiraTicketField>(result.length);
-		data.ticketFieldByName = null;
-		for (Object item : result) {
-			data.ticketFields.add(parseTicketField((Map<?, ?>) item));
+		this.data = data;
+	}
+
+	private boolean copyAttributes(String type, JiraClientData from, JiraClientData to) {
+		if (TYPE_PRIORITY.equals(type)) {
+			to.priorities = from.priorities;
+			return to.priorities != null;
+		} else if (TYPE_RESOLUTION.equals(type)) {
+			to.ticketResolutions = from.ticketResolutions;
+			return to.ticketResolutions != null;
+		} else if (TYPE_SEVERITY.equals(type)) {
+			to.severities = from.severities;
+			return to.severities != null;
+		} else if (TYPE_STATUS.equals(type)) {
+			to.ticketStatus = from.ticketStatus;
+			return to.ticketStatus != null;
+		} else if (TYPE_TYPE.equals(type)) {
+			to.ticketTypes = from.ticketTypes;
+			return to.ticketTypes != null;
+		}
+		return false;
+	}
+
+	private void parseAttributes(String type, Object[] ids, Object[] details, int offset, boolean assignStatusValues,
+			JiraClientData data) {
+		if (TYPE_COMPONENT.equals(type)) {
+			data.components = new ArrayList<JiraComponent>(ids.length);
+			for (int i = 0; i < ids.length; i++) {
+				data.components.add(parseComponent((Map<?, ?>) getMultiCallResult(details[offset + i])));
+			}
+		} else if (TYPE_MILESTONE.equals(type)) {
+			data.milestones = new ArrayList<JiraMilestone>(ids.length);
+			for (int i = 0; i < ids.length; i++) {
+				data.milestones.add(parseMilestone((Map<?, ?>) getMultiCallResult(details[offset + i])));
+			}
+		} else if (TYPE_VERSION.equals(type)) {
+			data.versions = new ArrayList<JiraVersion>(ids.length);
+			for (int i = 0; i < ids.length; i++) {
+				data.versions.add(parseVersion((Map<?, ?>) getMultiCallResult(details[offset + i])));
+			}
+		} else {
+			boolean assignValues = TYPE_STATUS.equals(type) && assignStatusValues;
+			List<TicketAttributeResult> attributes = parseTicketAttributes(type, ids, details, offset, assignValues);
+			if (TYPE_PRIORITY.equals(type)) {
+				data.priorities = new ArrayList<JiraPriority>(attributes.size());
+				for (TicketAttributeResult attribute : attributes) {
+					data.priorities.add(new JiraPriority(attribute.name, attribute.value));
+				}
+				Collections.sort(data.priorities);
+			} else if (TYPE_RESOLUTION.equals(type)) {
+				data.ticketResolutions = new ArrayList<JiraTicketResolution>(attributes.size());
+				for (TicketAttributeResult attribute : attributes) {
+					data.ticketResolutions.add(new JiraTicketResolution(attribute.name, attribute.value));
+				}
+				Collections.sort(data.ticketResolutions);
+			} else if (TYPE_SEVERITY.equals(type)) {
+				data.severities = new ArrayList<JiraSeverity>(attributes.size());
+				for (TicketAttributeResult attribute : attributes) {
+					data.severities.add(new JiraSeverity(attribute.name, attribute.value));
+				}
+				Collections.sort(data.severities);
+			} else if (TYPE_STATUS.equals(type)) {
+				data.ticketStatus = new ArrayList<JiraTicketStatus>(attributes.size());
+				for (TicketAttributeResult attribute : attributes) {
+					data.ticketStatus.add(new JiraTicketStatus(attribute.name, attribute.value));
+				}
+				Collections.sort(data.ticketStatus);
+			} else if (TYPE_TYPE.equals(type)) {
+				data.ticketTypes = new ArrayList<JiraTicketType>(attributes.size());
+				for (TicketAttributeResult attribute : attributes) {
+					data.ticketTypes.add(new JiraTicketType(attribute.name, attribute.value));
+				}
+				Collections.sort(data.ticketTypes);
+			}
 		}
-		advance(monitor, 1);
 	}
 
 	private void advance(IProgressMonitor monitor, int worked) {
@@ -859,44 +1270,14 @@ public class JiraXmlRpcClient extends AbstractJiraClient implements IJiraWikiCli
 	}
 
 	@SuppressWarnings("unchecked")
-	private Object[] getAttributes(String attributeType, IProgressMonitor monitor) throws JiraException {
-		Object[] ids = (Object[]) call(monitor, attributeType + ".getAll"); //$NON-NLS-1$
-		Map<String, Object>[] calls = new Map[ids.length];
-		for (int i = 0; i < calls.length; i++) {
-			calls[i] = createMultiCall(attributeType + ".get", ids[i]); //$NON-NLS-1$
-		}
-
-		Object[] result = multicall(monitor, calls);
-		assert result.length == ids.length;
-
-		return result;
-	}
-
-	private List<TicketAttributeResult> getTicketAttributes(String attributeType, IProgressMonitor monitor)
-			throws JiraException {
-		return getTicketAttributes(attributeType, false, monitor);
-	}
-
-	@SuppressWarnings("unchecked")
-	private List<TicketAttributeResult> getTicketAttributes(String attributeType, boolean assignValues,
-			IProgressMonitor monitor) throws JiraException {
-		// get list of attribute ids first
-		Object[] ids = (Object[]) call(monitor, attributeType + ".getAll"); //$NON-NLS-1$
-		// fetch all attributes in a single call
-		Map<String, Object>[] calls = new Map[ids.length];
-		for (int i = 0; i < calls.length; i++) {
-			calls[i] = createMultiCall(attributeType + ".get", ids[i]); //$NON-NLS-1$
-		}
-
-		Object[] result = multicall(monitor, calls);
-		assert result.length == ids.length;
-
-		List<TicketAttributeResult> attributes = new ArrayList<TicketAttributeResult>(result.length);
-		for (int i = 0; i < calls.length; i++) {
+	private List<TicketAttributeResult> parseTicketAttributes(String attributeType, Object[] ids, Object[] details,
+			int offset, boolean assignValues) {
+		List<TicketAttributeResult> attributes = new ArrayList<TicketAttributeResult>(ids.length);
+		for (int i = 0; i < ids.length; i++) {
 			try {
 				TicketAttributeResult attribute = new TicketAttributeResult();
 				attribute.name = (String) ids[i];
-				Object value = getMultiCallResult(result[i]);
+				Object value = getMultiCallResult(details[offset + i]);
 				if (assignValues) {
 					attribute.value = i;
 				} else {
@@ -1018,43 +1399,49 @@ public class JiraXmlRpcClient extends AbstractJiraClient implements IJiraWikiCli
 
 	public JiraAction[] getActions(int id, IProgressMonitor monitor) throws JiraException {
 		if (supportsWorkFlow(monitor)) {
-			Object[] actions = (Object[]) call(monitor, "ticket.getActions", id); //$NON-NLS-1$
-			JiraAction[] result = new JiraAction[actions.length];
-			for (int i = 0; i < result.length; i++) {
-				Object[] entry = (Object[]) actions[i];
-				JiraAction action = new JiraAction((String) entry[0]);
-				action.setLabel((String) entry[1]);
-				action.setHint((String) entry[2]);
-				Object[] inputs = (Object[]) entry[3];
-				// each action can be associated with fields
-				for (Object inputArray : inputs) {
-					Object[] inputEntry = (Object[]) inputArray;
-					JiraTicketField field = new JiraTicketField((String) inputEntry[0]);
-					field.setDefaultValue((String) inputEntry[1]);
-					Object[] optionEntry = (Object[]) inputEntry[2];
-					if (optionEntry.length == 0) {
-						field.setType(Type.TEXT);
-					} else {
-						field.setType(Type.SELECT);
-						String[] options = new String[optionEntry.length];
-						for (int j = 0; j < options.length; j++) {
-							options[j] = (String) optionEntry[j];
-						}
-						field.setOptions(options);
+			return parseActions((Object[]) call(monitor, "ticket.getActions", id)); //$NON-NLS-1$
+		} else {
+			return parseAvailableActions((Object[]) call(monitor, "ticket.getAvailableActions", id)); //$NON-NLS-1$
+		}
+	}
+
+	private JiraAction[] parseActions(Object[] actions) {
+		JiraAction[] result = new JiraAction[actions.length];
+		for (int i = 0; i < result.length; i++) {
+			Object[] entry = (Object[]) actions[i];
+			JiraAction action = new JiraAction((String) entry[0]);
+			action.setLabel((String) entry[1]);
+			action.setHint((String) entry[2]);
+			Object[] inputs = (Object[]) entry[3];
+			// each action can be associated with fields
+			for (Object inputArray : inputs) {
+				Object[] inputEntry = (Object[]) inputArray;
+				JiraTicketField field = new JiraTicketField((String) inputEntry[0]);
+				field.setDefaultValue((String) inputEntry[1]);
+				Object[] optionEntry = (Object[]) inputEntry[2];
+				if (optionEntry.length == 0) {
+					field.setType(Type.TEXT);
+				} else {
+					field.setType(Type.SELECT);
+					String[] options = new String[optionEntry.length];
+					for (int j = 0; j < options.length; j++) {
+						options[j] = (String) optionEntry[j];
 					}
-					action.addField(field);
+					field.setOptions(options);
 				}
-				result[i] = action;
+				action.addField(field);
 			}
-			return result;
-		} else {
-			Object[] actions = (Object[]) call(monitor, "ticket.getAvailableActions", id); //$NON-NLS-1$
-			JiraAction[] result = new JiraAction[actions.length];
-			for (int i = 0; i < result.length; i++) {
-				result[i] = new JiraAction((String) actions[i]);
-			}
-			return result;
+			result[i] = action;
 		}
+		return result;
+	}
+
+	private JiraAction[] parseAvailableActions(Object[] actions) {
+		JiraAction[] result = new JiraAction[actions.length];
+		for (int i = 0; i < result.length; i++) {
+			result[i] = new JiraAction((String) actions[i]);
+		}
+		return result;
 	}
 
 	public Date getTicketLastChanged(Integer id, IProgressMonitor monitor) throws JiraException {
@@ -16,6 +16,7 @@ package org.eclipse.mylyn.internal.jira.core.client;
 import java.io.BufferedReader;
 import java.io.IOException;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
 import java.util.StringTokenizer;
 
@@ -23,37 +24,91 @@ import org.eclipse.mylyn.internal.jira.core.model.JiraTicket;
 import org.eclipse.mylyn.internal.jira.core.model.JiraTicket.Key;
 import org.eclipse.mylyn.internal.jira.core.util.JiraUtil;
 
+/**
+ * Parses the tab separated output of the Jira query script. By default parsed tickets are retained and can be
+ * retrieved through {@link #getTickets()}. If a {@link JiraTicketCollector} is specified tickets are passed to the
+ * collector as each line is parsed and are not retained.
+ */
 public class WebSearchResultParser {
 
 	private final List<JiraTicket> tickets = new ArrayList<JiraTicket>();
 
+	private final JiraTicketCollector collector;
+
+	public WebSearchResultParser() {
+		this(null);
+	}
+
+	/**
+	 * @param collector
+	 *            receives parsed tickets, if <code>null</code> tickets are retained in {@link #getTickets()}
+	 */
+	public WebSearchResultParser(JiraTicketCollector collector) {
+		this.collector = collector;
+	}
+
 	public void parse(BufferedReader reader) throws IOException, JiraException {
 		Key[] fields = parseHeader(reader);
 		parseTickets(reader, fields);
 	}
 
-	public void parseTickets(BufferedReader reader, Key[] fields) throws IOException, InvalidTicketException {
+	public void parseTickets(BufferedReader reader, Key[] fields) throws IOException, JiraException {
 		// create a ticket for each following line of output
 		String line;
 		while ((line = reader.readLine()) != null) {
 			JiraTicket ticket = new JiraTicket();
-			tickets.add(ticket);
-
-			// include delimiters to detect empty values
-			StringTokenizer t = new StringTokenizer(line, "\t", true); //$NON-NLS-1$
-			for (int i = 0; i < fields.length && t.hasMoreTokens(); i++) {
-				String nextToken = t.nextToken();
-				if (nextToken.equals("\t")) { //$NON-NLS-1$
-					// process empty value
-					nextToken = ""; //$NON-NLS-1$
-				} else if (t.hasMoreTokens()) {
-					// skip delimiter
-					t.nextToken();
+			int start = 0;
+			for (int i = 0; i < fields.length && start < line.length(); i++) {
+				int end = line.indexOf('\t', start);
+				if (end == -1) {
+					end = line.length();
 				}
 				Key key = fields[i];
 				if (key != null) {
-					assignTicketValue(ticket, key, nextToken);
+					assignTicketValue(ticket, key, line.substring(start, end));
+				}
+				start = end + 1;
+			}
+
+			if (collector != null) {
+				collector.accept(ticket);
+			} else {
+				tickets.add(ticket);
+			}
+		}
+	}
+
+	/**
+	 * Parses only the id column of the query output and adds valid ids to <code>result</code> without creating
+	 * tickets.
+	 */
+	public void parseIds(BufferedReader reader, List<Integer> result) throws IOException, JiraException {
+		Key[] fields = parseHeader(reader);
+		int column = Arrays.asList(fields).indexOf(Key.ID);
+		if (column == -1) {
+			throw new InvalidTicketException();
+		}
+
+		String line;
+		while ((line = reader.readLine()) != null) {
+			int start = 0;
+			for (int i = 0; i < column && start != -1; i++) {
+				start = line.indexOf('\t', start);
+				if (start != -1) {
+					start++;
+				}
+			}
+			if (start == -1 || start >= line.length()) {
+				continue;
+			}
+			int end = line.indexOf('\t', start);
+			try {
+				int id = Integer.parseInt(line.substring(start, (end != -1) ? end : line.length()));
+				if (id != JiraTicket.INVALID_ID) {
+					result.add(id);
 				}
+			} catch (NumberFormatException e) {
+				// ignore, consistent with tickets that have an invalid id
 			}
 		}
 	}
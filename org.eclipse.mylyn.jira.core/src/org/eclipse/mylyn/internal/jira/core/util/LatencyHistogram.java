@@ -0,0 +1,106 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Tasktop Technologies and others.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * https://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Tasktop Technologies - initial API and implementation
+ *******************************************************************************/
+
+package org.eclipse.mylyn.internal.jira.core.util;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Records request latencies in buckets with exponentially growing bounds. The bucket at index <code>i</code> counts
+ * latencies up to <code>2^i</code> milliseconds, the last bucket counts all latencies that exceed the largest bound.
+ * Recording is lock-free and may be invoked concurrently.
+ */
+public class LatencyHistogram {
+
+	static final int BUCKET_COUNT = 18;
+
+	private final AtomicLongArray buckets = new AtomicLongArray(BUCKET_COUNT);
+
+	private final AtomicLong count = new AtomicLong();
+
+	private final AtomicLong total = new AtomicLong();
+
+	private final AtomicLong max = new AtomicLong();
+
+	public void record(long millis) {
+		if (millis < 0) {
+			millis = 0;
+		}
+		buckets.incrementAndGet(getBucket(millis));
+		count.incrementAndGet();
+		total.addAndGet(millis);
+		long currentMax;
+		while ((currentMax = max.get()) < millis) {
+			if (max.compareAndSet(currentMax, millis)) {
+				break;
+			}
+		}
+	}
+
+	static int getBucket(long millis) {
+		if (millis <= 1) {
+			return 0;
+		}
+		int bucket = 64 - Long.numberOfLeadingZeros(millis - 1);
+		return Math.min(bucket, BUCKET_COUNT - 1);
+	}
+
+	/**
+	 * Returns the upper bound in milliseconds of latencies counted by <code>bucket</code> or
+	 * <code>Long.MAX_VALUE</code> for the last bucket.
+	 */
+	static long getUpperBound(int bucket) {
+		return (bucket < BUCKET_COUNT - 1) ? 1L << bucket : Long.MAX_VALUE;
+	}
+
+	public long getCount() {
+		return count.get();
+	}
+
+	public long getMax() {
+		return max.get();
+	}
+
+	public long getMean() {
+		long n = count.get();
+		return (n > 0) ? total.get() / n : 0;
+	}
+
+	/**
+	 * Returns an upper bound for the latency in milliseconds that <code>percentile</code> percent of recorded requests
+	 * did not exceed, or 0 if no latencies have been recorded.
+	 */
+	public long getPercentile(double percentile) {
+		long n = count.get();
+		if (n == 0) {
+			return 0;
+		}
+		long threshold = (long) Math.ceil(n * percentile / 100.0);
+		long seen = 0;
+		for (int i = 0; i < BUCKET_COUNT; i++) {
+			seen += buckets.get(i);
+			if (seen >= threshold) {
+				return Math.min(getUpperBound(i), getMax());
+			}
+		}
+		return getMax();
+	}
+
+	@Override
+	public String toString() {
+		return "count=" + getCount() + ", mean=" + getMean() + "ms, p50=" + getPercentile(50) + "ms, p90=" //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$ //$NON-NLS-4$
+				+ getPercentile(90) + "ms, p99=" + getPercentile(99) + "ms, max=" + getMax() + "ms"; //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$
+	}
+
+}
@@ -25,6 +25,7 @@ import org.eclipse.core.runtime.NullProgressMonitor;
 import org.eclipse.mylyn.internal.jira.core.client.JiraException;
 import org.eclipse.mylyn.internal.jira.core.client.JiraPermissionDeniedException;
 import org.eclipse.mylyn.internal.jira.core.client.JiraRemoteException;
+import org.eclipse.mylyn.internal.jira.core.client.JiraTicketCollector;
 import org.eclipse.mylyn.internal.jira.core.client.JiraXmlRpcClient;
 import org.eclipse.mylyn.internal.jira.core.model.JiraSearch;
 import org.eclipse.mylyn.internal.jira.core.model.JiraSearchFilter;
@@ -128,6 +129,25 @@ public class JiraXmlRpcClientTest extends TestCase {
 		JiraTestUtil.assertTicketEquals(ticket, result.get(0));
 	}
 
+	public void testSearchChunked() throws Exception {
+		String uniqueTag = RandomStringUtils.randomAlphanumeric(6);
+		JiraTicket ticket1 = harness.createTicket("searchChunked1 " + uniqueTag);
+		JiraTicket ticket2 = harness.createTicket("searchChunked2 " + uniqueTag);
+		JiraTicket ticket3 = harness.createTicket("searchChunked3 " + uniqueTag);
+
+		client.setMaxTicketsPerMulticall(2);
+		JiraSearch search = new JiraSearch();
+		search.addFilter(new JiraSearchFilter("summary", CompareOperator.CONTAINS, uniqueTag));
+		final List<Integer> result = new ArrayList<Integer>();
+		client.search(search, new JiraTicketCollector() {
+			@Override
+			public void accept(JiraTicket ticket) {
+				result.add(ticket.getId());
+			}
+		}, null);
+		assertEquals(Arrays.asList(ticket1.getId(), ticket2.getId(), ticket3.getId()), result);
+	}
+
 	public void testGetTicketActions() throws Exception {
 		JiraTicket ticket = harness.createTicket("getTicketActions");
 		JiraAction[] actions = ticket.getActions();
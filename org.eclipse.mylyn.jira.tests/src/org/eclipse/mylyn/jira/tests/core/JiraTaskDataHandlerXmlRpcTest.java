@@ -19,12 +19,16 @@ import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.Date;
+import java.util.HashMap;
 import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 
 import junit.framework.TestCase;
 
 import org.eclipse.core.runtime.CoreException;
+import org.eclipse.core.runtime.IStatus;
 import org.eclipse.core.runtime.NullProgressMonitor;
 import org.eclipse.mylyn.commons.net.AuthenticationCredentials;
 import org.eclipse.mylyn.commons.net.AuthenticationType;
@@ -53,6 +57,7 @@ import org.eclipse.mylyn.tasks.core.data.AbstractTaskAttachmentHandler;
 import org.eclipse.mylyn.tasks.core.data.TaskAttribute;
 import org.eclipse.mylyn.tasks.core.data.TaskAttributeMapper;
 import org.eclipse.mylyn.tasks.core.data.TaskData;
+import org.eclipse.mylyn.tasks.core.data.TaskDataCollector;
 import org.eclipse.mylyn.tasks.core.data.TaskMapper;
 import org.eclipse.mylyn.tasks.core.data.TaskOperation;
 import org.eclipse.mylyn.tasks.core.data.TaskRelation;
@@ -377,6 +382,33 @@ public class JiraTaskDataHandlerXmlRpcTest extends TestCase {
 		assertTrue(initialized);
 	}
 
+	public void testGetMultiTaskData() throws Exception {
+		JiraTicket ticket1 = harness.createTicket("getMultiTaskData1");
+		JiraTicket ticket2 = harness.createTicket("getMultiTaskData2");
+		Set<String> taskIds = new HashSet<String>(Arrays.asList(ticket1.getId() + "", ticket2.getId() + "",
+				Integer.MAX_VALUE + ""));
+		final Map<String, TaskData> results = new HashMap<String, TaskData>();
+		final Set<String> failed = new HashSet<String>();
+		assertTrue(taskDataHandler.canGetMultiTaskData(repository));
+		taskDataHandler.getMultiTaskData(repository, taskIds, new TaskDataCollector() {
+			@Override
+			public void accept(TaskData taskData) {
+				results.put(taskData.getTaskId(), taskData);
+			}
+
+			@Override
+			public void failed(String taskId, IStatus status) {
+				failed.add(taskId);
+			}
+		}, null);
+		assertEquals(2, results.size());
+		assertEquals("getMultiTaskData1",
+				results.get(ticket1.getId() + "").getRoot().getMappedAttribute(TaskAttribute.SUMMARY).getValue());
+		TaskData taskData = results.get(ticket2.getId() + "");
+		assertFalse(taskData.getAttributeMapper().getAttributesByType(taskData, TaskAttribute.TYPE_OPERATION).isEmpty());
+		assertEquals(Collections.singleton(Integer.MAX_VALUE + ""), failed);
+	}
+
 	public void testOperations() throws Exception {
 		boolean hasReassign = JiraFixture.current().getVersion().compareTo("0.11") >= 0;
 
@@ -0,0 +1,159 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Tasktop Technologies and others.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * https://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Tasktop Technologies - initial API and implementation
+ *******************************************************************************/
+
+package org.eclipse.mylyn.internal.tasks.activity.core;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.eclipse.core.runtime.Assert;
+import org.eclipse.mylyn.tasks.activity.core.ActivityEvent;
+
+/**
+ * Stores the events of an activity scope keyed by handle. A sorted snapshot of the events is computed on demand and
+ * reused until the events change which makes repeated and paged reads cheap.
+ * <p>
+ * The store also tracks whether the events reflect the current result of the providers. Results are replaced through
+ * {@link #setEvents(Collection, int)} which only marks the store as valid if it was not invalidated while the providers
+ * were queried.
+ */
+public class ActivityEventStore {
+
+	private final Map<String, ActivityEvent> eventByHandle = new HashMap<String, ActivityEvent>();
+
+	private List<ActivityEvent> sortedEvents;
+
+	private boolean valid;
+
+	private int generation;
+
+	/**
+	 * Adds <code>event</code> replacing an event with the same handle.
+	 */
+	public synchronized void put(ActivityEvent event) {
+		Assert.isNotNull(event);
+		ActivityEvent previous = eventByHandle.put(event.getHandle(), event);
+		if (previous != event) {
+			sortedEvents = null;
+		}
+	}
+
+	public synchronized void remove(String handle) {
+		if (eventByHandle.remove(handle) != null) {
+			sortedEvents = null;
+		}
+	}
+
+	public synchronized boolean contains(String handle) {
+		return eventByHandle.containsKey(handle);
+	}
+
+	/**
+	 * Replaces the stored events by <code>events</code>. Events that are retained keep their position in the sorted
+	 * snapshot unless their date changed.
+	 *
+	 * @param generation
+	 *            the value of {@link #getGeneration()} before <code>events</code> were computed; the store is only
+	 *            marked as valid if it has not been invalidated since
+	 */
+	public synchronized void setEvents(Collection<ActivityEvent> events, int generation) {
+		Map<String, ActivityEvent> newEvents = new HashMap<String, ActivityEvent>();
+		for (ActivityEvent event : events) {
+			newEvents.put(event.getHandle(), event);
+		}
+		if (!newEvents.equals(eventByHandle) || !sameDates(newEvents)) {
+			eventByHandle.clear();
+			eventByHandle.putAll(newEvents);
+			sortedEvents = null;
+		} else {
+			// update summaries and attributes without resorting
+			eventByHandle.putAll(newEvents);
+			if (sortedEvents != null) {
+				List<ActivityEvent> updated = new ArrayList<ActivityEvent>(sortedEvents.size());
+				for (ActivityEvent event : sortedEvents) {
+					updated.add(eventByHandle.get(event.getHandle()));
+				}
+				sortedEvents = Collections.unmodifiableList(updated);
+			}
+		}
+		if (this.generation == generation) {
+			valid = true;
+		}
+	}
+
+	private boolean sameDates(Map<String, ActivityEvent> newEvents) {
+		for (ActivityEvent event : newEvents.values()) {
+			if (event.compareTo(eventByHandle.get(event.getHandle())) != 0) {
+				return false;
+			}
+		}
+		return true;
+	}
+
+	/**
+	 * Returns an unmodifiable list of all events sorted by date.
+	 */
+	public synchronized List<ActivityEvent> getEvents() {
+		if (sortedEvents == null) {
+			List<ActivityEvent> events = new ArrayList<ActivityEvent>(eventByHandle.values());
+			Collections.sort(events);
+			sortedEvents = Collections.unmodifiableList(events);
+		}
+		return sortedEvents;
+	}
+
+	/**
+	 * Returns up to <code>limit</code> events sorted by date starting at index <code>offset</code>.
+	 */
+	public synchronized List<ActivityEvent> getEvents(int offset, int limit) {
+		Assert.isLegal(offset >= 0);
+		Assert.isLegal(limit >= 0);
+		List<ActivityEvent> events = getEvents();
+		if (offset >= events.size()) {
+			return Collections.emptyList();
+		}
+		return events.subList(offset, (int) Math.min((long) offset + limit, events.size()));
+	}
+
+	public synchronized int size() {
+		return eventByHandle.size();
+	}
+
+	public synchronized boolean isValid() {
+		return valid;
+	}
+
+	public synchronized int getGeneration() {
+		return generation;
+	}
+
+	/**
+	 * Marks the events as outdated. The events remain available until they are replaced.
+	 */
+	public synchronized void invalidate() {
+		valid = false;
+		generation++;
+	}
+
+	public synchronized void clear() {
+		eventByHandle.clear();
+		sortedEvents = null;
+		valid = false;
+		generation++;
+	}
+
+}
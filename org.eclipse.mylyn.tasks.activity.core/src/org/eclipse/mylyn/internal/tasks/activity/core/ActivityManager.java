@@ -11,30 +11,223 @@
 
 package org.eclipse.mylyn.internal.tasks.activity.core;
 
+import java.util.ArrayList;
 import java.util.Collection;
-import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
 import java.util.Set;
-import java.util.TreeSet;
 
+import org.eclipse.core.runtime.CoreException;
+import org.eclipse.core.runtime.IProgressMonitor;
+import org.eclipse.mylyn.internal.tasks.core.ITaskList;
+import org.eclipse.mylyn.internal.tasks.core.ITaskListChangeListener;
+import org.eclipse.mylyn.internal.tasks.core.TaskContainerDelta;
+import org.eclipse.mylyn.internal.tasks.core.data.ITaskDataManagerListener;
+import org.eclipse.mylyn.internal.tasks.core.data.TaskDataManager;
+import org.eclipse.mylyn.internal.tasks.core.data.TaskDataManagerEvent;
 import org.eclipse.mylyn.tasks.activity.core.ActivityEvent;
 import org.eclipse.mylyn.tasks.activity.core.ActivityScope;
 import org.eclipse.mylyn.tasks.activity.core.IActivityManager;
 import org.eclipse.mylyn.tasks.activity.core.IActivityStream;
+import org.eclipse.mylyn.tasks.activity.core.TaskActivityScope;
 import org.eclipse.mylyn.tasks.activity.core.spi.IActivitySession;
+import org.eclipse.mylyn.tasks.core.ITask;
 
 /**
+ * Maintains the events of activity scopes. Events of task scopes are stored per task handle and the results of
+ * providers are cached until they are invalidated by changes to tasks or task data. Events that are fired without a
+ * scope are stored in a shared store. The stores of the least recently used task scopes are discarded when more than
+ * {@link #MAX_STORES} task scopes are cached, stores of deleted tasks are discarded right away.
+ *
  * @author Steffen Pingel
  */
+@SuppressWarnings("restriction")
 public class ActivityManager implements IActivityManager, IActivitySession {
 
-	private final Set<ActivityEvent> events;
+	public static final int MAX_STORES = 50;
+
+	private final ActivityEventStore events;
+
+	/**
+	 * Maps task handles to stores in least recently used order, guarded by itself.
+	 */
+	private final Map<String, ActivityEventStore> storeByHandle;
+
+	private final ITaskListChangeListener taskListListener = new ITaskListChangeListener() {
+		public void containersChanged(Set<TaskContainerDelta> deltas) {
+			boolean changed = false;
+			for (TaskContainerDelta delta : deltas) {
+				if (delta.isTransient() || !(delta.getElement() instanceof ITask)) {
+					continue;
+				}
+				switch (delta.getKind()) {
+				case DELETED:
+					removeStore(((ITask) delta.getElement()).getHandleIdentifier());
+					changed = true;
+					break;
+				case ADDED:
+				case REMOVED:
+				case CONTENT:
+					changed = true;
+					break;
+				}
+			}
+			if (changed) {
+				// any task may reference a scope, hence all cached results are affected
+				invalidate();
+			}
+		}
+	};
+
+	private final ITaskDataManagerListener taskDataManagerListener = new ITaskDataManagerListener() {
+		public void taskDataUpdated(TaskDataManagerEvent event) {
+			invalidate();
+		}
+
+		public void editsDiscarded(TaskDataManagerEvent event) {
+			invalidate();
+		}
+	};
+
+	private ITaskList taskList;
+
+	private TaskDataManager taskDataManager;
 
 	public ActivityManager() {
-		this.events = Collections.synchronizedSet(new TreeSet<ActivityEvent>());
+		this.events = new ActivityEventStore();
+		this.storeByHandle = new LinkedHashMap<String, ActivityEventStore>(16, 0.75f, true) {
+			private static final long serialVersionUID = 1L;
+
+			@Override
+			protected boolean removeEldestEntry(Map.Entry<String, ActivityEventStore> eldest) {
+				return size() > MAX_STORES;
+			}
+		};
+	}
+
+	/**
+	 * Invalidates cached results when tasks in <code>taskList</code> or task data managed by
+	 * <code>taskDataManager</code> change. Invoking this method again with the same arguments has no effect.
+	 */
+	public synchronized void connect(ITaskList taskList, TaskDataManager taskDataManager) {
+		if (this.taskList == taskList && this.taskDataManager == taskDataManager) {
+			return;
+		}
+		disconnect();
+		this.taskList = taskList;
+		this.taskDataManager = taskDataManager;
+		if (taskList != null) {
+			taskList.addChangeListener(taskListListener);
+		}
+		if (taskDataManager != null) {
+			taskDataManager.addListener(taskDataManagerListener);
+		}
+		invalidate();
+	}
+
+	public synchronized void disconnect() {
+		if (taskList != null) {
+			taskList.removeChangeListener(taskListListener);
+			taskList = null;
+		}
+		if (taskDataManager != null) {
+			taskDataManager.removeListener(taskDataManagerListener);
+			taskDataManager = null;
+		}
 	}
 
 	public Collection<ActivityEvent> getEvents(ActivityScope scope) {
-		return events;
+		return getStore(scope).getEvents();
+	}
+
+	ActivityEventStore getStore(ActivityScope scope) {
+		String handle = getHandle(scope);
+		if (handle == null) {
+			return events;
+		}
+		synchronized (storeByHandle) {
+			ActivityEventStore store = storeByHandle.get(handle);
+			if (store == null) {
+				store = new ActivityEventStore();
+				storeByHandle.put(handle, store);
+			}
+			return store;
+		}
+	}
+
+	private void removeStore(String handle) {
+		synchronized (storeByHandle) {
+			storeByHandle.remove(handle);
+		}
+	}
+
+	/**
+	 * Returns the number of task scopes that have a store.
+	 */
+	public int getStoreCount() {
+		synchronized (storeByHandle) {
+			return storeByHandle.size();
+		}
+	}
+
+	private static String getHandle(ActivityScope scope) {
+		if (scope instanceof TaskActivityScope) {
+			ITask task = ((TaskActivityScope) scope).getTask();
+			if (task != null) {
+				return task.getHandleIdentifier();
+			}
+		}
+		return null;
+	}
+
+	/**
+	 * Queries the providers for events of <code>scope</code> unless the cached events of the scope are valid.
+	 */
+	public void query(ActivityScope scope, IProgressMonitor monitor) throws CoreException {
+		ActivityEventStore store = getStore(scope);
+		if (store == events) {
+			// events without a scope are only fired, results can not be cached
+			query(scope, this, monitor);
+			return;
+		}
+		if (store.isValid()) {
+			return;
+		}
+		int generation = store.getGeneration();
+		final List<ActivityEvent> result = new ArrayList<ActivityEvent>();
+		query(scope, new IActivitySession() {
+			public IActivityManager getManger() {
+				return ActivityManager.this;
+			}
+
+			public void fireActivityEvent(ActivityEvent event) {
+				result.add(event);
+			}
+		}, monitor);
+		store.setEvents(result, generation);
+	}
+
+	private void query(ActivityScope scope, IActivitySession session, IProgressMonitor monitor)
+			throws CoreException {
+		TaskActivityProvider provider = new TaskActivityProvider();
+		provider.open(session);
+		try {
+			provider.query(scope, monitor);
+		} finally {
+			provider.close();
+		}
+	}
+
+	/**
+	 * Marks the cached events of all scopes as outdated.
+	 */
+	public void invalidate() {
+		synchronized (storeByHandle) {
+			for (ActivityEventStore store : storeByHandle.values()) {
+				store.invalidate();
+			}
+		}
 	}
 
 	public IActivityStream getStream(ActivityScope scope) {
@@ -46,6 +239,6 @@ public class ActivityManager implements IActivityManager, IActivitySession {
 	}
 
 	public void fireActivityEvent(ActivityEvent event) {
-		events.add(event);
+		events.put(event);
 	}
-}
\ No newline at end of file
+}
@@ -11,9 +11,9 @@
 
 package org.eclipse.mylyn.internal.tasks.activity.core;
 
-import java.util.Collections;
+import java.util.LinkedHashSet;
+import java.util.List;
 import java.util.Set;
-import java.util.TreeSet;
 
 import org.eclipse.core.runtime.Assert;
 import org.eclipse.core.runtime.CoreException;
@@ -24,44 +24,45 @@ import org.eclipse.mylyn.tasks.activity.core.IActivityManager;
 import org.eclipse.mylyn.tasks.activity.core.IActivityStream;
 
 /**
+ * A view of the events that the {@link ActivityManager} stores for a scope.
+ *
  * @author Steffen Pingel
  * @author Timur Achmetow
  */
 public class ActivityStream implements IActivityStream {
 
-	private final Set<ActivityEvent> events;
-
 	private final ActivityScope scope;
 
 	private final ActivityManager manager;
 
+	private final ActivityEventStore store;
+
 	public ActivityStream(ActivityManager manager, ActivityScope scope) {
 		Assert.isNotNull(manager);
 		Assert.isNotNull(scope);
 		this.manager = manager;
 		this.scope = scope;
-		this.events = Collections.synchronizedSet(new TreeSet<ActivityEvent>());
-		initialize();
-	}
-
-	private void initialize() {
-		events.addAll(manager.getEvents(scope));
+		this.store = manager.getStore(scope);
 	}
 
 	public void query(IProgressMonitor monitor) throws CoreException {
-		TaskActivityProvider reviewTaskProvider = new TaskActivityProvider();
-		reviewTaskProvider.open(manager);
-		reviewTaskProvider.query(scope, monitor);
-
-		initialize();
+		manager.query(scope, monitor);
 	}
 
 	public void addEvent(ActivityEvent event) {
-		events.add(event);
+		store.put(event);
 	}
 
 	public Set<ActivityEvent> getEvents() {
-		return events;
+		return new LinkedHashSet<ActivityEvent>(store.getEvents());
+	}
+
+	public List<ActivityEvent> getEvents(int offset, int limit) {
+		return store.getEvents(offset, limit);
+	}
+
+	public int getEventCount() {
+		return store.size();
 	}
 
 	public IActivityManager getManager() {
@@ -73,6 +74,6 @@ public class ActivityStream implements IActivityStream {
 	}
 
 	public void removeEvent(ActivityEvent event) {
-		events.remove(event);
+		store.remove(event.getHandle());
 	}
-}
\ No newline at end of file
+}
@@ -95,6 +95,11 @@ public class ActivityEvent implements Comparable<ActivityEvent> {
 	}
 
 	public int compareTo(ActivityEvent object) {
-		return CoreUtil.compare(date, object.getDate());
+		int result = CoreUtil.compare(date, object.getDate());
+		if (result == 0) {
+			// consistent with equals() so that sorted sets retain events with the same date
+			result = handle.compareTo(object.getHandle());
+		}
+		return result;
 	}
 }
\ No newline at end of file
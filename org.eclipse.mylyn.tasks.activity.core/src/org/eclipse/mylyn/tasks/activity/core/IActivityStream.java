@@ -11,6 +11,7 @@
 
 package org.eclipse.mylyn.tasks.activity.core;
 
+import java.util.List;
 import java.util.Set;
 
 import org.eclipse.core.runtime.CoreException;
@@ -26,7 +27,22 @@ public interface IActivityStream {
 
 	Set<ActivityEvent> getEvents();
 
+	/**
+	 * Returns up to <code>limit</code> events starting at index <code>offset</code> in the order of
+	 * {@link #getEvents()}.
+	 */
+	List<ActivityEvent> getEvents(int offset, int limit);
+
+	/**
+	 * Returns the number of events in the stream.
+	 */
+	int getEventCount();
+
 	ActivityScope getScope();
 
+	/**
+	 * Queries the providers for events of the scope. Results are cached and providers are only queried again after
+	 * tasks have changed.
+	 */
 	void query(IProgressMonitor monitor) throws CoreException;
 }
@@ -0,0 +1,108 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Tasktop Technologies and others.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * https://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Tasktop Technologies - initial API and implementation
+ *******************************************************************************/
+
+package org.eclipse.mylyn.tasks.activity.tests;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Date;
+
+import org.eclipse.mylyn.internal.tasks.activity.core.ActivityEventStore;
+import org.eclipse.mylyn.tasks.activity.core.ActivityEvent;
+import org.junit.Test;
+
+@SuppressWarnings("restriction")
+public class ActivityEventStoreTest {
+
+	private final ActivityEventStore store = new ActivityEventStore();
+
+	private ActivityEvent createEvent(String handle, long date) {
+		return new ActivityEvent(handle, "kind", "summary " + handle, new Date(date), null);
+	}
+
+	@Test
+	public void testGetEventsSortedByDate() {
+		ActivityEvent event1 = createEvent("1", 20);
+		ActivityEvent event2 = createEvent("2", 10);
+		ActivityEvent event3 = createEvent("3", 10);
+		store.put(event1);
+		store.put(event2);
+		store.put(event3);
+		assertEquals(Arrays.asList(event2, event3, event1), store.getEvents());
+		assertEquals(3, store.size());
+	}
+
+	@Test
+	public void testPutReplacesEventWithSameHandle() {
+		store.put(createEvent("1", 10));
+		ActivityEvent event = createEvent("1", 20);
+		store.put(event);
+		assertEquals(1, store.size());
+		assertSame(event, store.getEvents().get(0));
+	}
+
+	@Test
+	public void testGetEventsPaged() {
+		for (int i = 0; i < 5; i++) {
+			store.put(createEvent(Integer.toString(i), i));
+		}
+		assertEquals(Arrays.asList(createEvent("1", 1), createEvent("2", 2)), store.getEvents(1, 2));
+		assertEquals(Arrays.asList(createEvent("4", 4)), store.getEvents(4, 10));
+		assertEquals(Collections.emptyList(), store.getEvents(5, 10));
+		assertEquals(5, store.getEvents(0, Integer.MAX_VALUE).size());
+	}
+
+	@Test
+	public void testSetEvents() {
+		store.put(createEvent("1", 10));
+		store.put(createEvent("2", 20));
+		assertFalse(store.isValid());
+
+		ActivityEvent event = createEvent("2", 20);
+		store.setEvents(Arrays.asList(event, createEvent("3", 5)), store.getGeneration());
+		assertTrue(store.isValid());
+		assertEquals(Arrays.asList(createEvent("3", 5), event), store.getEvents());
+		assertFalse(store.contains("1"));
+	}
+
+	@Test
+	public void testSetEventsUpdatesRetainedEvents() {
+		store.setEvents(Arrays.asList(createEvent("1", 10)), store.getGeneration());
+		store.getEvents();
+
+		ActivityEvent event = new ActivityEvent("1", "kind", "changed", new Date(10), null);
+		store.setEvents(Collections.singletonList(event), store.getGeneration());
+		assertSame(event, store.getEvents().get(0));
+	}
+
+	@Test
+	public void testSetEventsAfterInvalidate() {
+		int generation = store.getGeneration();
+		store.invalidate();
+		store.setEvents(Collections.singletonList(createEvent("1", 10)), generation);
+		assertFalse(store.isValid());
+		assertEquals(1, store.size());
+
+		store.setEvents(Collections.singletonList(createEvent("1", 10)), store.getGeneration());
+		assertTrue(store.isValid());
+		store.invalidate();
+		assertFalse(store.isValid());
+		assertEquals(1, store.size());
+	}
+
+}
@@ -0,0 +1,69 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Tasktop Technologies and others.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * https://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Tasktop Technologies - initial API and implementation
+ *******************************************************************************/
+
+package org.eclipse.mylyn.tasks.activity.tests;
+
+import static org.junit.Assert.assertEquals;
+
+import org.eclipse.mylyn.internal.tasks.activity.core.ActivityManager;
+import org.eclipse.mylyn.internal.tasks.core.LocalRepositoryConnector;
+import org.eclipse.mylyn.internal.tasks.core.TaskList;
+import org.eclipse.mylyn.internal.tasks.core.TaskTask;
+import org.eclipse.mylyn.tasks.activity.core.TaskActivityScope;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+@SuppressWarnings("restriction")
+public class ActivityManagerTest {
+
+	private ActivityManager manager;
+
+	private TaskList taskList;
+
+	@Before
+	public void setUp() throws Exception {
+		taskList = new TaskList();
+		manager = new ActivityManager();
+		manager.connect(taskList, null);
+	}
+
+	@After
+	public void tearDown() throws Exception {
+		manager.disconnect();
+	}
+
+	private TaskTask createTask(String taskId) {
+		return new TaskTask(LocalRepositoryConnector.CONNECTOR_KIND, LocalRepositoryConnector.REPOSITORY_URL, taskId);
+	}
+
+	@Test
+	public void testStoreRemovedOnDelete() {
+		TaskTask task = createTask("1");
+		taskList.addTask(task);
+		manager.getEvents(new TaskActivityScope(task));
+		assertEquals(1, manager.getStoreCount());
+
+		taskList.deleteTask(task);
+		assertEquals(0, manager.getStoreCount());
+	}
+
+	@Test
+	public void testStoreCountBounded() {
+		for (int i = 0; i < ActivityManager.MAX_STORES + 10; i++) {
+			manager.getEvents(new TaskActivityScope(createTask(Integer.toString(i))));
+		}
+		assertEquals(ActivityManager.MAX_STORES, manager.getStoreCount());
+	}
+
+}
@@ -15,9 +15,11 @@ package org.eclipse.mylyn.internal.tasks.activity.ui;
 import org.eclipse.jface.layout.GridDataFactory;
 import org.eclipse.jface.viewers.DecoratingStyledCellLabelProvider;
 import org.eclipse.jface.viewers.TreeViewer;
+import org.eclipse.mylyn.internal.tasks.activity.core.ActivityCoreInternal;
 import org.eclipse.mylyn.internal.tasks.activity.core.ActivityManager;
 import org.eclipse.mylyn.internal.tasks.activity.ui.provider.ActivityRecordContentProvider;
 import org.eclipse.mylyn.internal.tasks.activity.ui.provider.ActivityRecordLabelProvider;
+import org.eclipse.mylyn.internal.tasks.ui.TasksUiPlugin;
 import org.eclipse.mylyn.internal.tasks.ui.editors.AbstractTaskEditorSection;
 import org.eclipse.mylyn.internal.tasks.ui.editors.EditorUtil;
 import org.eclipse.mylyn.tasks.activity.core.IActivityStream;
@@ -58,7 +60,9 @@ public class ActivityPart extends AbstractTaskEditorSection {
 		GridDataFactory.fillDefaults().hint(500, 100).grab(true, true).applyTo(viewer.getControl());
 		viewer.setContentProvider(new ActivityRecordContentProvider());
 		viewer.setLabelProvider(new DecoratingStyledCellLabelProvider(new ActivityRecordLabelProvider(), null, null));
-		IActivityStream stream = new ActivityManager().getStream(new TaskActivityScope(getModel().getTask()));
+		ActivityManager manager = ActivityCoreInternal.getActivityManager();
+		manager.connect(TasksUiPlugin.getTaskList(), TasksUiPlugin.getTaskDataManager());
+		IActivityStream stream = manager.getStream(new TaskActivityScope(getModel().getTask()));
 		viewer.setInput(stream);
 
 		EditorUtil.addScrollListener(viewer.getTree());
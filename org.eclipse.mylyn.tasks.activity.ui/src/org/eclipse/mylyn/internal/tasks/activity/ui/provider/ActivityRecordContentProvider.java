@@ -43,7 +43,7 @@ public class ActivityRecordContentProvider implements ITreeContentProvider {
 	}
 
 	public Object[] getElements(Object inputElement) {
-		return activityStream.getEvents().toArray();
+		return activityStream.getEvents(0, activityStream.getEventCount()).toArray();
 	}
 
 	public Object[] getChildren(Object parentElement) {
@@ -0,0 +1,75 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Tasktop Technologies and others.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * https://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Tasktop Technologies - initial API and implementation
+ *******************************************************************************/
+
+package org.eclipse.mylyn.internal.tasks.core;
+
+import junit.framework.TestCase;
+
+public class ActivityTimeSeriesTest extends TestCase {
+
+	private static final long HOUR = 60 * 60 * 1000;
+
+	private ActivityTimeSeries series;
+
+	@Override
+	protected void setUp() throws Exception {
+		series = new ActivityTimeSeries();
+	}
+
+	public void testAddToLastBucket() {
+		assertTrue(series.add(HOUR, 10));
+		assertFalse(series.add(HOUR, 5));
+		assertEquals(1, series.size());
+		assertEquals(15, series.getTotal());
+	}
+
+	public void testAddOutOfOrder() {
+		series.add(3 * HOUR, 3);
+		series.add(HOUR, 1);
+		series.add(2 * HOUR, 2);
+		assertFalse(series.add(HOUR, 10));
+		assertEquals(3, series.size());
+		assertEquals(16, series.getTotal());
+		assertEquals(HOUR, series.getFirstHour());
+		assertEquals(3 * HOUR, series.getLastHour());
+		assertEquals(13, series.getElapsed(HOUR, 3 * HOUR));
+		assertEquals(5, series.getElapsed(2 * HOUR, 4 * HOUR));
+	}
+
+	public void testGetElapsed() {
+		for (int i = 0; i < 1000; i++) {
+			series.add(i * HOUR, i);
+		}
+		assertEquals(999 * 1000 / 2, series.getTotal());
+		assertEquals(0, series.getElapsed(0, 0));
+		assertEquals(10 + 11 + 12, series.getElapsed(10 * HOUR, 13 * HOUR));
+		assertEquals(10 + 11 + 12, series.getElapsed(10 * HOUR - 1, 13 * HOUR - 1));
+		assertEquals(0, series.getElapsed(2000 * HOUR, 3000 * HOUR));
+	}
+
+	public void testRemove() {
+		for (int i = 0; i < 10; i++) {
+			series.add(i * HOUR, 1);
+		}
+		series.remove(2 * HOUR, 5 * HOUR);
+		assertEquals(7, series.size());
+		assertEquals(7, series.getTotal());
+		assertEquals(2, series.getElapsed(0, 5 * HOUR));
+		assertTrue(series.add(3 * HOUR, 4));
+		assertEquals(11, series.getTotal());
+		series.remove(0, 10 * HOUR);
+		assertTrue(series.isEmpty());
+		assertEquals(0, series.getTotal());
+	}
+
+}
@@ -0,0 +1,99 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Tasktop Technologies and others.
+ * 
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * https://www.eclipse.org/legal/epl-2.0
+ * 
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Tasktop Technologies - initial API and implementation
+ *******************************************************************************/
+
+package org.eclipse.mylyn.internal.tasks.core;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+
+import java.util.Map;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import com.google.common.collect.ImmutableMap;
+
+public class AttributeMapTest {
+
+	private AttributeMap map;
+
+	@Before
+	public void setUp() {
+		map = new AttributeMap();
+	}
+
+	@Test
+	public void setAndGetAttribute() {
+		map.setAttribute("key1", "value1");
+		map.setAttribute("key2", "value2");
+
+		assertEquals("value1", map.getAttribute("key1"));
+		assertEquals("value2", map.getAttribute("key2"));
+		assertNull(map.getAttribute("key3"));
+		assertEquals(2, map.size());
+	}
+
+	@Test
+	public void getAttributeWithNonInternedKey() {
+		map.setAttribute("key", "value");
+
+		assertEquals("value", map.getAttribute(new String("key")));
+	}
+
+	@Test
+	public void replaceAttribute() {
+		map.setAttribute("key", "value1");
+		map.setAttribute("key", "value2");
+
+		assertEquals("value2", map.getAttribute("key"));
+		assertEquals(1, map.size());
+	}
+
+	@Test
+	public void removeAttribute() {
+		map.setAttribute("key1", "value1");
+		map.setAttribute("key2", "value2");
+		map.setAttribute("key3", "value3");
+		map.setAttribute("key2", null);
+
+		assertNull(map.getAttribute("key2"));
+		assertEquals(ImmutableMap.of("key1", "value1", "key3", "value3"), map.getAttributes());
+	}
+
+	@Test
+	public void removeMissingAttribute() {
+		map.setAttribute("key", null);
+
+		assertEquals(0, map.size());
+	}
+
+	@Test
+	public void getAttributesReturnsCopy() {
+		map.setAttribute("key", "value");
+		Map<String, String> attributes = map.getAttributes();
+		attributes.put("key", "other");
+
+		assertEquals("value", map.getAttribute("key"));
+	}
+
+	@Test
+	public void keysAndValuesAreInterned() {
+		map.setAttribute(new String("key"), new String("value"));
+
+		String value = map.getAttribute("key");
+		assertSame("value", value);
+		assertSame("key", map.getAttributes().keySet().iterator().next());
+	}
+
+}
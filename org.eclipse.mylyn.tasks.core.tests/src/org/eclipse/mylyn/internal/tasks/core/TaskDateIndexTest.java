@@ -0,0 +1,80 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Tasktop Technologies and others.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * https://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Tasktop Technologies - initial API and implementation
+ *******************************************************************************/
+
+package org.eclipse.mylyn.internal.tasks.core;
+
+import static org.mockito.Mockito.mock;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.Set;
+
+import junit.framework.TestCase;
+
+import org.eclipse.mylyn.tasks.core.ITask;
+
+public class TaskDateIndexTest extends TestCase {
+
+	private TaskDateIndex index;
+
+	private ITask task1;
+
+	private ITask task2;
+
+	@Override
+	protected void setUp() throws Exception {
+		index = new TaskDateIndex();
+		task1 = mock(ITask.class);
+		task2 = mock(ITask.class);
+	}
+
+	public void testPutReplacesInterval() {
+		index.put(task1, 10, 20);
+		index.put(task1, 30, 40);
+		assertEquals(Collections.emptySet(), index.getTasks(10, 20));
+		assertEquals(Collections.singleton(task1), index.getTasks(30, 40));
+		assertEquals(Collections.singleton(task1), index.getTasks());
+	}
+
+	public void testRemove() {
+		index.put(task1, 10, 20);
+		index.put(task2, 10, 20);
+		index.remove(task1);
+		assertFalse(index.contains(task1));
+		assertEquals(Collections.singleton(task2), index.getTasks(10, 20));
+		index.remove(task2);
+		assertEquals(Collections.emptySet(), index.getTasks());
+	}
+
+	public void testGetTasksContainedIn() {
+		index.put(task1, 10, 20);
+		index.put(task2, 15, 30);
+		assertEquals(Collections.singleton(task1), index.getTasksContainedIn(10, 20));
+		assertEquals(Collections.singleton(task2), index.getTasksContainedIn(11, 30));
+		assertEquals(new HashSet<ITask>(Arrays.asList(task1, task2)), index.getTasksContainedIn(0, 100));
+		assertEquals(Collections.emptySet(), index.getTasksContainedIn(10, 19));
+		assertEquals(Collections.emptySet(), index.getTasksContainedIn(20, 10));
+	}
+
+	public void testGetTasksStartingIn() {
+		index.put(task1, 10, 10);
+		index.put(task2, 20, 20);
+		assertEquals(Collections.singleton(task1), index.getTasksStartingIn(10, 20));
+		Set<ITask> tasks = index.getTasksStartingIn(0, 21);
+		assertEquals(2, tasks.size());
+		assertEquals(Collections.emptySet(), index.getTasksStartingIn(11, 20));
+		assertEquals(Collections.emptySet(), index.getTasksStartingIn(20, 20));
+	}
+
+}
@@ -14,14 +14,11 @@
 package org.eclipse.mylyn.internal.tasks.core.externalization;
 
 import static org.junit.Assert.assertEquals;
-import static org.junit.Assert.assertTrue;
+
+import java.util.List;
 
 import org.junit.Before;
 import org.junit.Test;
-import org.w3c.dom.Document;
-import org.w3c.dom.Node;
-import org.w3c.dom.NodeList;
-import org.w3c.dom.Text;
 import org.xml.sax.helpers.AttributesImpl;
 
 public class SaxOrphanBuilderTest {
@@ -103,6 +100,23 @@ public class SaxOrphanBuilderTest {
 		assertOrphans(5, "o1", "o2", "o3", "o4", "o5");
 	}
 
+	@Test
+	public void parseEscapesContent() {
+		AttributesImpl attributes = new AttributesImpl();
+		attributes.addAttribute("", "Handle", "Handle", "", "a&\"<b");
+		builder.startElement("task", attributes);
+		start("attribute");
+		text("x < y & z");
+		builder.endElement();
+		builder.commitOrphan();
+		builder.endElement();
+
+		List<String> orphans = builder.getOrphans();
+		assertEquals(1, orphans.size());
+		assertEquals("<task Handle=\"a&amp;&quot;&lt;b\"><attribute>x &lt; y &amp; z</attribute></task>",
+				orphans.get(0));
+	}
+
 	private void prepareTask(String attributeValue) {
 		start("task");
 		start("attribute");
@@ -119,14 +133,10 @@ public class SaxOrphanBuilderTest {
 	}
 
 	private void assertOrphans(int numOrphans, String... attributeValue) {
-		Document document = builder.getOrphans();
-		assertEquals(1, document.getChildNodes().getLength());
-		NodeList orphans = document.getDocumentElement().getChildNodes();
-		assertEquals(numOrphans, orphans.getLength());
+		List<String> orphans = builder.getOrphans();
+		assertEquals(numOrphans, orphans.size());
 		for (int i = 0; i < attributeValue.length; i++) {
-			Node text = orphans.item(i).getFirstChild().getFirstChild();
-			assertTrue(text instanceof Text);
-			assertEquals(attributeValue[i], ((Text) text).getTextContent());
+			assertEquals("<task><attribute>" + attributeValue[i] + "</attribute></task>", orphans.get(i));
 		}
 	}
 
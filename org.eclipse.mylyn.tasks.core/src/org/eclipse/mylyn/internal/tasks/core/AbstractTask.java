@@ -91,7 +91,7 @@ public abstract class AbstractTask extends AbstractTaskContainer implements ITas
 	// TODO 4.0 make private
 	protected String taskKey;
 
-	private AttributeMap attributeMap;
+	private volatile AttributeMap attributeMap;
 
 	private boolean changed;
 
@@ -495,11 +495,13 @@ public abstract class AbstractTask extends AbstractTaskContainer implements ITas
 		}
 	}
 
-	public synchronized String getAttribute(String key) {
+	public String getAttribute(String key) {
+		AttributeMap attributeMap = this.attributeMap;
 		return (attributeMap != null) ? attributeMap.getAttribute(key) : null;
 	}
 
-	public synchronized Map<String, String> getAttributes() {
+	public Map<String, String> getAttributes() {
+		AttributeMap attributeMap = this.attributeMap;
 		if (attributeMap != null) {
 			return attributeMap.getAttributes();
 		} else {
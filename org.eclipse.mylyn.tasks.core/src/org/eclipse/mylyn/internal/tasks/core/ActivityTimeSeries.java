@@ -0,0 +1,163 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Tasktop Technologies and others.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * https://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Tasktop Technologies - initial API and implementation
+ *******************************************************************************/
+
+package org.eclipse.mylyn.internal.tasks.core;
+
+import java.util.Arrays;
+
+/**
+ * Records elapsed time in buckets that are identified by the time in milliseconds of the start of an hour. Buckets are
+ * kept in sorted primitive arrays together with prefix sums which makes the total constant time and sums over a range
+ * of buckets logarithmic. Time is usually added to the most recent bucket which does not require updating other
+ * buckets.
+ */
+public class ActivityTimeSeries {
+
+	private static final int INITIAL_CAPACITY = 8;
+
+	private long[] hours;
+
+	private long[] elapsed;
+
+	/**
+	 * <code>sums[i]</code> is the total elapsed time of the buckets before index <code>i</code>.
+	 */
+	private long[] sums;
+
+	private int size;
+
+	public ActivityTimeSeries() {
+		hours = new long[INITIAL_CAPACITY];
+		elapsed = new long[INITIAL_CAPACITY];
+		sums = new long[INITIAL_CAPACITY + 1];
+	}
+
+	/**
+	 * Adds <code>time</code> to the bucket of <code>hour</code>.
+	 *
+	 * @return true, if a new bucket was created
+	 */
+	public synchronized boolean add(long hour, long time) {
+		if (size > 0 && hours[size - 1] == hour) {
+			elapsed[size - 1] += time;
+			sums[size] += time;
+			return false;
+		}
+		int index = (size > 0 && hours[size - 1] < hour) ? -(size + 1) : Arrays.binarySearch(hours, 0, size, hour);
+		if (index >= 0) {
+			elapsed[index] += time;
+			for (int i = index + 1; i <= size; i++) {
+				sums[i] += time;
+			}
+			return false;
+		}
+		index = -(index + 1);
+		ensureCapacity(size + 1);
+		System.arraycopy(hours, index, hours, index + 1, size - index);
+		System.arraycopy(elapsed, index, elapsed, index + 1, size - index);
+		hours[index] = hour;
+		elapsed[index] = time;
+		size++;
+		updateSums(index);
+		return true;
+	}
+
+	/**
+	 * Removes all buckets from <code>start</code> (inclusive) to <code>end</code> (exclusive).
+	 */
+	public synchronized void remove(long start, long end) {
+		int from = indexOf(start);
+		int to = indexOf(end);
+		if (from >= to) {
+			return;
+		}
+		System.arraycopy(hours, to, hours, from, size - to);
+		System.arraycopy(elapsed, to, elapsed, from, size - to);
+		size -= to - from;
+		updateSums(from);
+	}
+
+	/**
+	 * Returns the total elapsed time of all buckets.
+	 */
+	public synchronized long getTotal() {
+		return sums[size];
+	}
+
+	/**
+	 * Returns the elapsed time of the buckets from <code>start</code> (inclusive) to <code>end</code> (exclusive).
+	 */
+	public synchronized long getElapsed(long start, long end) {
+		int from = indexOf(start);
+		int to = indexOf(end);
+		return (from < to) ? sums[to] - sums[from] : 0;
+	}
+
+	public synchronized boolean isEmpty() {
+		return size == 0;
+	}
+
+	public synchronized int size() {
+		return size;
+	}
+
+	/**
+	 * Returns the hour of the first bucket.
+	 *
+	 * @throws IllegalStateException
+	 *             if there are no buckets
+	 */
+	public synchronized long getFirstHour() {
+		if (size == 0) {
+			throw new IllegalStateException();
+		}
+		return hours[0];
+	}
+
+	/**
+	 * Returns the hour of the last bucket.
+	 *
+	 * @throws IllegalStateException
+	 *             if there are no buckets
+	 */
+	public synchronized long getLastHour() {
+		if (size == 0) {
+			throw new IllegalStateException();
+		}
+		return hours[size - 1];
+	}
+
+	/**
+	 * Returns the index of the first bucket that is not before <code>hour</code>.
+	 */
+	private int indexOf(long hour) {
+		int index = Arrays.binarySearch(hours, 0, size, hour);
+		return (index >= 0) ? index : -(index + 1);
+	}
+
+	private void updateSums(int from) {
+		for (int i = from; i < size; i++) {
+			sums[i + 1] = sums[i] + elapsed[i];
+		}
+	}
+
+	private void ensureCapacity(int capacity) {
+		if (capacity > hours.length) {
+			int newCapacity = Math.max(capacity, hours.length * 2);
+			hours = Arrays.copyOf(hours, newCapacity);
+			elapsed = Arrays.copyOf(elapsed, newCapacity);
+			sums = Arrays.copyOf(sums, newCapacity + 1);
+		}
+	}
+
+}
@@ -19,31 +19,83 @@ import java.util.Map;
 import org.eclipse.core.runtime.Assert;
 
 /**
+ * Stores attributes as a flat array of interned keys and values. Tasks typically carry only a handful of attributes
+ * that share the same keys across the task list which makes a linear scan cheaper in time and space than a hash map.
+ * <p>
+ * The array is replaced on every modification so reads do not require locking. Concurrent modifications need to be
+ * synchronized by the caller.
+ * 
  * @author Steffen Pingel
  */
 public class AttributeMap {
 
-	private final Map<String, String> attributes;
+	private static final String[] EMPTY = new String[0];
+
+	/**
+	 * Alternating keys and values.
+	 */
+	private volatile String[] entries;
 
 	public AttributeMap() {
-		attributes = new HashMap<String, String>(4);
+		entries = EMPTY;
 	}
 
 	public String getAttribute(String key) {
-		return attributes.get(key);
+		String[] entries = this.entries;
+		int index = indexOf(entries, key);
+		return (index != -1) ? entries[index + 1] : null;
 	}
 
 	public Map<String, String> getAttributes() {
-		return new HashMap<String, String>(attributes);
+		String[] entries = this.entries;
+		Map<String, String> attributes = new HashMap<String, String>(Math.max(4, entries.length));
+		for (int i = 0; i < entries.length; i += 2) {
+			attributes.put(entries[i], entries[i + 1]);
+		}
+		return attributes;
 	}
 
 	public void setAttribute(String key, String value) {
 		Assert.isNotNull(key);
+		String[] entries = this.entries;
+		int index = indexOf(entries, key);
 		if (value == null) {
-			attributes.remove(key);
+			if (index != -1) {
+				String[] newEntries = new String[entries.length - 2];
+				System.arraycopy(entries, 0, newEntries, 0, index);
+				System.arraycopy(entries, index + 2, newEntries, index, entries.length - index - 2);
+				this.entries = newEntries;
+			}
+		} else if (index != -1) {
+			String[] newEntries = entries.clone();
+			newEntries[index + 1] = value.intern();
+			this.entries = newEntries;
 		} else {
-			attributes.put(key.intern(), value.intern());
+			String[] newEntries = new String[entries.length + 2];
+			System.arraycopy(entries, 0, newEntries, 0, entries.length);
+			newEntries[entries.length] = key.intern();
+			newEntries[entries.length + 1] = value.intern();
+			this.entries = newEntries;
+		}
+	}
+
+	public int size() {
+		return entries.length / 2;
+	}
+
+	private static int indexOf(String[] entries, String key) {
+		// keys are interned, try identity first
+		for (int i = 0; i < entries.length; i += 2) {
+			if (entries[i] == key) {
+				return i;
+			}
+		}
+		for (int i = 0; i < entries.length; i += 2) {
+			if (entries[i].equals(key)) {
+				return i;
+			}
 		}
+		return -1;
 	}
 
 }
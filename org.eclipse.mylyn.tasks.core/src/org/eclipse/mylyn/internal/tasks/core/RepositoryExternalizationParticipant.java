@@ -17,6 +17,8 @@ import java.io.File;
 
 import org.eclipse.core.runtime.CoreException;
 import org.eclipse.core.runtime.IProgressMonitor;
+import org.eclipse.core.runtime.IStatus;
+import org.eclipse.core.runtime.Status;
 import org.eclipse.core.runtime.jobs.ISchedulingRule;
 import org.eclipse.mylyn.internal.tasks.core.externalization.AbstractExternalizationParticipant;
 import org.eclipse.mylyn.internal.tasks.core.externalization.ExternalizationManager;
@@ -76,7 +78,10 @@ public class RepositoryExternalizationParticipant extends AbstractExternalizatio
 		synchronized (RepositoryExternalizationParticipant.this) {
 			dirty = false;
 		}
-		repositoryManager.saveRepositories(targetFile.getAbsolutePath());
+		if (!repositoryManager.saveRepositories(targetFile.getAbsolutePath())) {
+			throw new CoreException(new Status(IStatus.ERROR, ITasksCoreConstants.ID_PLUGIN,
+					"Failed to save task repositories")); //$NON-NLS-1$
+		}
 	}
 
 	@Override
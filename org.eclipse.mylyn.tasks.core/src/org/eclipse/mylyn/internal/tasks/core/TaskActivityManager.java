@@ -22,12 +22,10 @@ import java.util.Date;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
-import java.util.Map.Entry;
 import java.util.Set;
 import java.util.SortedMap;
 import java.util.TreeMap;
 import java.util.concurrent.ConcurrentHashMap;
-import java.util.concurrent.CopyOnWriteArraySet;
 
 import org.eclipse.core.runtime.Assert;
 import org.eclipse.core.runtime.IConfigurationElement;
@@ -60,24 +58,20 @@ public class TaskActivityManager implements ITaskActivityManager2 {
 
 	private final List<ITaskActivationListener> activationListeners = new ArrayList<ITaskActivationListener>();
 
-	private final Set<ITask> allScheduledTasks = new HashSet<ITask>();
+	// Indexes tasks by scheduled date range
+	private final TaskDateIndex scheduledTasks = new TaskDateIndex();
 
-	private final Set<ITask> allDueTasks = new HashSet<ITask>();
+	// Indexes tasks by the hour of the due date
+	private final TaskDateIndex dueTasks = new TaskDateIndex();
 
-	private final SortedMap<DateRange, Set<ITask>> scheduledTasks = Collections
-			.synchronizedSortedMap(new TreeMap<DateRange, Set<ITask>>());
+	// Map of the start of an hour in milliseconds to Tasks active during that hour
+	private final SortedMap<Long, Set<AbstractTask>> activeTasks = Collections
+			.synchronizedSortedMap(new TreeMap<Long, Set<AbstractTask>>());
 
-	private final SortedMap<Calendar, Set<ITask>> dueTasks = Collections
-			.synchronizedSortedMap(new TreeMap<Calendar, Set<ITask>>());
+	// For a given task maps hours to duration of time spent (milliseconds) with task active
+	private final Map<AbstractTask, ActivityTimeSeries> taskElapsedTimeMap = new ConcurrentHashMap<AbstractTask, ActivityTimeSeries>();
 
-	// Map of Calendar (hour) to Tasks active during that hour
-	private final SortedMap<Calendar, Set<AbstractTask>> activeTasks = Collections
-			.synchronizedSortedMap(new TreeMap<Calendar, Set<AbstractTask>>());
-
-	// For a given task maps Calendar Hour to duration of time spent (milliseconds) with task active
-	private final Map<AbstractTask, SortedMap<Calendar, Long>> taskElapsedTimeMap = new ConcurrentHashMap<AbstractTask, SortedMap<Calendar, Long>>();
-
-	private final Map<String, SortedMap<Calendar, Long>> workingSetElapsedTimeMap = new ConcurrentHashMap<String, SortedMap<Calendar, Long>>();
+	private final Map<String, ActivityTimeSeries> workingSetElapsedTimeMap = new ConcurrentHashMap<String, ActivityTimeSeries>();
 
 	private final TaskList taskList;
 
@@ -193,9 +187,7 @@ public class TaskActivityManager implements ITaskActivityManager2 {
 
 	public void clear() {
 		dueTasks.clear();
-		allDueTasks.clear();
 		scheduledTasks.clear();
-		allScheduledTasks.clear();
 		clearActivity();
 	}
 
@@ -219,19 +211,16 @@ public class TaskActivityManager implements ITaskActivityManager2 {
 		Assert.isNotNull(startDate);
 		Assert.isNotNull(endDate);
 		// remove any time that has already accumulated in data structures
-		SortedMap<Calendar, Long> activityMap = taskElapsedTimeMap.get(task);
-		if (activityMap != null) {
+		ActivityTimeSeries activity = taskElapsedTimeMap.get(task);
+		if (activity != null) {
 			Calendar start = TaskActivityUtil.getCalendar();
 			start.setTime(startDate);
 			TaskActivityUtil.snapStartOfHour(start);
 			Calendar end = TaskActivityUtil.getCalendar();
 			end.setTime(endDate);
 			TaskActivityUtil.snapEndOfHour(end);
-			activityMap = activityMap.subMap(start, end);
-			for (Calendar cal : new HashSet<Calendar>(activityMap.keySet())) {
-				activityMap.remove(cal);
-			}
-			long elapsedTime = getElapsedTime(task);
+			activity.remove(start.getTimeInMillis(), end.getTimeInMillis());
+			long elapsedTime = activity.getTotal();
 			for (ITaskActivityListener listener : new ArrayList<ITaskActivityListener>(activityListeners)) {
 				try {
 					listener.elapsedTimeUpdated(task, elapsedTime);
@@ -260,23 +249,13 @@ public class TaskActivityManager implements ITaskActivityManager2 {
 			return;
 		}
 
-		// granularity to the hour
-		Calendar hourOfDay = TaskActivityUtil.getCalendar();
-		hourOfDay.setTime(startDate);
-		snapToStartOfHour(hourOfDay);
-		SortedMap<Calendar, Long> noTaskActiveMap = workingSetElapsedTimeMap.get(workingSetName);
-		if (noTaskActiveMap == null) {
-			noTaskActiveMap = Collections.synchronizedSortedMap(new TreeMap<Calendar, Long>());
-			workingSetElapsedTimeMap.put(workingSetName, noTaskActiveMap);
-		}
-		Long daysActivity = noTaskActiveMap.get(hourOfDay);
-		if (daysActivity == null) {
-			daysActivity = new Long(0);
+		ActivityTimeSeries noTaskActivity = workingSetElapsedTimeMap.get(workingSetName);
+		if (noTaskActivity == null) {
+			noTaskActivity = new ActivityTimeSeries();
+			workingSetElapsedTimeMap.put(workingSetName, noTaskActivity);
 		}
-
-		daysActivity = daysActivity.longValue() + attentionSpan;
-
-		noTaskActiveMap.put(hourOfDay, daysActivity);
+		// granularity to the hour
+		noTaskActivity.add(getStartOfHour(startDate), attentionSpan);
 	}
 
 	public long getElapsedForWorkingSet(String workingSetId, Calendar startDate, Calendar endDate) {
@@ -285,19 +264,11 @@ public class TaskActivityManager implements ITaskActivityManager2 {
 
 		Calendar endRange = snapToEndOfHour(getNewInstance(endDate));
 
-		long result = 0;
-
-		SortedMap<Calendar, Long> noTaskActiveMap = workingSetElapsedTimeMap.get(workingSetId);
-		if (noTaskActiveMap != null) {
-
-			Map<Calendar, Long> subMap = noTaskActiveMap.subMap(startRange, endRange);
-			for (Long time : subMap.values()) {
-				if (time != null && time > 0) {
-					result += time.longValue();
-				}
-			}
+		ActivityTimeSeries noTaskActivity = workingSetElapsedTimeMap.get(workingSetId);
+		if (noTaskActivity != null) {
+			return noTaskActivity.getElapsed(startRange.getTimeInMillis(), endRange.getTimeInMillis());
 		}
-		return result;
+		return 0;
 	}
 
 	public Set<String> getWorkingSets() {
@@ -309,10 +280,10 @@ public class TaskActivityManager implements ITaskActivityManager2 {
 		Assert.isNotNull(startDate);
 		Assert.isNotNull(endDate);
 
-		SortedMap<Calendar, Long> activityMap = taskElapsedTimeMap.get(task);
-		if (activityMap == null) {
-			activityMap = Collections.synchronizedSortedMap(new TreeMap<Calendar, Long>());
-			taskElapsedTimeMap.put(task, activityMap);
+		ActivityTimeSeries activity = taskElapsedTimeMap.get(task);
+		if (activity == null) {
+			activity = new ActivityTimeSeries();
+			taskElapsedTimeMap.put(task, activity);
 		}
 
 		long attentionSpan = endDate.getTime() - startDate.getTime();
@@ -323,26 +294,19 @@ public class TaskActivityManager implements ITaskActivityManager2 {
 		}
 
 		// granularity to the hour
-		Calendar hourOfDay = TaskActivityUtil.getCalendar();
-		hourOfDay.setTime(startDate);
-		snapToStartOfHour(hourOfDay);
-		Long daysActivity = activityMap.get(hourOfDay);
-		if (daysActivity == null) {
-			daysActivity = new Long(0);
-		}
-
-		daysActivity = daysActivity.longValue() + attentionSpan;
-
-		activityMap.put(hourOfDay, daysActivity);
-
-		Set<AbstractTask> active = activeTasks.get(hourOfDay);
-		if (active == null) {
-			active = new HashSet<AbstractTask>();
-			activeTasks.put(hourOfDay, active);
+		long hourOfDay = getStartOfHour(startDate);
+		if (activity.add(hourOfDay, attentionSpan)) {
+			synchronized (activeTasks) {
+				Set<AbstractTask> active = activeTasks.get(hourOfDay);
+				if (active == null) {
+					active = new HashSet<AbstractTask>();
+					activeTasks.put(hourOfDay, active);
+				}
+				active.add(task);
+			}
 		}
-		active.add(task);
 
-		long totalElapsed = getElapsedTime(activityMap);
+		long totalElapsed = activity.getTotal();
 
 		for (ITaskActivityListener listener : new ArrayList<ITaskActivityListener>(activityListeners)) {
 			try {
@@ -354,6 +318,12 @@ public class TaskActivityManager implements ITaskActivityManager2 {
 		}
 	}
 
+	private long getStartOfHour(Date date) {
+		Calendar hourOfDay = TaskActivityUtil.getCalendar();
+		hourOfDay.setTime(date);
+		return snapToStartOfHour(hourOfDay).getTimeInMillis();
+	}
+
 	private Calendar getNewInstance(Calendar cal) {
 		Calendar newCal = TaskActivityUtil.getCalendar();
 		newCal.setTimeInMillis(cal.getTimeInMillis());
@@ -363,61 +333,34 @@ public class TaskActivityManager implements ITaskActivityManager2 {
 	public void addScheduledTask(AbstractTask task) {
 		DateRange range = task.getScheduledForDate();
 		if (range != null) {
-			Set<ITask> tasks = scheduledTasks.get(range);
-			if (tasks == null) {
-				tasks = new CopyOnWriteArraySet<ITask>();
-				scheduledTasks.put(range, tasks);
-			}
-			tasks.add(task);
-			allScheduledTasks.add(task);
+			scheduledTasks.put(task, range.getStartDate().getTimeInMillis(), range.getEndDate().getTimeInMillis());
 		} else {
 			removeScheduledTask(task);
 		}
 	}
 
 	public void removeScheduledTask(ITask task) {
-		synchronized (scheduledTasks) {
-			for (Set<ITask> setOfTasks : scheduledTasks.values()) {
-				setOfTasks.remove(task);
-			}
-			allScheduledTasks.remove(task);
-		}
+		scheduledTasks.remove(task);
 	}
 
 	public Set<ITask> getScheduledTasks(DateRange range) {
-		Set<ITask> resultingTasks = new HashSet<ITask>();
-		synchronized (scheduledTasks) {
-			Set<ITask> result = scheduledTasks.get(range);
-			if (result != null && !result.isEmpty()) {
-				resultingTasks.addAll(result);
-			} else if (!(range instanceof WeekDateRange)) {
-				return getScheduledTasks(range.getStartDate(), range.getEndDate());
-			}
-			if (range instanceof WeekDateRange && TaskActivityUtil.getNextWeek().next().compareTo(range) == 0) {
-				resultingTasks.addAll(getScheduledTasks(range.getStartDate(), range.getEndDate()));
-			}
+		Set<ITask> resultingTasks = scheduledTasks.getTasks(range.getStartDate().getTimeInMillis(),
+				range.getEndDate().getTimeInMillis());
+		if (resultingTasks.isEmpty() && !(range instanceof WeekDateRange)) {
+			return getScheduledTasks(range.getStartDate(), range.getEndDate());
+		}
+		if (range instanceof WeekDateRange && TaskActivityUtil.getNextWeek().next().compareTo(range) == 0) {
+			resultingTasks.addAll(getScheduledTasks(range.getStartDate(), range.getEndDate()));
 		}
 		return resultingTasks;
 	}
 
+	/**
+	 * Returns tasks that are scheduled for a date range that is contained in the range from <code>start</code> to
+	 * <code>end</code>.
+	 */
 	public Set<ITask> getScheduledTasks(Calendar start, Calendar end) {
-		Set<ITask> resultingTasks = new HashSet<ITask>();
-		synchronized (scheduledTasks) {
-			DateRange startRange = new DateRange(start);
-			Calendar endExclusive = TaskActivityUtil.getCalendar();
-			endExclusive.setTimeInMillis(end.getTimeInMillis() + 1);
-			DateRange endRange = new DateRange(endExclusive);
-
-			SortedMap<DateRange, Set<ITask>> result = scheduledTasks.subMap(startRange, endRange);
-			for (Entry<DateRange, Set<ITask>> entry : result.entrySet()) {
-				DateRange range = entry.getKey();
-				if (start.compareTo(range.getStartDate()) > 0 || end.compareTo(range.getEndDate()) < 0) {
-					continue;
-				}
-				resultingTasks.addAll(entry.getValue());
-			}
-		}
-		return resultingTasks;
+		return scheduledTasks.getTasksContainedIn(start.getTimeInMillis(), end.getTimeInMillis());
 	}
 
 	public void addDueTask(ITask task) {
@@ -428,36 +371,19 @@ public class TaskActivityManager implements ITaskActivityManager2 {
 		Calendar time = TaskActivityUtil.getCalendar();
 		time.setTime(task.getDueDate());
 		snapToStartOfHour(time);
-		synchronized (dueTasks) {
-			Set<ITask> tasks = dueTasks.get(time);
-			if (tasks == null) {
-				tasks = new CopyOnWriteArraySet<ITask>();
-				dueTasks.put(time, tasks);
-			}
-			tasks.add(task);
-			allDueTasks.add(task);
-		}
-
+		dueTasks.put(task, time.getTimeInMillis(), time.getTimeInMillis());
 	}
 
 	public void removeDueTask(ITask task) {
-		synchronized (dueTasks) {
-			for (Set<ITask> setOfTasks : dueTasks.values()) {
-				setOfTasks.remove(task);
-			}
-			allDueTasks.remove(task);
-		}
+		dueTasks.remove(task);
 	}
 
+	/**
+	 * Returns tasks that are due from <code>start</code> (inclusive) to <code>end</code> (exclusive) where due dates
+	 * are snapped to the beginning of the hour.
+	 */
 	public Set<ITask> getDueTasks(Calendar start, Calendar end) {
-		Set<ITask> resultingTasks = new HashSet<ITask>();
-		SortedMap<Calendar, Set<ITask>> result = dueTasks.subMap(start, end);
-		synchronized (dueTasks) {
-			for (Set<ITask> set : result.values()) {
-				resultingTasks.addAll(set);
-			}
-		}
-		return resultingTasks;
+		return dueTasks.getTasksStartingIn(start.getTimeInMillis(), end.getTimeInMillis());
 	}
 
 	public void activateTask(ITask task) {
@@ -568,7 +494,8 @@ public class TaskActivityManager implements ITaskActivityManager2 {
 		TaskActivityUtil.snapStartOfHour(endInternal);
 
 		synchronized (activeTasks) {
-			SortedMap<Calendar, Set<AbstractTask>> result = activeTasks.subMap(startInternal, endInternal);
+			SortedMap<Long, Set<AbstractTask>> result = activeTasks.subMap(startInternal.getTimeInMillis(),
+					endInternal.getTimeInMillis());
 			for (Set<AbstractTask> set : result.values()) {
 				resultingTasks.addAll(set);
 			}
@@ -578,23 +505,8 @@ public class TaskActivityManager implements ITaskActivityManager2 {
 
 	/** total elapsed time based on activation history */
 	public long getElapsedTime(ITask task) {
-		SortedMap<Calendar, Long> activityMap = taskElapsedTimeMap.get(task);
-		return getElapsedTime(activityMap);
-	}
-
-	private long getElapsedTime(SortedMap<Calendar, Long> activityMap) {
-		// TODO: Keep a running total instead of recalculating all the time
-		long result = 0;
-		if (activityMap != null) {
-			synchronized (activityMap) {
-				for (Long time : activityMap.values()) {
-					if (time != null) {
-						result += time.longValue();
-					}
-				}
-			}
-		}
-		return result;
+		ActivityTimeSeries activity = taskElapsedTimeMap.get(task);
+		return (activity != null) ? activity.getTotal() : 0;
 	}
 
 	/**
@@ -607,24 +519,15 @@ public class TaskActivityManager implements ITaskActivityManager2 {
 			return 0;
 		}
 
-		long result = 0;
-
 		Calendar startRange = snapToStartOfHour(getNewInstance(start));
 
 		Calendar endRange = snapToEndOfHour(getNewInstance(end));
 
-		SortedMap<Calendar, Long> activityMap = taskElapsedTimeMap.get(task);
-		if (activityMap != null) {
-			synchronized (activityMap) {
-				activityMap = activityMap.subMap(startRange, endRange);
-				for (Long time : activityMap.values()) {
-					if (time != null) {
-						result += time.longValue();
-					}
-				}
-			}
+		ActivityTimeSeries activity = taskElapsedTimeMap.get(task);
+		if (activity != null) {
+			return activity.getElapsed(startRange.getTimeInMillis(), endRange.getTimeInMillis());
 		}
-		return result;
+		return 0;
 	}
 
 	/** total elapsed time based on activation history */
@@ -897,39 +800,45 @@ public class TaskActivityManager implements ITaskActivityManager2 {
 	}
 
 	public Date getFirstActivity(ITask task) {
-		SortedMap<Calendar, Long> activityMap = taskElapsedTimeMap.get(task);
-		if (activityMap != null && !activityMap.isEmpty()) {
-			return activityMap.firstKey().getTime();
+		ActivityTimeSeries activity = taskElapsedTimeMap.get(task);
+		if (activity != null) {
+			synchronized (activity) {
+				if (!activity.isEmpty()) {
+					return new Date(activity.getFirstHour());
+				}
+			}
 		}
 		return null;
 	}
 
 	public Date getLastActivity(ITask task) {
-		SortedMap<Calendar, Long> activityMap = taskElapsedTimeMap.get(task);
-		if (activityMap != null && !activityMap.isEmpty()) {
-			return activityMap.lastKey().getTime();
+		ActivityTimeSeries activity = taskElapsedTimeMap.get(task);
+		if (activity != null) {
+			synchronized (activity) {
+				if (!activity.isEmpty()) {
+					return new Date(activity.getLastHour());
+				}
+			}
 		}
 		return null;
 	}
 
 	public Set<ITask> getAllScheduledTasks() {
-		return new HashSet<ITask>(allScheduledTasks);
+		return scheduledTasks.getTasks();
 	}
 
 	public Set<AbstractTask> getAllScheduledTasksInternal() {
 		Set<AbstractTask> tasks = new HashSet<AbstractTask>();
-		synchronized (scheduledTasks) {
-			for (ITask task : allScheduledTasks) {
-				if (task instanceof AbstractTask) {
-					tasks.add((AbstractTask) task);
-				}
+		for (ITask task : scheduledTasks.getTasks()) {
+			if (task instanceof AbstractTask) {
+				tasks.add((AbstractTask) task);
 			}
 		}
 		return tasks;
 	}
 
 	public Set<ITask> getAllDueTasks() {
-		return new HashSet<ITask>(allDueTasks);
+		return dueTasks.getTasks();
 	}
 
 	public Set<ITask> getOverScheduledTasks() {
@@ -0,0 +1,168 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Tasktop Technologies and others.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * https://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Tasktop Technologies - initial API and implementation
+ *******************************************************************************/
+
+package org.eclipse.mylyn.internal.tasks.core;
+
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Map.Entry;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+
+import org.eclipse.mylyn.tasks.core.ITask;
+
+/**
+ * Indexes tasks by a time interval such as the scheduled date. Each task is associated with at most one interval.
+ * Intervals are ordered by start time which supports looking up tasks by an exact interval, by intervals that are
+ * contained in a range and by intervals that start in a range in logarithmic time. A reverse map from task to
+ * interval makes updating and removing a task independent of the number of indexed intervals.
+ * <p>
+ * Modifications are synchronized, lookups do not block.
+ */
+public class TaskDateIndex {
+
+	private static final class Interval implements Comparable<Interval> {
+
+		private final long start;
+
+		private final long end;
+
+		public Interval(long start, long end) {
+			this.start = start;
+			this.end = end;
+		}
+
+		public int compareTo(Interval o) {
+			if (start != o.start) {
+				return (start < o.start) ? -1 : 1;
+			}
+			return (end < o.end) ? -1 : ((end == o.end) ? 0 : 1);
+		}
+
+		@Override
+		public boolean equals(Object obj) {
+			if (!(obj instanceof Interval)) {
+				return false;
+			}
+			Interval other = (Interval) obj;
+			return start == other.start && end == other.end;
+		}
+
+		@Override
+		public int hashCode() {
+			return (int) (start ^ (start >>> 32)) * 31 + (int) (end ^ (end >>> 32));
+		}
+
+	}
+
+	private final ConcurrentSkipListMap<Interval, Set<ITask>> tasksByInterval = new ConcurrentSkipListMap<Interval, Set<ITask>>();
+
+	private final Map<ITask, Interval> intervalByTask = new ConcurrentHashMap<ITask, Interval>();
+
+	/**
+	 * Associates <code>task</code> with the interval from <code>start</code> to <code>end</code> replacing a previous
+	 * interval.
+	 */
+	public synchronized void put(ITask task, long start, long end) {
+		Interval interval = new Interval(start, end);
+		Interval previous = intervalByTask.put(task, interval);
+		if (interval.equals(previous)) {
+			return;
+		}
+		if (previous != null) {
+			removeFromInterval(previous, task);
+		}
+		Set<ITask> tasks = tasksByInterval.get(interval);
+		if (tasks == null) {
+			tasks = Collections.newSetFromMap(new ConcurrentHashMap<ITask, Boolean>());
+			tasksByInterval.put(interval, tasks);
+		}
+		tasks.add(task);
+	}
+
+	public synchronized void remove(ITask task) {
+		Interval previous = intervalByTask.remove(task);
+		if (previous != null) {
+			removeFromInterval(previous, task);
+		}
+	}
+
+	private void removeFromInterval(Interval interval, ITask task) {
+		Set<ITask> tasks = tasksByInterval.get(interval);
+		if (tasks != null) {
+			tasks.remove(task);
+			if (tasks.isEmpty()) {
+				tasksByInterval.remove(interval);
+			}
+		}
+	}
+
+	public synchronized void clear() {
+		tasksByInterval.clear();
+		intervalByTask.clear();
+	}
+
+	public boolean contains(ITask task) {
+		return intervalByTask.containsKey(task);
+	}
+
+	/**
+	 * Returns all indexed tasks.
+	 */
+	public Set<ITask> getTasks() {
+		return new HashSet<ITask>(intervalByTask.keySet());
+	}
+
+	/**
+	 * Returns the tasks that are associated with exactly the interval from <code>start</code> to <code>end</code>.
+	 */
+	public Set<ITask> getTasks(long start, long end) {
+		Set<ITask> tasks = tasksByInterval.get(new Interval(start, end));
+		return (tasks != null) ? new HashSet<ITask>(tasks) : new HashSet<ITask>();
+	}
+
+	/**
+	 * Returns the tasks with intervals that are contained in the range from <code>start</code> to <code>end</code>
+	 * (both inclusive).
+	 */
+	public Set<ITask> getTasksContainedIn(long start, long end) {
+		Set<ITask> result = new HashSet<ITask>();
+		if (start <= end) {
+			for (Entry<Interval, Set<ITask>> entry : tasksByInterval.subMap(new Interval(start, Long.MIN_VALUE), true,
+					new Interval(end, end), true).entrySet()) {
+				if (entry.getKey().end <= end) {
+					result.addAll(entry.getValue());
+				}
+			}
+		}
+		return result;
+	}
+
+	/**
+	 * Returns the tasks with intervals that start in the range from <code>start</code> (inclusive) to <code>end</code>
+	 * (exclusive).
+	 */
+	public Set<ITask> getTasksStartingIn(long start, long end) {
+		Set<ITask> result = new HashSet<ITask>();
+		if (start < end) {
+			for (Set<ITask> tasks : tasksByInterval.subMap(new Interval(start, Long.MIN_VALUE), true,
+					new Interval(end, Long.MIN_VALUE), false).values()) {
+				result.addAll(tasks);
+			}
+		}
+		return result;
+	}
+
+}
@@ -13,6 +13,7 @@
 
 package org.eclipse.mylyn.internal.tasks.core.data;
 
+import org.eclipse.mylyn.internal.tasks.core.util.StringInterner;
 import org.eclipse.mylyn.tasks.core.AbstractRepositoryConnector;
 import org.eclipse.mylyn.tasks.core.IRepositoryManager;
 import org.eclipse.mylyn.tasks.core.TaskRepository;
@@ -400,8 +401,10 @@ public class TaskDataStateReader extends DefaultHandler {
 		public TaskData createTaskData(Attributes attributes) throws SAXException {
 			TaskData taskData;
 			if (state == null) {
-				String connectorKind = getValue(attributes, ITaskDataConstants.ATTRIBUTE_REPOSITORY_KIND);
-				String repositoryUrl = getValue(attributes, ITaskDataConstants.ATTRIBUTE_REPOSITORY_URL);
+				String connectorKind = StringInterner
+						.intern(getValue(attributes, ITaskDataConstants.ATTRIBUTE_REPOSITORY_KIND));
+				String repositoryUrl = StringInterner
+						.intern(getValue(attributes, ITaskDataConstants.ATTRIBUTE_REPOSITORY_URL));
 				String taskId = getValue(attributes, ITaskDataConstants.ATTRIBUTE_ID);
 				attributeMapper = getAttributeMapper(connectorKind, repositoryUrl);
 				taskData = new TaskData(attributeMapper, connectorKind, repositoryUrl, taskId);
@@ -448,8 +451,10 @@ public class TaskDataStateReader extends DefaultHandler {
 		@Override
 		protected void start(String uri, String localName, String name, Attributes attributes) throws SAXException {
 			if ("2.0".equals(version)) { //$NON-NLS-1$
-				String connectorKind = getValue(attributes, ITaskDataConstants.ATTRIBUTE_CONNECTOR_KIND);
-				String repositoryUrl = getValue(attributes, ITaskDataConstants.ATTRIBUTE_REPOSITORY_URL);
+				String connectorKind = StringInterner
+						.intern(getValue(attributes, ITaskDataConstants.ATTRIBUTE_CONNECTOR_KIND));
+				String repositoryUrl = StringInterner
+						.intern(getValue(attributes, ITaskDataConstants.ATTRIBUTE_REPOSITORY_URL));
 				String taskId = getValue(attributes, ITaskDataConstants.ATTRIBUTE_TASK_ID);
 				attributeMapper = getAttributeMapper(connectorKind, repositoryUrl);
 				state = new TaskDataState(connectorKind, repositoryUrl, taskId);
@@ -14,6 +14,13 @@
 package org.eclipse.mylyn.internal.tasks.core.externalization;
 
 import java.io.File;
+import java.io.IOException;
+import java.nio.channels.FileChannel;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
 
 import org.eclipse.core.runtime.Assert;
 import org.eclipse.core.runtime.CoreException;
@@ -34,6 +41,8 @@ public abstract class AbstractExternalizationParticipant implements IExternaliza
 
 	public static final String SNAPSHOT_PREFIX = "."; //$NON-NLS-1$
 
+	public static final String TEMP_SUFFIX = ".tmp"; //$NON-NLS-1$
+
 	public abstract void load(File sourceFile, IProgressMonitor monitor) throws CoreException;
 
 	public abstract void save(File targetFile, IProgressMonitor monitor) throws CoreException;
@@ -50,16 +59,6 @@ public abstract class AbstractExternalizationParticipant implements IExternaliza
 		super();
 	}
 
-	protected boolean takeSnapshot(File file) {
-		if (file.length() > 0) {
-			File originalFile = file.getAbsoluteFile();
-			File backup = new File(file.getParentFile(), SNAPSHOT_PREFIX + file.getName());
-			backup.delete();
-			return originalFile.renameTo(backup);
-		}
-		return false;
-	}
-
 	public void execute(IExternalizationContext context, IProgressMonitor monitor) throws CoreException {
 		Assert.isNotNull(context);
 		monitor = Policy.monitorFor(monitor);
@@ -67,9 +66,10 @@ public abstract class AbstractExternalizationParticipant implements IExternaliza
 		switch (context.getKind()) {
 		case SAVE:
 			if (dataFile != null) {
-				takeSnapshot(dataFile);
+				performSave(dataFile, monitor);
+			} else {
+				save(dataFile, monitor);
 			}
-			save(dataFile, monitor);
 			break;
 		case LOAD:
 			performLoad(dataFile, monitor);
@@ -80,6 +80,76 @@ public abstract class AbstractExternalizationParticipant implements IExternaliza
 
 	}
 
+	/**
+	 * Saves to a temporary file next to <code>dataFile</code> which is flushed to disk and then renamed to
+	 * <code>dataFile</code>. The previous contents of <code>dataFile</code> are kept as a snapshot. A failed or
+	 * interrupted save never leaves a truncated <code>dataFile</code> behind.
+	 */
+	protected void performSave(final File dataFile, IProgressMonitor monitor) throws CoreException {
+		File tempFile = new File(dataFile.getParentFile(), dataFile.getName() + TEMP_SUFFIX);
+		tempFile.delete();
+		try {
+			save(tempFile, monitor);
+			if (tempFile.length() == 0) {
+				throw new CoreException(new Status(IStatus.ERROR, ITasksCoreConstants.ID_PLUGIN,
+						"Failed to save " + dataFile.getName() + ", no data was written")); //$NON-NLS-1$ //$NON-NLS-2$
+			}
+			commit(tempFile, dataFile);
+		} finally {
+			tempFile.delete();
+		}
+	}
+
+	private void commit(File tempFile, File dataFile) throws CoreException {
+		try {
+			try (FileChannel channel = FileChannel.open(tempFile.toPath(), StandardOpenOption.WRITE)) {
+				channel.force(true);
+			}
+			// keep dataFile in place until it is replaced so that there is no point in time without a data file
+			linkSnapshot(dataFile);
+			try {
+				Files.move(tempFile.toPath(), dataFile.toPath(), StandardCopyOption.ATOMIC_MOVE);
+			} catch (AtomicMoveNotSupportedException e) {
+				Files.move(tempFile.toPath(), dataFile.toPath(), StandardCopyOption.REPLACE_EXISTING);
+			}
+			syncDirectory(dataFile.getAbsoluteFile().getParentFile());
+		} catch (IOException e) {
+			throw new CoreException(new Status(IStatus.ERROR, ITasksCoreConstants.ID_PLUGIN,
+					"Failed to save " + dataFile.getName(), e)); //$NON-NLS-1$
+		}
+	}
+
+	/**
+	 * Keeps the current contents of <code>file</code> as a snapshot without removing <code>file</code>. The snapshot
+	 * is a hard link if supported by the file system and a copy otherwise.
+	 */
+	private void linkSnapshot(File file) throws IOException {
+		if (file.length() > 0) {
+			Path backup = new File(file.getParentFile(), SNAPSHOT_PREFIX + file.getName()).toPath();
+			Files.deleteIfExists(backup);
+			try {
+				Files.createLink(backup, file.toPath());
+			} catch (IOException | UnsupportedOperationException e) {
+				Files.copy(file.toPath(), backup, StandardCopyOption.REPLACE_EXISTING);
+			}
+		}
+	}
+
+	/**
+	 * Flushes the directory entries of <code>directory</code> to disk so that a rename survives a crash. Not all
+	 * platforms support opening directories, hence failures are ignored.
+	 */
+	private void syncDirectory(File directory) {
+		if (directory == null) {
+			return;
+		}
+		try (FileChannel channel = FileChannel.open(directory.toPath(), StandardOpenOption.READ)) {
+			channel.force(true);
+		} catch (IOException e) {
+			// not supported, e.g. on Windows
+		}
+	}
+
 	protected boolean performLoad(final File dataFile, IProgressMonitor monitor) throws CoreException {
 		try {
 			load(dataFile, monitor);
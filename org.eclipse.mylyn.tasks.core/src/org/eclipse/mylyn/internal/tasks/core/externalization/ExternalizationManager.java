@@ -15,8 +15,12 @@ package org.eclipse.mylyn.internal.tasks.core.externalization;
 
 import java.text.MessageFormat;
 import java.util.ArrayList;
+import java.util.Date;
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.TimeUnit;
 
 import org.eclipse.core.runtime.Assert;
 import org.eclipse.core.runtime.CoreException;
@@ -25,6 +29,7 @@ import org.eclipse.core.runtime.ISafeRunnable;
 import org.eclipse.core.runtime.IStatus;
 import org.eclipse.core.runtime.MultiStatus;
 import org.eclipse.core.runtime.NullProgressMonitor;
+import org.eclipse.core.runtime.Platform;
 import org.eclipse.core.runtime.SafeRunner;
 import org.eclipse.core.runtime.Status;
 import org.eclipse.core.runtime.SubProgressMonitor;
@@ -43,6 +48,9 @@ public class ExternalizationManager {
 
 	private static final int SAVE_DELAY = 90 * 1000;
 
+	private static final boolean TRACE_ENABLED = Boolean
+			.valueOf(Platform.getDebugOption("org.eclipse.mylyn.tasks.core/debug/externalization")); //$NON-NLS-1$
+
 	private final ExternalizationJob saveJob;
 
 	private IStatus loadStatus;
@@ -53,11 +61,14 @@ public class ExternalizationManager {
 
 	private final List<IExternalizationParticipant> externalizationParticipants;
 
+	private final Map<IExternalizationParticipant, Long> saveDurations;
+
 	private boolean forceSave = false;
 
 	public ExternalizationManager(String rootFolderPath) {
 		Assert.isNotNull(rootFolderPath);
 		this.externalizationParticipants = new CopyOnWriteArrayList<IExternalizationParticipant>();
+		this.saveDurations = new ConcurrentHashMap<IExternalizationParticipant, Long>();
 		this.forceSave = false;
 		this.saveJob = createJob();
 		setRootFolderPath(rootFolderPath);
@@ -171,7 +182,7 @@ public class ExternalizationManager {
 	public void save(boolean force) {
 		try {
 			forceSave = force;
-			saveJob.run(new NullProgressMonitor());
+			saveJob.save(new NullProgressMonitor(), false);
 		} finally {
 			forceSave = false;
 		}
@@ -181,6 +192,36 @@ public class ExternalizationManager {
 		return loadStatus;
 	}
 
+	/**
+	 * Returns the duration of the last save of <code>participant</code> in milliseconds or -1 if the participant has
+	 * not been saved, yet.
+	 */
+	public long getLastSaveDuration(IExternalizationParticipant participant) {
+		Long duration = saveDurations.get(participant);
+		return (duration != null) ? duration : -1;
+	}
+
+	private void save(IExternalizationParticipant participant, IExternalizationContext context,
+			IProgressMonitor monitor) {
+		long start = System.nanoTime();
+		try {
+			participant.execute(context, monitor);
+		} catch (CoreException e) {
+			StatusHandler.log(new Status(IStatus.WARNING, ITasksCoreConstants.ID_PLUGIN,
+					"Save failed for " + participant.getDescription(), e)); //$NON-NLS-1$
+		} finally {
+			long duration = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+			saveDurations.put(participant, duration);
+			if (TRACE_ENABLED) {
+				trace("Saved " + participant.getDescription() + " in " + duration + " ms"); //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$
+			}
+		}
+	}
+
+	private void trace(String message) {
+		System.err.println("[" + new Date() + "] " + message); //$NON-NLS-1$ //$NON-NLS-2$
+	}
+
 	private class ExternalizationJob extends Job {
 
 		private volatile IExternalizationContext context;
@@ -205,6 +246,15 @@ public class ExternalizationManager {
 
 		@Override
 		protected IStatus run(IProgressMonitor monitor) {
+			return save(monitor, true);
+		}
+
+		/**
+		 * @param concurrent
+		 *            if true, participants are saved in separate jobs that run in parallel unless their scheduling rules
+		 *            conflict; otherwise participants are saved in the calling thread
+		 */
+		IStatus save(IProgressMonitor monitor, boolean concurrent) {
 			IExternalizationContext context = this.context;
 			switch (context.getKind()) {
 			case SAVE:
@@ -214,22 +264,19 @@ public class ExternalizationManager {
 					boolean fullSave = isFullSavePending;
 					isFullSavePending = false;
 
+					List<IExternalizationParticipant> dirtyParticipants = new ArrayList<IExternalizationParticipant>();
 					for (IExternalizationParticipant participant : externalizationParticipants) {
-						ISchedulingRule rule = participant.getSchedulingRule();
 						if (forceSave || participant.isDirty(fullSave)) {
-							try {
-								Job.getJobManager().beginRule(rule, monitor);
-								monitor.setTaskName(MessageFormat.format(Messages.ExternalizationManager_Saving_X,
-										participant.getDescription()));
-								participant.execute(context, new SubProgressMonitor(monitor, IProgressMonitor.UNKNOWN));
-							} catch (CoreException e) {
-								StatusHandler.log(new Status(IStatus.WARNING, ITasksCoreConstants.ID_PLUGIN,
-										"Save failed for " + participant.getDescription(), e)); //$NON-NLS-1$
-							} finally {
-								Job.getJobManager().endRule(rule);
-							}
+							dirtyParticipants.add(participant);
+						} else {
+							monitor.worked(1);
 						}
-						monitor.worked(1);
+					}
+
+					if (concurrent) {
+						saveConcurrently(context, dirtyParticipants, monitor);
+					} else {
+						saveSerially(context, dirtyParticipants, monitor);
 					}
 				} finally {
 					monitor.done();
@@ -241,6 +288,64 @@ public class ExternalizationManager {
 			}
 			return Status.OK_STATUS;
 		}
+
+		private void saveSerially(IExternalizationContext context, List<IExternalizationParticipant> participants,
+				IProgressMonitor monitor) {
+			for (IExternalizationParticipant participant : participants) {
+				ISchedulingRule rule = participant.getSchedulingRule();
+				try {
+					Job.getJobManager().beginRule(rule, monitor);
+					monitor.setTaskName(
+							MessageFormat.format(Messages.ExternalizationManager_Saving_X, participant.getDescription()));
+					ExternalizationManager.this.save(participant, context,
+							new SubProgressMonitor(monitor, IProgressMonitor.UNKNOWN));
+				} finally {
+					Job.getJobManager().endRule(rule);
+				}
+				monitor.worked(1);
+			}
+		}
+
+		private void saveConcurrently(IExternalizationContext context,
+				List<IExternalizationParticipant> participants, IProgressMonitor monitor) {
+			List<Job> jobs = new ArrayList<Job>(participants.size());
+			for (IExternalizationParticipant participant : participants) {
+				Job job = new ParticipantSaveJob(participant, context);
+				job.schedule();
+				jobs.add(job);
+			}
+			try {
+				for (Job job : jobs) {
+					job.join();
+					monitor.worked(1);
+				}
+			} catch (InterruptedException e) {
+				// the participant jobs complete on their own
+				Thread.currentThread().interrupt();
+			}
+		}
+	}
+
+	private class ParticipantSaveJob extends Job {
+
+		private final IExternalizationParticipant participant;
+
+		private final IExternalizationContext context;
+
+		public ParticipantSaveJob(IExternalizationParticipant participant, IExternalizationContext context) {
+			super(MessageFormat.format(Messages.ExternalizationManager_Saving_X, participant.getDescription()));
+			this.participant = participant;
+			this.context = context;
+			setRule(participant.getSchedulingRule());
+			setUser(false);
+			setSystem(true);
+		}
+
+		@Override
+		protected IStatus run(IProgressMonitor monitor) {
+			save(participant, context, monitor);
+			return Status.OK_STATUS;
+		}
 	}
 
 	private class ExternalizationContext implements IExternalizationContext {
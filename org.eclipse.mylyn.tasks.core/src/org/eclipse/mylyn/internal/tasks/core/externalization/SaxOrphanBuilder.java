@@ -13,107 +13,119 @@
 
 package org.eclipse.mylyn.internal.tasks.core.externalization;
 
-import javax.xml.parsers.DocumentBuilder;
-import javax.xml.parsers.DocumentBuilderFactory;
-import javax.xml.parsers.ParserConfigurationException;
-
-import org.eclipse.core.runtime.CoreException;
-import org.eclipse.core.runtime.IStatus;
-import org.eclipse.core.runtime.Status;
-import org.eclipse.mylyn.internal.tasks.core.ITasksCoreConstants;
-import org.w3c.dom.Document;
-import org.w3c.dom.Element;
-import org.w3c.dom.Node;
-import org.w3c.dom.Text;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.List;
+
 import org.xml.sax.Attributes;
 
+/**
+ * Records top-level task list elements as serialized XML fragments so that elements which cannot be read, e.g. because
+ * their connector is not installed, can be written back verbatim without keeping a DOM in memory.
+ */
 public class SaxOrphanBuilder {
 
-	private final Document document;
+	private final List<String> orphans;
 
-	private Element currentElement;
+	private final Deque<String> openElements;
 
-	private StringBuilder currentStringContent;
+	private StringBuilder currentFragment;
 
-	private final Element orphansElement;
+	private boolean committed;
 
-	public SaxOrphanBuilder() throws CoreException {
-		this.document = createDocument();
-		this.orphansElement = document.getDocumentElement();
-	}
-
-	private Document createDocument() throws CoreException {
-		DocumentBuilderFactory dbf = DocumentBuilderFactory.newInstance();
-		DocumentBuilder db;
-		try {
-			db = dbf.newDocumentBuilder();
-			Document document = db.newDocument();
-			Element root = document.createElement("orphans"); //$NON-NLS-1$
-			document.appendChild(root);
-			return document;
-		} catch (ParserConfigurationException e) {
-			throw new CoreException(
-					new Status(IStatus.ERROR, ITasksCoreConstants.ID_PLUGIN, "Failed to create document", e)); //$NON-NLS-1$
-		}
+	public SaxOrphanBuilder() {
+		this.orphans = new ArrayList<>();
+		this.openElements = new ArrayDeque<>();
 	}
 
 	public void startElement(String localName, Attributes attributes) {
-		Element element = document.createElement(localName);
-		for (int i = 0; i < attributes.getLength(); i++) {
-			String attributeName = attributes.getLocalName(i);
-			String attributeValue = attributes.getValue(i);
-			element.setAttribute(attributeName, attributeValue);
+		if (openElements.isEmpty()) {
+			currentFragment = new StringBuilder();
+			committed = false;
 		}
-
-		if (currentElement != null) {
-			appendTextNode();
-			currentElement.appendChild(element);
+		currentFragment.append('<').append(localName);
+		for (int i = 0; i < attributes.getLength(); i++) {
+			currentFragment.append(' ').append(attributes.getLocalName(i)).append("=\""); //$NON-NLS-1$
+			appendEscaped(attributes.getValue(i), true);
+			currentFragment.append('"');
 		}
-		currentElement = element;
-
-		currentStringContent = new StringBuilder();
+		currentFragment.append('>');
+		openElements.push(localName);
 	}
 
 	public void acceptCharacters(char[] content, int start, int length) {
-		if (currentStringContent != null) {
-			currentStringContent.append(content, start, length);
+		if (!openElements.isEmpty()) {
+			for (int i = start; i < start + length; i++) {
+				appendEscaped(content[i], false);
+			}
 		}
 	}
 
 	public void endElement() {
-		if (currentElement != null) {
-			appendTextNode();
-			Node parentNode = currentElement.getParentNode();
-			// do not set the current element to be the orphans element or all tasks will end up as orphans
-			if (parentNode instanceof Element && parentNode != orphansElement) {
-				currentElement = (Element) parentNode;
-				currentStringContent = new StringBuilder();
-			} else {
-				currentElement = null;
-				currentStringContent = null;
+		if (!openElements.isEmpty()) {
+			currentFragment.append("</").append(openElements.pop()).append('>'); //$NON-NLS-1$
+			if (openElements.isEmpty()) {
+				if (committed) {
+					orphans.add(currentFragment.toString());
+				}
+				currentFragment = null;
+				committed = false;
 			}
 		}
 	}
 
+	/**
+	 * Marks the top-level element that is currently being read as an orphan. The element is recorded once its end tag
+	 * has been read.
+	 */
 	public void commitOrphan() {
-		if (currentElement != null) {
-			document.getDocumentElement().appendChild(currentElement);
+		if (!openElements.isEmpty()) {
+			committed = true;
 		}
 	}
 
-	private void appendTextNode() {
-		if (hasStringContnet()) {
-			Text textNode = document.createTextNode(currentStringContent.toString());
-			currentElement.appendChild(textNode);
+	private void appendEscaped(String value, boolean attribute) {
+		for (int i = 0; i < value.length(); i++) {
+			appendEscaped(value.charAt(i), attribute);
 		}
 	}
 
-	private boolean hasStringContnet() {
-		return currentStringContent != null & currentStringContent.length() > 0;
+	private void appendEscaped(char c, boolean attribute) {
+		switch (c) {
+		case '&':
+			currentFragment.append("&amp;"); //$NON-NLS-1$
+			break;
+		case '<':
+			currentFragment.append("&lt;"); //$NON-NLS-1$
+			break;
+		case '>':
+			currentFragment.append("&gt;"); //$NON-NLS-1$
+			break;
+		case '"':
+			currentFragment.append(attribute ? "&quot;" : "\""); //$NON-NLS-1$ //$NON-NLS-2$
+			break;
+		case '\n':
+			currentFragment.append(attribute ? "&#10;" : "\n"); //$NON-NLS-1$ //$NON-NLS-2$
+			break;
+		case '\r':
+			currentFragment.append("&#13;"); //$NON-NLS-1$
+			break;
+		case '\t':
+			currentFragment.append(attribute ? "&#9;" : "\t"); //$NON-NLS-1$ //$NON-NLS-2$
+			break;
+		default:
+			currentFragment.append(c);
+			break;
+		}
 	}
 
-	public Document getOrphans() {
-		return document;
+	/**
+	 * Returns the serialized orphan elements in the order they were read.
+	 */
+	public List<String> getOrphans() {
+		return Collections.unmodifiableList(orphans);
 	}
 
 }
@@ -13,13 +13,16 @@
 
 package org.eclipse.mylyn.internal.tasks.core.externalization;
 
-import org.w3c.dom.Element;
-import org.w3c.dom.NamedNodeMap;
-import org.w3c.dom.Node;
-import org.w3c.dom.NodeList;
-import org.w3c.dom.Text;
+import java.util.List;
+
+import javax.xml.transform.Result;
+
+import org.xml.sax.ContentHandler;
 import org.xml.sax.SAXException;
 
+/**
+ * Writes the serialized fragments recorded by {@link SaxOrphanBuilder} to the output without re-parsing them.
+ */
 public class SaxOrphanWriter {
 
 	private final ContentHandlerWrapper handler;
@@ -28,30 +31,16 @@ public class SaxOrphanWriter {
 		this.handler = handler;
 	}
 
-	public void writeOrphans(NodeList orphanNodes) throws SAXException {
-		for (int i = 0; i < orphanNodes.getLength(); i++) {
-			Node orphanNode = orphanNodes.item(i);
-			if (orphanNode instanceof Element) {
-				Element orphanElement = (Element) orphanNode;
-				AttributesWrapper saxAttributes = getAttributes(orphanElement);
-				handler.startElement(orphanElement.getNodeName(), saxAttributes);
-				writeOrphans(orphanElement.getChildNodes());
-				handler.endElement(orphanElement.getNodeName());
-			} else if (orphanNode instanceof Text) {
-				Text orphanText = (Text) orphanNode;
-				handler.characters(orphanText.getData());
-			}
+	public void writeOrphans(List<String> orphans) throws SAXException {
+		if (orphans.isEmpty()) {
+			return;
 		}
-	}
-
-	private AttributesWrapper getAttributes(Element orphanElement) {
-		AttributesWrapper saxAttributes = new AttributesWrapper();
-		NamedNodeMap domAttributes = orphanElement.getAttributes();
-		for (int i = 0; i < domAttributes.getLength(); i++) {
-			Node attribute = domAttributes.item(i);
-			saxAttributes.addAttribute(attribute.getNodeName(), attribute.getNodeValue());
+		ContentHandler contentHandler = handler.getHandler();
+		contentHandler.processingInstruction(Result.PI_DISABLE_OUTPUT_ESCAPING, ""); //$NON-NLS-1$
+		for (String orphan : orphans) {
+			handler.characters(orphan);
 		}
-		return saxAttributes;
+		contentHandler.processingInstruction(Result.PI_ENABLE_OUTPUT_ESCAPING, ""); //$NON-NLS-1$
 	}
 
 }
@@ -14,6 +14,7 @@
 package org.eclipse.mylyn.internal.tasks.core.externalization;
 
 import java.util.Collection;
+import java.util.List;
 
 import org.eclipse.core.runtime.CoreException;
 import org.eclipse.mylyn.commons.core.StatusHandler;
@@ -25,7 +26,6 @@ import org.eclipse.mylyn.internal.tasks.core.RepositoryModel;
 import org.eclipse.mylyn.internal.tasks.core.RepositoryQuery;
 import org.eclipse.mylyn.tasks.core.IRepositoryElement;
 import org.eclipse.mylyn.tasks.core.IRepositoryManager;
-import org.w3c.dom.Document;
 import org.xml.sax.Attributes;
 import org.xml.sax.SAXException;
 import org.xml.sax.helpers.DefaultHandler;
@@ -205,7 +205,7 @@ public class SaxTaskListHandler extends DefaultHandler {
 		return builder != null && builder.getErrors().isOK() && builder.getItem() != null;
 	}
 
-	public Document getOrphans() {
+	public List<String> getOrphans() {
 		return orphanBuilder.getOrphans();
 	}
 
@@ -16,6 +16,7 @@ package org.eclipse.mylyn.internal.tasks.core.externalization;
 import java.io.IOException;
 import java.io.OutputStream;
 import java.util.Collection;
+import java.util.List;
 
 import javax.xml.transform.Transformer;
 import javax.xml.transform.TransformerException;
@@ -30,8 +31,6 @@ import org.eclipse.mylyn.internal.tasks.core.ITasksCoreConstants;
 import org.eclipse.mylyn.internal.tasks.core.ITransferList;
 import org.eclipse.mylyn.internal.tasks.core.SaxRepositoriesWriter;
 import org.eclipse.mylyn.tasks.core.IRepositoryElement;
-import org.w3c.dom.Document;
-import org.w3c.dom.NodeList;
 import org.xml.sax.ContentHandler;
 import org.xml.sax.DTDHandler;
 import org.xml.sax.EntityResolver;
@@ -58,7 +57,7 @@ public class SaxTaskListWriter {
 		this.outputStream = outputStream;
 	}
 
-	public void writeTaskListToStream(ITransferList taskList, Document orphans) throws IOException {
+	public void writeTaskListToStream(ITransferList taskList, List<String> orphans) throws IOException {
 		if (outputStream == null) {
 			throw new IOException("OutputStream not set"); //$NON-NLS-1$
 		}
@@ -77,9 +76,9 @@ public class SaxTaskListWriter {
 	private static class TaskListInputSource extends InputSource {
 		private final ITransferList taskList;
 
-		private final Document orphans;
+		private final List<String> orphans;
 
-		public TaskListInputSource(ITransferList taskList, Document orphans) {
+		public TaskListInputSource(ITransferList taskList, List<String> orphans) {
 			this.taskList = taskList;
 			this.orphans = orphans;
 		}
@@ -88,7 +87,7 @@ public class SaxTaskListWriter {
 			return this.taskList;
 		}
 
-		public Document getOrphans() {
+		public List<String> getOrphans() {
 			return orphans;
 		}
 
@@ -155,7 +154,7 @@ public class SaxTaskListWriter {
 			handler.getHandler().endDocument();
 		}
 
-		private void writeTaskList(ITransferList taskList, Document orphanDocument) throws IOException, SAXException {
+		private void writeTaskList(ITransferList taskList, List<String> orphans) throws IOException, SAXException {
 			AttributesWrapper attributes = new AttributesWrapper();
 			attributes.addAttribute(ATTRIBUTE_VERSION, VALUE_VERSION);
 			handler.startElement(TaskListExternalizationConstants.NODE_TASK_LIST, attributes);
@@ -164,7 +163,7 @@ public class SaxTaskListWriter {
 			writeTaskListElements(new SaxCategoryWriter(handler), taskList.getCategories());
 			writeTaskListElements(new SaxQueryWriter(handler), taskList.getQueries());
 
-			writeOrphans(orphanDocument);
+			writeOrphans(orphans);
 
 			handler.endElement(TaskListExternalizationConstants.NODE_TASK_LIST);
 		}
@@ -179,13 +178,9 @@ public class SaxTaskListWriter {
 			}
 		}
 
-		private void writeOrphans(Document orphanDocument) throws SAXException {
-			if (orphanDocument != null) {
-				SaxOrphanWriter writer = new SaxOrphanWriter(handler);
-				NodeList orphanNodes = orphanDocument.getChildNodes();
-				if (orphanNodes.getLength() == 1) {
-					writer.writeOrphans(orphanNodes.item(0).getChildNodes());
-				}
+		private void writeOrphans(List<String> orphans) throws SAXException {
+			if (orphans != null) {
+				new SaxOrphanWriter(handler).writeOrphans(orphans);
 			}
 		}
 
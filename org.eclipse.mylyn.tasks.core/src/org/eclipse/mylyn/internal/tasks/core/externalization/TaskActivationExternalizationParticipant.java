@@ -122,8 +122,8 @@ public class TaskActivationExternalizationParticipant extends AbstractExternaliz
 		}
 
 		try {
-			file.getParentFile().mkdirs();
-			FileWriter writer = new FileWriter(file);
+			targetFile.getParentFile().mkdirs();
+			FileWriter writer = new FileWriter(targetFile);
 			try {
 				memento.save(writer);
 			} finally {
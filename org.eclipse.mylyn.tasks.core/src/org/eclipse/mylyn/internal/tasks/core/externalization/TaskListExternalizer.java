@@ -21,6 +21,7 @@ import java.io.FileInputStream;
 import java.io.FileOutputStream;
 import java.io.IOException;
 import java.io.InputStream;
+import java.util.List;
 import java.util.zip.ZipEntry;
 import java.util.zip.ZipInputStream;
 import java.util.zip.ZipOutputStream;
@@ -33,7 +34,6 @@ import org.eclipse.mylyn.internal.tasks.core.ITransferList;
 import org.eclipse.mylyn.internal.tasks.core.RepositoryModel;
 import org.eclipse.mylyn.internal.tasks.core.XmlReaderUtil;
 import org.eclipse.mylyn.tasks.core.IRepositoryManager;
-import org.w3c.dom.Document;
 import org.xml.sax.InputSource;
 import org.xml.sax.SAXException;
 import org.xml.sax.XMLReader;
@@ -50,7 +50,7 @@ public class TaskListExternalizer {
 
 	private final IRepositoryManager repositoryManager;
 
-	private Document orphanDocument;
+	private List<String> orphans;
 
 	public TaskListExternalizer(RepositoryModel repositoryModel, IRepositoryManager repositoryManager) {
 		this.repositoryModel = repositoryModel;
@@ -66,7 +66,7 @@ public class TaskListExternalizer {
 
 				SaxTaskListWriter writer = new SaxTaskListWriter();
 				writer.setOutputStream(zipOutStream);
-				writer.writeTaskListToStream(taskList, orphanDocument);
+				writer.writeTaskListToStream(taskList, orphans);
 
 				zipOutStream.flush();
 				zipOutStream.closeEntry();
@@ -93,7 +93,7 @@ public class TaskListExternalizer {
 			SaxTaskListHandler handler = new SaxTaskListHandler(taskList, repositoryModel, repositoryManager);
 			reader.setContentHandler(handler);
 			reader.parse(new InputSource(taskListFile));
-			this.orphanDocument = handler.getOrphans();
+			this.orphans = handler.getOrphans();
 		} catch (SAXException | IOException e) {
 			throw new CoreException(new Status(IStatus.ERROR, ITasksCoreConstants.ID_PLUGIN, e.getMessage(), e));
 		}
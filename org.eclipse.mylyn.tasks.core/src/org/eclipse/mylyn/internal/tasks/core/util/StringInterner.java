@@ -0,0 +1,44 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Tasktop Technologies and others.
+ * 
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * https://www.eclipse.org/legal/epl-2.0
+ * 
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Tasktop Technologies - initial API and implementation
+ *******************************************************************************/
+
+package org.eclipse.mylyn.internal.tasks.core.util;
+
+import com.google.common.collect.Interner;
+import com.google.common.collect.Interners;
+
+/**
+ * Canonicalizes short strings that repeat across task data such as option values, metadata values and attribute values
+ * like product or component names. Canonical instances are weakly referenced and released once no task data refers to
+ * them anymore. Long strings such as descriptions and comments are unlikely to repeat and are returned unchanged.
+ */
+public class StringInterner {
+
+	static final int MAX_LENGTH = 128;
+
+	private static final Interner<String> INTERNER = Interners.newWeakInterner();
+
+	private StringInterner() {
+	}
+
+	/**
+	 * Returns a canonical instance of <code>value</code> if it is short enough to be shared, <code>value</code>
+	 * otherwise.
+	 */
+	public static String intern(String value) {
+		if (value == null || value.length() > MAX_LENGTH) {
+			return value;
+		}
+		return INTERNER.intern(value);
+	}
+
+}
@@ -22,6 +22,7 @@ import java.util.concurrent.TimeUnit;
 
 import org.eclipse.core.runtime.Assert;
 import org.eclipse.mylyn.internal.tasks.core.RepositoryPerson;
+import org.eclipse.mylyn.internal.tasks.core.util.StringInterner;
 
 /**
  * Encapsulates attributes for task data.
@@ -404,16 +405,29 @@ public final class TaskAttribute {
 
 	private Map<String, String> metaData;
 
+	/**
+	 * Set if {@link #metaData} is shared with a copy of this attribute and needs to be copied before it is modified.
+	 * Volatile since the flag of a source attribute is set by the thread that copies it.
+	 */
+	private volatile boolean metaDataShared;
+
 	private Map<String, String> optionByKey;
 
+	/**
+	 * Set if {@link #optionByKey} is shared with a copy of this attribute and needs to be copied before it is modified.
+	 * Volatile since the flag of a source attribute is set by the thread that copies it.
+	 */
+	private volatile boolean optionByKeyShared;
+
 	private final TaskAttribute parentAttribute;
 
 	private final TaskData taskData;
 
 	/**
-	 * Attribute's values (selected or added)
+	 * Attribute's values (selected or added). Is <code>null</code> if no value is set, an immutable singleton list for
+	 * a single value and an {@link ArrayList} for multiple values.
 	 */
-	private final List<String> values;
+	private List<String> values;
 
 	public TaskAttribute(TaskAttribute parentAttribute, String attributeId) {
 		Assert.isNotNull(parentAttribute);
@@ -421,7 +435,6 @@ public final class TaskAttribute {
 		this.parentAttribute = parentAttribute;
 		this.attributeId = attributeId.intern();
 		this.taskData = parentAttribute.getTaskData();
-		this.values = new ArrayList<String>(1);
 		parentAttribute.add(this);
 	}
 
@@ -433,7 +446,6 @@ public final class TaskAttribute {
 		this.parentAttribute = null;
 		this.taskData = taskData;
 		this.attributeId = "root"; //$NON-NLS-1$
-		this.values = new ArrayList<String>(1);
 	}
 
 	private void add(TaskAttribute attribute) {
@@ -445,7 +457,15 @@ public final class TaskAttribute {
 
 	public void addValue(String value) {
 		Assert.isNotNull(value);
-		values.add(value);
+		value = StringInterner.intern(value);
+		if (values == null) {
+			values = Collections.singletonList(value);
+		} else {
+			if (!(values instanceof ArrayList)) {
+				values = new ArrayList<String>(values);
+			}
+			values.add(value);
+		}
 	}
 
 	public void clearAttributes() {
@@ -454,28 +474,49 @@ public final class TaskAttribute {
 
 	void clearMetaDataMap() {
 		metaData = null;
+		metaDataShared = false;
 	}
 
 	public void clearOptions() {
 		optionByKey = null;
+		optionByKeyShared = false;
 	}
 
 	public void clearValues() {
-		values.clear();
+		values = null;
 	}
 
 	public TaskAttribute createAttribute(String attributeId) {
 		return new TaskAttribute(this, attributeId);
 	}
 
+	/**
+	 * Adds a copy of <code>source</code> and all its descendants as a child of this attribute. Meta data and options
+	 * are shared with <code>source</code> until either attribute is modified which marks <code>source</code> as
+	 * shared. <code>source</code> may be copied or read by several threads at the same time but must not be modified
+	 * while it is copied.
+	 */
 	public void deepAddCopy(TaskAttribute source) {
 		TaskAttribute target = createAttribute(source.getId());
-		target.values.addAll(source.values);
-		if (source.metaData != null) {
-			target.metaData = new LinkedHashMap<String, String>(source.metaData);
+		if (source.values instanceof ArrayList) {
+			target.values = new ArrayList<String>(source.values);
+		} else {
+			// single values are immutable
+			target.values = source.values;
 		}
-		if (source.optionByKey != null) {
-			target.optionByKey = new LinkedHashMap<String, String>(source.optionByKey);
+		// meta data and options are shared until either attribute is modified
+		// mark the source first so that it does not modify a map that is already referenced by the copy
+		Map<String, String> metaData = source.metaData;
+		if (metaData != null) {
+			source.metaDataShared = true;
+			target.metaData = metaData;
+			target.metaDataShared = true;
+		}
+		Map<String, String> optionByKey = source.optionByKey;
+		if (optionByKey != null) {
+			source.optionByKeyShared = true;
+			target.optionByKey = optionByKey;
+			target.optionByKeyShared = true;
 		}
 		if (source.attributeById != null) {
 			for (TaskAttribute child : source.attributeById.values()) {
@@ -594,7 +635,7 @@ public final class TaskAttribute {
 	 * To determine whether a value has been explicitly set, use {@link #hasValue()}.
 	 */
 	public String getValue() {
-		if (values.size() > 0) {
+		if (values != null && values.size() > 0) {
 			return values.get(0);
 		} else {
 			return ""; //$NON-NLS-1$
@@ -602,7 +643,12 @@ public final class TaskAttribute {
 	}
 
 	public List<String> getValues() {
-		return Collections.unmodifiableList(values);
+		if (values == null) {
+			return Collections.emptyList();
+		} else if (values instanceof ArrayList) {
+			return Collections.unmodifiableList(values);
+		}
+		return values;
 	}
 
 	/**
@@ -615,7 +661,7 @@ public final class TaskAttribute {
 	 * @since 3.9
 	 */
 	public boolean hasValue() {
-		return values.size() > 0;
+		return values != null && values.size() > 0;
 	}
 
 	@Override
@@ -630,9 +676,12 @@ public final class TaskAttribute {
 		Assert.isNotNull(key);
 		Assert.isNotNull(value);
 		if (metaData == null) {
-			metaData = new LinkedHashMap<String, String>();
+			metaData = new LinkedHashMap<String, String>(8);
+		} else if (metaDataShared) {
+			metaData = new LinkedHashMap<String, String>(metaData);
+			metaDataShared = false;
 		}
-		metaData.put(key.intern(), value);
+		metaData.put(key.intern(), StringInterner.intern(value));
 	}
 
 	/**
@@ -647,9 +696,12 @@ public final class TaskAttribute {
 		Assert.isNotNull(key);
 		Assert.isNotNull(value);
 		if (optionByKey == null) {
-			optionByKey = new LinkedHashMap<String, String>();
+			optionByKey = new LinkedHashMap<String, String>(8);
+		} else if (optionByKeyShared) {
+			optionByKey = new LinkedHashMap<String, String>(optionByKey);
+			optionByKeyShared = false;
 		}
-		optionByKey.put(key.intern(), value);
+		optionByKey.put(key.intern(), StringInterner.intern(value));
 	}
 
 	public void removeAttribute(String attributeId) {
@@ -659,28 +711,42 @@ public final class TaskAttribute {
 	}
 
 	void removeMetaDatum(String metaDataId) {
-		if (metaData != null) {
+		if (metaData != null && metaData.containsKey(metaDataId)) {
+			if (metaDataShared) {
+				metaData = new LinkedHashMap<String, String>(metaData);
+				metaDataShared = false;
+			}
 			metaData.remove(metaDataId);
 		}
 	}
 
 	public void removeValue(String value) {
-		values.remove(value);
+		if (values instanceof ArrayList) {
+			values.remove(value);
+		} else if (values != null && values.get(0).equals(value)) {
+			values = null;
+		}
 	}
 
 	public void setValue(String value) {
 		Assert.isNotNull(value);
-		if (values.size() > 0) {
-			values.clear();
-		}
-		values.add(value);
+		values = Collections.singletonList(StringInterner.intern(value));
 	}
 
 	public void setValues(List<String> values) {
 		Assert.isNotNull(values);
 		Assert.isTrue(!values.contains(null));
-		this.values.clear();
-		this.values.addAll(values);
+		if (values.isEmpty()) {
+			this.values = null;
+		} else if (values.size() == 1) {
+			this.values = Collections.singletonList(StringInterner.intern(values.get(0)));
+		} else {
+			List<String> newValues = new ArrayList<String>(values.size());
+			for (String value : values) {
+				newValues.add(StringInterner.intern(value));
+			}
+			this.values = newValues;
+		}
 	}
 
 	@Override
@@ -695,7 +761,7 @@ public final class TaskAttribute {
 		sb.append("TaskAttribute[id="); //$NON-NLS-1$
 		sb.append(attributeId);
 		sb.append(",values="); //$NON-NLS-1$
-		sb.append(values);
+		sb.append(getValues());
 		sb.append(",options="); //$NON-NLS-1$
 		sb.append(optionByKey);
 		sb.append(",metaData="); //$NON-NLS-1$
@@ -21,6 +21,7 @@ import junit.framework.TestCase;
 
 import org.eclipse.mylyn.internal.tasks.core.ITasksCoreConstants;
 import org.eclipse.mylyn.internal.tasks.core.LocalTask;
+import org.eclipse.mylyn.internal.tasks.core.externalization.AbstractExternalizationParticipant;
 import org.eclipse.mylyn.internal.tasks.ui.TasksUiPlugin;
 
 /**
@@ -48,4 +49,29 @@ public class BackgroundSaveTest extends TestCase {
 			TasksUiPlugin.getTaskList().deleteTask(task);
 		}
 	}
+
+	public void testSaveNowReplacesFileAtomically() throws Exception {
+		LocalTask task = new LocalTask("1", "summary");
+		File file = new File(TasksUiPlugin.getDefault().getDataDirectory(), ITasksCoreConstants.DEFAULT_TASK_LIST_FILE);
+		File tempFile = new File(file.getParentFile(),
+				file.getName() + AbstractExternalizationParticipant.TEMP_SUFFIX);
+		try {
+			TasksUiPlugin.getTaskList().addTask(task);
+			TasksUiPlugin.getExternalizationManager().saveNow();
+
+			assertTrue(file.length() > 0);
+			assertFalse(tempFile.exists());
+			assertTrue(TasksUiPlugin.getExternalizationManager()
+					.getLastSaveDuration(TasksUiPlugin.getTaskListExternalizationParticipant()) >= 0);
+
+			// the previous contents are kept as a snapshot while the data file stays in place
+			TasksUiPlugin.getExternalizationManager().saveNow();
+			File snapshot = new File(file.getParentFile(),
+					AbstractExternalizationParticipant.SNAPSHOT_PREFIX + file.getName());
+			assertTrue(file.length() > 0);
+			assertTrue(snapshot.length() > 0);
+		} finally {
+			TasksUiPlugin.getTaskList().deleteTask(task);
+		}
+	}
 }
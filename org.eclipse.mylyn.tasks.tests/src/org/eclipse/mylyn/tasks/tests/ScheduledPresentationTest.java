@@ -17,6 +17,7 @@ import java.util.Calendar;
 import java.util.Date;
 import java.util.HashMap;
 import java.util.Map;
+import java.util.Set;
 
 import junit.framework.TestCase;
 
@@ -195,6 +196,42 @@ public class ScheduledPresentationTest extends TestCase {
 		if (focused) {
 			TaskListView.getFromActivePerspective().setFocusedMode(!focused);
 		}
+		provider.dispose();
+	}
+
+	public void testStateContainersUpdatedOnChange() {
+		MockTask mockTask = new MockTask(MockRepositoryConnector.REPOSITORY_URL, "123", "mock task");
+		mockTask.setSynchronizationState(SynchronizationState.INCOMING);
+		TasksUiPlugin.getTaskList().addTask(mockTask);
+
+		TaskListView.getFromActivePerspective().setFocusedMode(false);
+		TaskScheduleContentProvider provider = new TaskScheduleContentProvider(TaskListView.getFromActivePerspective());
+		try {
+			ScheduledTaskContainer incoming = null;
+			for (Object object : provider.getElements(TaskListView.getFromActivePerspective().getViewSite())) {
+				if (object instanceof TaskScheduleContentProvider.Incoming) {
+					incoming = (ScheduledTaskContainer) object;
+				}
+			}
+			assertNotNull(incoming);
+			assertTrue(incoming.getChildren().contains(mockTask));
+			provider.getChangedElements();
+
+			mockTask.setSynchronizationState(SynchronizationState.SYNCHRONIZED);
+			TasksUiPlugin.getTaskList().notifyElementChanged(mockTask);
+			assertFalse(incoming.getChildren().contains(mockTask));
+
+			Set<Object> changedElements = provider.getChangedElements();
+			assertNotNull(changedElements);
+			assertTrue(changedElements.contains(incoming));
+			assertTrue(changedElements.contains(mockTask));
+
+			// tasks that show in date containers require a full refresh
+			TasksUiPlugin.getTaskActivityManager().setScheduledFor(mockTask, TaskActivityUtil.getNextWeek());
+			assertNull(provider.getChangedElements());
+		} finally {
+			provider.dispose();
+		}
 	}
 
 //	public void testResetAndRollOver() {
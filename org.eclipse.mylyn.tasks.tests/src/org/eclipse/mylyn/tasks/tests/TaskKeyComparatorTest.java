@@ -66,6 +66,7 @@ public class TaskKeyComparatorTest extends TestCase {
 		final String[] c1 = new String[] { null, null, s1 };
 		final String[] c2 = new String[] { null, null, s2 };
 		assertEquals(n, tkc.compare(c1, c2));
+		assertEquals(n, tkc.compareSplit(tkc.split(s1), tkc.split(s2)));
 	}
 
 }
@@ -69,4 +69,23 @@ public class TaskListContentProviderTest extends TestCase {
 		taskList.addTask(incompleteChild, parent);
 		assertTrue(provider.hasChildren(parent));
 	}
+
+	public void testHasChildrenDuringRefresh() {
+		AbstractTask parent = new LocalTask("parent", "parent label");
+		AbstractTask child = new LocalTask("child", "child label");
+		taskList.addTask(parent);
+		taskList.addTask(child, parent);
+
+		provider.beginRefresh();
+		try {
+			assertTrue(provider.hasChildren(parent));
+			// filter results are memoized until the refresh ends
+			child.setCompletionDate(new Date());
+			assertTrue(provider.hasChildren(parent));
+		} finally {
+			provider.endRefresh();
+		}
+		assertFalse(provider.hasChildren(parent));
+	}
+
 }
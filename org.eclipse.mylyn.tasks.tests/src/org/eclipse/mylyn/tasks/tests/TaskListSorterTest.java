@@ -227,6 +227,37 @@ public class TaskListSorterTest extends TestCase {
 		assertEquals("5", tasks[5].getTaskKey());
 	}
 
+	public void testSortAfterChange() {
+		MockTask task1 = new MockTask("local", "1", "a");
+		MockTask task2 = new MockTask("local", "2", "b");
+		task1.setAttribute(TaskAttribute.RANK, "1");
+		task2.setAttribute(TaskAttribute.RANK, "2");
+		MockTask[] tasks = { task1, task2 };
+
+		TaskListSorter sorter = new TaskListSorter();
+		sorter.getTaskComparator().getSortCriterion(0).setKey(SortCriterion.SortKey.RANK);
+		sorter.sort(new EmptyViewer(), tasks);
+		assertEquals(task1, tasks[0]);
+
+		task1.setAttribute(TaskAttribute.RANK, "3");
+		sorter.sort(new EmptyViewer(), tasks);
+		assertEquals(task2, tasks[0]);
+
+		task1.setAttribute(TaskAttribute.RANK, "x");
+		sorter.sort(new EmptyViewer(), tasks);
+		assertEquals(task2, tasks[0]);
+
+		task1.setPriority("P2");
+		task2.setPriority("P3");
+		sorter.getTaskComparator().getSortCriterion(0).setKey(SortCriterion.SortKey.PRIORITY);
+		sorter.sort(new EmptyViewer(), tasks);
+		assertEquals(task1, tasks[0]);
+
+		task1.setPriority("P4");
+		sorter.sort(new EmptyViewer(), tasks);
+		assertEquals(task2, tasks[0]);
+	}
+
 	public void testRankOrderSortingWithNullRank() {
 		MockTask[] tasks = new MockTask[6];
 		tasks[0] = new MockTask("local", "1", "a");
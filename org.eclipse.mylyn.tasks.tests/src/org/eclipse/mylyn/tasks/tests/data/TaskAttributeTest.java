@@ -105,4 +105,65 @@ public class TaskAttributeTest extends TestCase {
 		}
 	}
 
+	public void testValuesAreCanonicalized() throws Exception {
+		TaskAttribute other = new TaskAttribute(attribute.getTaskData().getRoot(), "other");
+		attribute.setValue(new String("product"));
+		other.setValue(new String("product"));
+		assertSame(attribute.getValue(), other.getValue());
+
+		attribute.putOption("key", new String("component"));
+		other.putOption("key", new String("component"));
+		assertSame(attribute.getOption("key"), other.getOption("key"));
+
+		attribute.getMetaData().putValue(TaskAttribute.META_LABEL, new String("Product:"));
+		other.getMetaData().putValue(TaskAttribute.META_LABEL, new String("Product:"));
+		assertSame(attribute.getMetaData().getLabel(), other.getMetaData().getLabel());
+	}
+
+	public void testAddAndRemoveValues() throws Exception {
+		attribute.addValue("foo");
+		attribute.addValue("bar");
+		assertEquals(Arrays.asList("foo", "bar"), attribute.getValues());
+
+		attribute.removeValue("foo");
+		assertEquals(Collections.singletonList("bar"), attribute.getValues());
+
+		attribute.removeValue("bar");
+		assertFalse(attribute.hasValue());
+		assertEquals("", attribute.getValue());
+
+		attribute.setValue("baz");
+		attribute.removeValue("baz");
+		assertFalse(attribute.hasValue());
+	}
+
+	public void testSetValuesFromSelf() throws Exception {
+		attribute.setValues(Arrays.asList("foo", "bar"));
+		attribute.setValues(attribute.getValues());
+		assertEquals(Arrays.asList("foo", "bar"), attribute.getValues());
+	}
+
+	public void testDeepAddCopyIsIndependent() throws Exception {
+		attribute.setValues(Arrays.asList("foo", "bar"));
+		attribute.putOption("key", "value");
+		attribute.getMetaData().putValue(TaskAttribute.META_LABEL, "label");
+		TaskData copyData = new TaskData(attribute.getTaskData().getAttributeMapper(), "kind", "repository", "id");
+		copyData.getRoot().deepAddCopy(attribute);
+		TaskAttribute copy = copyData.getRoot().getAttribute("test");
+
+		copy.addValue("baz");
+		copy.putOption("key", "other");
+		copy.getMetaData().putValue(TaskAttribute.META_LABEL, "other");
+		assertEquals(Arrays.asList("foo", "bar"), attribute.getValues());
+		assertEquals("value", attribute.getOption("key"));
+		assertEquals("label", attribute.getMetaData().getLabel());
+
+		attribute.putOption("key2", "value2");
+		attribute.getMetaData().setReadOnly(true);
+		assertNull(copy.getOption("key2"));
+		assertFalse(copy.getMetaData().isReadOnly());
+		assertEquals("other", copy.getOption("key"));
+		assertEquals("other", copy.getMetaData().getLabel());
+	}
+
 }
@@ -15,6 +15,8 @@ package org.eclipse.mylyn.tasks.tests.ui;
 
 import junit.framework.TestCase;
 
+import org.eclipse.jface.text.Document;
+import org.eclipse.jface.text.IDocument;
 import org.eclipse.jface.text.ITextViewer;
 import org.eclipse.jface.text.Region;
 import org.eclipse.jface.text.hyperlink.IHyperlink;
@@ -86,4 +88,35 @@ public class TaskHyperlinkDetectorTest extends TestCase {
 		assertNull(links);
 	}
 
+	public void testDetectCached() throws Exception {
+		final int[] count = new int[1];
+		connectorUi = new MockRepositoryConnectorUi() {
+			@Override
+			public IHyperlink[] findHyperlinks(TaskRepository repository, String text, int index, int textOffset) {
+				count[0]++;
+				return super.findHyperlinks(repository, text, index, textOffset);
+			}
+		};
+		final Document document = new Document("123 456");
+		MockTextViewer viewer = new MockTextViewer() {
+			@Override
+			public IDocument getDocument() {
+				return document;
+			}
+		};
+		AbstractTaskHyperlinkDetector detector = createHyperlinkDetector();
+		IHyperlink[] links = detector.detectHyperlinks(viewer, new Region(1, 0), true);
+		assertEquals(1, links.length);
+		assertEquals(new Region(0, 3), links[0].getHyperlinkRegion());
+		links = detector.detectHyperlinks(viewer, new Region(5, 0), true);
+		assertEquals(1, links.length);
+		assertEquals(new Region(4, 3), links[0].getHyperlinkRegion());
+		assertEquals(1, count[0]);
+
+		document.replace(0, 3, "abc");
+		assertNull(detector.detectHyperlinks(viewer, new Region(1, 0), true));
+		assertEquals(2, count[0]);
+		detector.dispose();
+	}
+
 }
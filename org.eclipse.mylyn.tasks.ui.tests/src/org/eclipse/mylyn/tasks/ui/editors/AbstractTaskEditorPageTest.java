@@ -13,6 +13,8 @@
 
 package org.eclipse.mylyn.tasks.ui.editors;
 
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
 import static org.mockito.Matchers.any;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.never;
@@ -94,4 +96,17 @@ public class AbstractTaskEditorPageTest {
 		verify(form, never()).dirtyStateChanged();
 	}
 
+	@Test
+	public void testCanCreateModelInBackground() {
+		AbstractTaskEditorPage defaultPage = new AbstractTaskEditorPage(mock(TaskEditor.class),
+				task.getConnectorKind()) {
+		};
+		assertTrue(defaultPage.canCreateModelInBackground());
+	}
+
+	@Test
+	public void testCanCreateModelInBackgroundOverriddenCreateModel() {
+		assertFalse(page.canCreateModelInBackground());
+	}
+
 }
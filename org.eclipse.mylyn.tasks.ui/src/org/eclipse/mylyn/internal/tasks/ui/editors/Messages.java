@@ -155,6 +155,8 @@ public class Messages extends NLS {
 
 	public static String TaskEditorCommentPart_Expand_Comments;
 
+	public static String TaskEditorCommentPart_Show_More_Comments;
+
 	public static String TaskEditorDescriptionPart_Description;
 
 	public static String TaskEditorDescriptionPart_Detector;
@@ -245,6 +247,8 @@ public class Messages extends NLS {
 
 	public static String AbstractTaskEditorPage_History;
 
+	public static String AbstractTaskEditorPage_Loading_task;
+
 	public static String AbstractTaskEditorPage_Open_failed;
 
 	public static String AbstractTaskEditorPage_Open_with_Web_Browser;
@@ -34,7 +34,8 @@ public class MultipleTaskHyperlinkDetector extends TaskHyperlinkDetector {
 	protected List<IHyperlink> detectHyperlinks(ITextViewer textViewer, String content, int index, int contentOffset) {
 		List<IHyperlink> result = new ArrayList<IHyperlink>();
 		TaskRepository currentRepository = getTaskRepository(textViewer);
-		final IHyperlink[] currentRepositoryLinks = detectHyperlinks(currentRepository, content, index, contentOffset);
+		final IHyperlink[] currentRepositoryLinks = detectHyperlinks(textViewer, currentRepository, content, index,
+				contentOffset);
 		if (currentRepositoryLinks != null && currentRepositoryLinks.length > 0) {
 			result.addAll(Arrays.asList(currentRepositoryLinks));
 			Set<Region> currentRepositoryRegions = new HashSet<Region>();
@@ -44,7 +45,7 @@ public class MultipleTaskHyperlinkDetector extends TaskHyperlinkDetector {
 			List<TaskRepository> otherRepositories = getTaskRepositories(textViewer);
 			otherRepositories.remove(currentRepository);
 			for (final TaskRepository repository : otherRepositories) {
-				final IHyperlink[] links = detectHyperlinks(repository, content, index, contentOffset);
+				final IHyperlink[] links = detectHyperlinks(textViewer, repository, content, index, contentOffset);
 				if (links != null) {
 					for (IHyperlink link : links) {
 						// prevent highlighting text that is not already a link for the current repository
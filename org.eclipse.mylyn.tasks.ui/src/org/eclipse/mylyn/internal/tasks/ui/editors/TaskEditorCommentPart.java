@@ -15,8 +15,10 @@
 package org.eclipse.mylyn.internal.tasks.ui.editors;
 
 import java.util.ArrayList;
+import java.util.Date;
 import java.util.List;
 
+import org.eclipse.core.runtime.Platform;
 import org.eclipse.jface.action.Action;
 import org.eclipse.jface.action.IMenuCreator;
 import org.eclipse.jface.action.IMenuListener;
@@ -44,6 +46,7 @@ import org.eclipse.mylyn.tasks.core.data.TaskDataModel;
 import org.eclipse.mylyn.tasks.ui.TasksUiImages;
 import org.eclipse.mylyn.tasks.ui.editors.AbstractAttributeEditor;
 import org.eclipse.mylyn.tasks.ui.editors.AbstractTaskEditorPart;
+import org.eclipse.osgi.util.NLS;
 import org.eclipse.swt.SWT;
 import org.eclipse.swt.custom.StyledText;
 import org.eclipse.swt.events.MouseAdapter;
@@ -66,6 +69,7 @@ import org.eclipse.ui.forms.events.HyperlinkAdapter;
 import org.eclipse.ui.forms.events.HyperlinkEvent;
 import org.eclipse.ui.forms.widgets.ExpandableComposite;
 import org.eclipse.ui.forms.widgets.FormToolkit;
+import org.eclipse.ui.forms.widgets.Hyperlink;
 import org.eclipse.ui.forms.widgets.ImageHyperlink;
 import org.eclipse.ui.forms.widgets.Section;
 
@@ -90,12 +94,27 @@ public class TaskEditorCommentPart extends AbstractTaskEditorPart {
 
 		private boolean renderedInSubSection;
 
+		private Composite commentsComposite;
+
+		private FormToolkit toolkit;
+
+		/**
+		 * The number of comment viewers for which controls have been created.
+		 */
+		private int createdCount;
+
+		private Hyperlink moreLink;
+
+		/**
+		 * Set when all comments in the group are expanded to expand viewers that are created later.
+		 */
+		private boolean expandViewers;
+
 		public CommentGroupViewer(CommentGroup commentGroup) {
 			this.commentGroup = commentGroup;
 		}
 
 		private Composite createCommentViewers(Composite parent, FormToolkit toolkit) {
-			List<CommentViewer> viewers = getCommentViewers();
 			Composite composite = toolkit.createComposite(parent);
 
 			GridLayout contentLayout = new GridLayout();
@@ -103,11 +122,89 @@ public class TaskEditorCommentPart extends AbstractTaskEditorPart {
 			contentLayout.marginWidth = 0;
 			composite.setLayout(contentLayout);
 
-			for (CommentViewer commentViewer : viewers) {
-				Control control = commentViewer.createControl(composite, toolkit);
+			this.commentsComposite = composite;
+			this.toolkit = toolkit;
+			this.createdCount = 0;
+			createCommentControls(COMMENT_BATCH_SIZE);
+			return composite;
+		}
+
+		/**
+		 * Creates controls for up to <code>count</code> further comments. Controls for remaining comments are created
+		 * once the link that follows the last created comment becomes visible.
+		 */
+		private void createCommentControls(int count) {
+			List<CommentViewer> viewers = getCommentViewers();
+			int end = Math.min(viewers.size(), createdCount + count);
+			if (moreLink != null) {
+				moreLink.dispose();
+				moreLink = null;
+			}
+			for (int i = createdCount; i < end; i++) {
+				CommentViewer commentViewer = viewers.get(i);
+				commentViewer.expandOnCreate = expandViewers;
+				Control control = commentViewer.createControl(commentsComposite, toolkit);
 				GridDataFactory.fillDefaults().grab(true, false).applyTo(control);
 			}
-			return composite;
+			createdCommentCount += end - createdCount;
+			createdCount = end;
+			if (createdCount < viewers.size()) {
+				createMoreLink(viewers.size() - createdCount);
+			}
+		}
+
+		private void createMoreLink(int remaining) {
+			moreLink = toolkit.createHyperlink(commentsComposite,
+					NLS.bind(Messages.TaskEditorCommentPart_Show_More_Comments, remaining), SWT.NONE);
+			GridDataFactory.fillDefaults().applyTo(moreLink);
+			moreLink.addHyperlinkListener(new HyperlinkAdapter() {
+				@Override
+				public void linkActivated(HyperlinkEvent e) {
+					createMoreCommentControls();
+				}
+			});
+			final Hyperlink link = moreLink;
+			link.addPaintListener(new PaintListener() {
+				public void paintControl(PaintEvent e) {
+					// the link is only painted when it is scrolled into the visible area of the editor
+					link.removePaintListener(this);
+					link.getDisplay().asyncExec(new Runnable() {
+						public void run() {
+							if (!link.isDisposed() && link == moreLink) {
+								createMoreCommentControls();
+							}
+						}
+					});
+				}
+			});
+		}
+
+		private void createMoreCommentControls() {
+			long startTime = System.currentTimeMillis();
+			try {
+				getTaskEditorPage().setReflow(false);
+				createCommentControls(COMMENT_BATCH_SIZE);
+			} finally {
+				getTaskEditorPage().setReflow(true);
+			}
+			reflow();
+			if (TRACE_ENABLED) {
+				trace("Created " + createdCount + " of " + getCommentViewers().size() + " comments in group " //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$
+						+ commentGroup.getGroupName() + " in " + (System.currentTimeMillis() - startTime) + " ms"); //$NON-NLS-1$ //$NON-NLS-2$
+			}
+		}
+
+		/**
+		 * Ensures that the control of <code>commentViewer</code> has been created if the comments of this group are
+		 * shown.
+		 */
+		public void createCommentControl(CommentViewer commentViewer) {
+			if (commentsComposite != null && !commentsComposite.isDisposed()) {
+				int index = getCommentViewers().indexOf(commentViewer);
+				if (index >= createdCount) {
+					createCommentControls(index + 1 - createdCount);
+				}
+			}
 		}
 
 		private Control createControl(Composite parent, FormToolkit toolkit) {
@@ -218,12 +315,12 @@ public class TaskEditorCommentPart extends AbstractTaskEditorPart {
 				return false;
 			}
 			if (commentViewers != null) {
-				for (CommentViewer commentViewer : commentViewers) {
-					if (!commentViewer.isExpanded()) {
+				for (int i = 0; i < createdCount; i++) {
+					if (!commentViewers.get(i).isExpanded()) {
 						return false;
 					}
 				}
-				return true;
+				return createdCount == commentViewers.size() || expandViewers;
 			}
 			return false;
 		}
@@ -242,6 +339,7 @@ public class TaskEditorCommentPart extends AbstractTaskEditorPart {
 		 * Expands this group and all comments in it.
 		 */
 		public void setFullyExpanded(boolean expanded) {
+			expandViewers = expanded;
 			if (groupSection != null && groupSection.isExpanded() != expanded) {
 				CommonFormUtil.setExpanded(groupSection, expanded);
 			}
@@ -295,6 +393,8 @@ public class TaskEditorCommentPart extends AbstractTaskEditorPart {
 
 		private boolean suppressSelectionChanged;
 
+		private boolean expandOnCreate;
+
 		public CommentViewer(TaskAttribute commentAttribute) {
 			this.commentAttribute = commentAttribute;
 			this.taskComment = new TaskComment(getModel().getTaskRepository(), getModel().getTask(), commentAttribute);
@@ -305,7 +405,7 @@ public class TaskEditorCommentPart extends AbstractTaskEditorPart {
 			getTaskData().getAttributeMapper().updateTaskComment(taskComment, commentAttribute);
 			int style = ExpandableComposite.TREE_NODE | ExpandableComposite.LEFT_TEXT_CLIENT_ALIGNMENT
 					| ExpandableComposite.COMPACT;
-			if (hasIncomingChanges || (expandAllInProgress && !suppressExpandViewers)) {
+			if (hasIncomingChanges || expandOnCreate || (expandAllInProgress && !suppressExpandViewers)) {
 				style |= ExpandableComposite.EXPANDED;
 			}
 			commentComposite = toolkit.createExpandableComposite(composite, style);
@@ -598,6 +698,15 @@ public class TaskEditorCommentPart extends AbstractTaskEditorPart {
 
 	}
 
+	private static final boolean TRACE_ENABLED = Boolean
+			.valueOf(Platform.getDebugOption("org.eclipse.mylyn.tasks.ui/debug/editor/comments")); //$NON-NLS-1$
+
+	/**
+	 * The number of comments that are rendered at a time in a group. Tasks may have thousands of comments, creating
+	 * controls for all of them at once blocks the UI thread.
+	 */
+	static final int COMMENT_BATCH_SIZE = 50;
+
 	/** Expandable composites are indented by 6 pixels by default. */
 	private static final int INDENT = -6;
 
@@ -632,6 +741,8 @@ public class TaskEditorCommentPart extends AbstractTaskEditorPart {
 
 	private boolean suppressExpandViewers;
 
+	private int createdCommentCount;
+
 	public TaskEditorCommentPart() {
 		this.commentGroupStrategy = new CommentGroupStrategy() {
 			@Override
@@ -684,6 +795,7 @@ public class TaskEditorCommentPart extends AbstractTaskEditorPart {
 
 	@Override
 	public void createControl(Composite parent, FormToolkit toolkit) {
+		long startTime = System.currentTimeMillis();
 		initialize();
 
 		selectionProvider = new SelectionProviderAdapter();
@@ -743,6 +855,10 @@ public class TaskEditorCommentPart extends AbstractTaskEditorPart {
 			}
 		}
 		setSection(toolkit, section);
+		if (TRACE_ENABLED) {
+			trace("Created comment part with " + createdCommentCount + " of " + commentAttributes.size() //$NON-NLS-1$ //$NON-NLS-2$
+					+ " comments in " + (System.currentTimeMillis() - startTime) + " ms"); //$NON-NLS-1$ //$NON-NLS-2$
+		}
 	}
 
 	@Override
@@ -899,6 +1015,8 @@ public class TaskEditorCommentPart extends AbstractTaskEditorPart {
 				if (viewer.getTaskAttribute().equals(commentAttribute)) {
 					// expand section
 					groupViewer.setExpanded(true);
+					groupViewer.createCommentControl(viewer);
+					reflow();
 
 					// EditorUtil is consistent with behavior of outline
 					EditorUtil.reveal(getTaskEditorPage().getManagedForm().getForm(), commentAttribute.getId());
@@ -922,4 +1040,15 @@ public class TaskEditorCommentPart extends AbstractTaskEditorPart {
 	public void setReflow(boolean reflow) {
 		this.reflow = reflow;
 	}
+
+	/**
+	 * Returns the number of comments for which controls have been created.
+	 */
+	public int getCreatedCommentCount() {
+		return createdCommentCount;
+	}
+
+	private static void trace(String message) {
+		System.err.println("[" + new Date() + "] " + message); //$NON-NLS-1$ //$NON-NLS-2$
+	}
 }
@@ -239,6 +239,7 @@ public class TaskEditorFindSupport {
 			if (!group.isRenderedInSubSection() || group.isExpanded()) {
 				try {
 					part.setReflow(false);
+					createCommentControls(group, matchingViewers);
 					gatherStyledTexts(matchingViewers, styledTexts);
 				} finally {
 					part.setReflow(true);
@@ -263,6 +264,7 @@ public class TaskEditorFindSupport {
 					taskEditorPage.setReflow(false);
 					part.setReflow(false);
 					group.setExpanded(true);
+					createCommentControls(group, matchingViewers);
 					gatherStyledTexts(matchingViewers, commentStyledTexts);
 				} finally {
 					taskEditorPage.setReflow(true);
@@ -306,6 +308,13 @@ public class TaskEditorFindSupport {
 		return matchingViewers;
 	}
 
+	private static void createCommentControls(CommentGroupViewer group, List<CommentViewer> matchingViewers) {
+		// comments are rendered in batches, ensure that all matching comments are shown
+		if (!matchingViewers.isEmpty()) {
+			group.createCommentControl(matchingViewers.get(matchingViewers.size() - 1));
+		}
+	}
+
 	protected static void gatherStyledTexts(List<CommentViewer> commentViewers, List<StyledText> styledTexts) {
 		for (CommentViewer viewer : commentViewers) {
 			try {
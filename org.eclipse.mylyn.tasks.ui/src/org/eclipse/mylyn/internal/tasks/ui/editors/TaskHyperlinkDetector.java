@@ -15,9 +15,16 @@ package org.eclipse.mylyn.internal.tasks.ui.editors;
 
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.WeakHashMap;
 
 import org.eclipse.core.runtime.ISafeRunnable;
+import org.eclipse.jface.text.DocumentEvent;
+import org.eclipse.jface.text.IDocument;
+import org.eclipse.jface.text.IDocumentListener;
 import org.eclipse.jface.text.ITextViewer;
 import org.eclipse.jface.text.hyperlink.IHyperlink;
 import org.eclipse.jface.util.SafeRunnable;
@@ -28,18 +35,91 @@ import org.eclipse.mylyn.tasks.ui.AbstractRepositoryConnectorUi;
 import org.eclipse.mylyn.tasks.ui.AbstractTaskHyperlinkDetector;
 
 /**
- * Delegates to {@link AbstractRepositoryConnectorUi} for detecting hyperlinks.
+ * Delegates to {@link AbstractRepositoryConnectorUi} for detecting hyperlinks. Hyperlinks are cached per document and
+ * repository for the detected text since detection runs on every mouse move and repaint. The cache of a document is
+ * cleared when the document changes.
  * 
  * @author Steffen Pingel
  */
 public class TaskHyperlinkDetector extends AbstractTaskHyperlinkDetector {
 
+	private static final IHyperlink[] NO_HYPERLINKS = new IHyperlink[0];
+
+	private static final int MAX_CACHED_ENTRIES = 500;
+
+	private static class CacheKey {
+
+		private final TaskRepository repository;
+
+		private final String content;
+
+		private final int contentOffset;
+
+		public CacheKey(TaskRepository repository, String content, int contentOffset) {
+			this.repository = repository;
+			this.content = content;
+			this.contentOffset = contentOffset;
+		}
+
+		@Override
+		public boolean equals(Object obj) {
+			if (!(obj instanceof CacheKey)) {
+				return false;
+			}
+			CacheKey other = (CacheKey) obj;
+			return contentOffset == other.contentOffset && content.equals(other.content)
+					&& ((repository == null) ? other.repository == null : repository.equals(other.repository));
+		}
+
+		@Override
+		public int hashCode() {
+			return (contentOffset * 31 + content.hashCode()) * 31 + ((repository == null) ? 0 : repository.hashCode());
+		}
+
+	}
+
+	/**
+	 * Caches the hyperlinks of a document. The cache must not reference the document since it is the value of a weak
+	 * map that is keyed by the document.
+	 */
+	private static class HyperlinkCache implements IDocumentListener {
+
+		private final Map<CacheKey, IHyperlink[]> linksByKey = new LinkedHashMap<CacheKey, IHyperlink[]>(16, 0.75f,
+				true) {
+			private static final long serialVersionUID = 1L;
+
+			@Override
+			protected boolean removeEldestEntry(Map.Entry<CacheKey, IHyperlink[]> eldest) {
+				return size() > MAX_CACHED_ENTRIES;
+			}
+		};
+
+		public synchronized IHyperlink[] get(CacheKey key) {
+			return linksByKey.get(key);
+		}
+
+		public synchronized void put(CacheKey key, IHyperlink[] links) {
+			linksByKey.put(key, links);
+		}
+
+		public synchronized void documentAboutToBeChanged(DocumentEvent event) {
+			// offsets of all following hyperlinks change
+			linksByKey.clear();
+		}
+
+		public void documentChanged(DocumentEvent event) {
+		}
+
+	}
+
+	private final Map<IDocument, HyperlinkCache> cacheByDocument = new WeakHashMap<IDocument, HyperlinkCache>();
+
 	@Override
 	protected List<IHyperlink> detectHyperlinks(ITextViewer textViewer, final String content, final int index,
 			final int contentOffset) {
 		List<IHyperlink> result = new ArrayList<IHyperlink>();
 		for (final TaskRepository repository : getTaskRepositories(textViewer)) {
-			final IHyperlink[] links = detectHyperlinks(repository, content, index, contentOffset);
+			final IHyperlink[] links = detectHyperlinks(textViewer, repository, content, index, contentOffset);
 			if (links != null && links.length > 0) {
 				result.addAll(Arrays.asList(links));
 			}
@@ -50,6 +130,41 @@ public class TaskHyperlinkDetector extends AbstractTaskHyperlinkDetector {
 		return result;
 	}
 
+	/**
+	 * Returns all hyperlinks for <code>repository</code> in <code>content</code> using cached results for the document
+	 * of <code>textViewer</code> if available. Callers are expected to filter the hyperlinks for <code>index</code>.
+	 */
+	protected IHyperlink[] detectHyperlinks(ITextViewer textViewer, TaskRepository repository, String content,
+			int index, int contentOffset) {
+		IDocument document = textViewer.getDocument();
+		if (document == null) {
+			return detectHyperlinks(repository, content, index, contentOffset);
+		}
+
+		HyperlinkCache cache = getCache(document);
+		CacheKey key = new CacheKey(repository, content, contentOffset);
+		IHyperlink[] links = cache.get(key);
+		if (links == null) {
+			// detect all hyperlinks in content to reuse the result for any index
+			links = detectHyperlinks(repository, content, -1, contentOffset);
+			if (links == null) {
+				links = NO_HYPERLINKS;
+			}
+			cache.put(key, links);
+		}
+		return (links.length > 0) ? links : null;
+	}
+
+	private synchronized HyperlinkCache getCache(IDocument document) {
+		HyperlinkCache cache = cacheByDocument.get(document);
+		if (cache == null) {
+			cache = new HyperlinkCache();
+			document.addDocumentListener(cache);
+			cacheByDocument.put(document, cache);
+		}
+		return cache;
+	}
+
 	protected IHyperlink[] detectHyperlinks(final TaskRepository repository, final String content, final int index,
 			final int contentOffset) {
 		final AbstractRepositoryConnectorUi connectorUi = getConnectorUi(repository);
@@ -73,4 +188,15 @@ public class TaskHyperlinkDetector extends AbstractTaskHyperlinkDetector {
 		return TasksUiPlugin.getConnectorUi(repository.getConnectorKind());
 	}
 
+	@Override
+	public synchronized void dispose() {
+		for (Iterator<Map.Entry<IDocument, HyperlinkCache>> it = cacheByDocument.entrySet().iterator(); it
+				.hasNext();) {
+			Map.Entry<IDocument, HyperlinkCache> entry = it.next();
+			entry.getKey().removeDocumentListener(entry.getValue());
+			it.remove();
+		}
+		super.dispose();
+	}
+
 }
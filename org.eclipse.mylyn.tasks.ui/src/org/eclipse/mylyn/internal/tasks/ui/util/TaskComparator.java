@@ -18,6 +18,8 @@ package org.eclipse.mylyn.internal.tasks.ui.util;
 import java.util.Comparator;
 import java.util.Date;
 import java.util.List;
+import java.util.Map;
+import java.util.WeakHashMap;
 
 import org.eclipse.mylyn.internal.tasks.core.AbstractTask;
 import org.eclipse.mylyn.internal.tasks.core.DateRange;
@@ -30,6 +32,7 @@ import org.eclipse.mylyn.internal.tasks.ui.views.TaskKeyComparator;
 import org.eclipse.mylyn.internal.tasks.ui.views.TaskListView;
 import org.eclipse.mylyn.tasks.core.IRepositoryElement;
 import org.eclipse.mylyn.tasks.core.ITask;
+import org.eclipse.mylyn.tasks.core.ITask.PriorityLevel;
 import org.eclipse.mylyn.tasks.core.data.TaskAttribute;
 import org.eclipse.ui.IMemento;
 
@@ -42,8 +45,76 @@ import com.google.common.collect.ListMultimap;
  */
 public class TaskComparator implements Comparator<ITask> {
 
+	/**
+	 * Caches values of a task that are expensive to derive for sorting. Each value is validated against the attribute
+	 * it was derived from by identity which is cheap and does not depend on change notifications, e.g. for tasks in
+	 * search results that are not part of the task list.
+	 */
+	private final class SortKey {
+
+		private String taskKey;
+
+		private String[] splitTaskKey;
+
+		private String rankString;
+
+		private double rank;
+
+		private boolean rankNumeric = true;
+
+		private String priority;
+
+		private int priorityOrdinal = -1;
+
+		String[] getSplitTaskKey(String taskKey) {
+			if (taskKey != this.taskKey) {
+				this.taskKey = taskKey;
+				this.splitTaskKey = (taskKey != null) ? taskKeyComparator.split(taskKey) : null;
+			}
+			return splitTaskKey;
+		}
+
+		/**
+		 * Returns false, if <code>rankString</code> is not a number.
+		 */
+		boolean updateRank(String rankString) {
+			if (rankString != this.rankString) {
+				this.rankString = rankString;
+				try {
+					rank = (rankString == null || rankString.length() == 0) ? 0 : Double.parseDouble(rankString);
+					rankNumeric = true;
+				} catch (NumberFormatException e) {
+					rankNumeric = false;
+				}
+			}
+			return rankNumeric;
+		}
+
+		/**
+		 * Returns the ordinal of <code>priority</code> if it is a {@link PriorityLevel} or -1 otherwise.
+		 */
+		int getPriorityOrdinal(String priority) {
+			if (priority != this.priority) {
+				this.priority = priority;
+				priorityOrdinal = -1;
+				if (priority != null) {
+					for (PriorityLevel level : PriorityLevel.values()) {
+						if (level.toString().equals(priority)) {
+							priorityOrdinal = level.ordinal();
+							break;
+						}
+					}
+				}
+			}
+			return priorityOrdinal;
+		}
+
+	}
+
 	private static final String MEMENTO_KEY_SORT = "sort"; //$NON-NLS-1$
 
+	private final Map<ITask, SortKey> sortKeyByTask = new WeakHashMap<ITask, SortKey>();
+
 	private final ListMultimap<String, SortCriterion> sortCriteria;
 
 	private String currentPresentation;
@@ -239,15 +310,24 @@ public class TaskComparator implements Comparator<ITask> {
 		return sortDirection * key1.compareTo(key2);
 	}
 
+	private SortKey getSortKey(ITask task) {
+		SortKey sortKey = sortKeyByTask.get(task);
+		if (sortKey == null) {
+			sortKey = new SortKey();
+			sortKeyByTask.put(task, sortKey);
+		}
+		return sortKey;
+	}
+
 	private int sortByID(ITask task1, ITask task2, int sortDirection) {
-		String key1 = task1.getTaskKey();
-		String key2 = task2.getTaskKey();
+		String[] key1 = getSortKey(task1).getSplitTaskKey(task1.getTaskKey());
+		String[] key2 = getSortKey(task2).getSplitTaskKey(task2.getTaskKey());
 		if (key1 == null) {
 			return (key2 != null) ? sortDirection : 0;
 		} else if (key2 == null) {
 			return -sortDirection;
 		}
-		return sortDirection * taskKeyComparator.compare2(key1, key2);
+		return sortDirection * taskKeyComparator.compareSplit(key1, key2);
 	}
 
 	private int sortByRank(ITask task1, ITask task2, int sortDirection) {
@@ -259,24 +339,27 @@ public class TaskComparator implements Comparator<ITask> {
 				// only compare the rank of elements in the same repository
 				String rankString1 = task1.getAttribute(TaskAttribute.RANK);
 				String rankString2 = task2.getAttribute(TaskAttribute.RANK);
-				try {
-					Double rank1 = rankString1 == null || rankString1.length() == 0
-							? Double.valueOf(0)
-							: Double.valueOf(rankString1);
-					Double rank2 = rankString2 == null || rankString2.length() == 0
-							? Double.valueOf(0)
-							: Double.valueOf(rankString2);
-					return compare(rank1, rank2, sortDirection);
-				} catch (NumberFormatException e) {
-					return compare(rankString1, rankString2, sortDirection);
+				SortKey sortKey1 = getSortKey(task1);
+				SortKey sortKey2 = getSortKey(task2);
+				if (sortKey1.updateRank(rankString1) && sortKey2.updateRank(rankString2)) {
+					return sortDirection * Double.compare(sortKey1.rank, sortKey2.rank);
 				}
+				return compare(rankString1, rankString2, sortDirection);
 			}
 		}
 		return 0;
 	}
 
 	private int sortByPriority(ITask task1, ITask task2, int sortDirection) {
-		return sortDirection * task1.getPriority().compareToIgnoreCase(task2.getPriority());
+		String priority1 = task1.getPriority();
+		String priority2 = task2.getPriority();
+		int ordinal1 = getSortKey(task1).getPriorityOrdinal(priority1);
+		int ordinal2 = getSortKey(task2).getPriorityOrdinal(priority2);
+		if (ordinal1 != -1 && ordinal2 != -1) {
+			// priority levels are ordered the same way as their names
+			return sortDirection * Integer.compare(ordinal1, ordinal2);
+		}
+		return sortDirection * priority1.compareToIgnoreCase(priority2);
 	}
 
 	private int sortBySummary(ITask task1, ITask task2, int sortDirection) {
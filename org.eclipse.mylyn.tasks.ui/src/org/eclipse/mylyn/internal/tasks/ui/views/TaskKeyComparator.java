@@ -97,6 +97,14 @@ public class TaskKeyComparator implements Comparator<String[]> {
 		return value1.compareToIgnoreCase(value2);
 	}
 
+	/**
+	 * Compares task keys that were split by {@link #split(String)}. Unlike {@link #compare(String[], String[])} the
+	 * keys are not split again which makes this suitable for comparing keys that are split once and then cached.
+	 */
+	public int compareSplit(String[] a1, String[] a2) {
+		return compare(a1[0], a1[1], a1[2], a2[0], a2[1], a2[2]);
+	}
+
 	public String[] split(String s) {
 		Matcher matcher = PATTERN.matcher(s);
 
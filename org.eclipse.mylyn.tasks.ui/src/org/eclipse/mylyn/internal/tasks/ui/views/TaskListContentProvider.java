@@ -16,9 +16,11 @@ package org.eclipse.mylyn.internal.tasks.ui.views;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
+import java.util.HashMap;
 import java.util.HashSet;
 import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
 
 import org.eclipse.jface.viewers.TreePath;
@@ -47,10 +49,41 @@ public class TaskListContentProvider extends AbstractTaskListContentProvider {
 
 	protected static Object[] EMPTY_ARRRY = new Object[0];
 
+	private int refreshDepth;
+
+	/**
+	 * Maps a parent to the filter results of its children while the viewer is refreshed, <code>null</code> otherwise.
+	 */
+	private Map<Object, Map<Object, Boolean>> filterResultsByParent;
+
+	/**
+	 * Maps a container to the subtasks of its children while the viewer is refreshed, <code>null</code> otherwise.
+	 */
+	private Map<ITaskContainer, Set<ITask>> subtasksByContainer;
+
 	public TaskListContentProvider(AbstractTaskListView taskListView) {
 		super(taskListView);
 	}
 
+	/**
+	 * Memoizes filter results until the matching invocation of {@link #endRefresh()}. The viewer requests the children
+	 * of the same element several times during a refresh, e.g. through {@link #hasChildren(Object)} and
+	 * {@link #getChildren(Object)}, while filters and the task list do not change. Must be invoked on the UI thread.
+	 */
+	public void beginRefresh() {
+		if (refreshDepth++ == 0) {
+			filterResultsByParent = new HashMap<Object, Map<Object, Boolean>>();
+			subtasksByContainer = new HashMap<ITaskContainer, Set<ITask>>();
+		}
+	}
+
+	public void endRefresh() {
+		if (refreshDepth > 0 && --refreshDepth == 0) {
+			filterResultsByParent = null;
+			subtasksByContainer = null;
+		}
+	}
+
 	public void inputChanged(Viewer v, Object oldInput, Object newInput) {
 		this.taskListView.expandToActiveTasks();
 	}
@@ -169,15 +202,7 @@ public class TaskListContentProvider extends AbstractTaskListContentProvider {
 		if (TasksUiPlugin.getDefault().groupSubtasks(parent)) {
 			Collection<ITask> parentTasks = parent.getChildren();
 			Set<IRepositoryElement> parents = new HashSet<IRepositoryElement>();
-			Set<ITask> children = new HashSet<ITask>();
-			// get all children
-			for (ITask element : parentTasks) {
-				if (element instanceof ITaskContainer) {
-					for (ITask abstractTask : ((ITaskContainer) element).getChildren()) {
-						children.add(abstractTask);
-					}
-				}
-			}
+			Set<ITask> children = getSubtasks(parent, parentTasks);
 			for (ITask task : parentTasks) {
 				if (!filter(parent, task) && !children.contains(task)) {
 					parents.add(task);
@@ -194,7 +219,43 @@ public class TaskListContentProvider extends AbstractTaskListContentProvider {
 		return result;
 	}
 
+	private Set<ITask> getSubtasks(ITaskContainer parent, Collection<ITask> parentTasks) {
+		Set<ITask> children = (subtasksByContainer != null) ? subtasksByContainer.get(parent) : null;
+		if (children == null) {
+			children = new HashSet<ITask>();
+			// get all children
+			for (ITask element : parentTasks) {
+				if (element instanceof ITaskContainer) {
+					for (ITask abstractTask : ((ITaskContainer) element).getChildren()) {
+						children.add(abstractTask);
+					}
+				}
+			}
+			if (subtasksByContainer != null) {
+				subtasksByContainer.put(parent, children);
+			}
+		}
+		return children;
+	}
+
 	protected boolean filter(Object parent, Object object) {
+		if (filterResultsByParent == null) {
+			return computeFilter(parent, object);
+		}
+		Map<Object, Boolean> filterResults = filterResultsByParent.get(parent);
+		if (filterResults == null) {
+			filterResults = new HashMap<Object, Boolean>();
+			filterResultsByParent.put(parent, filterResults);
+		}
+		Boolean result = filterResults.get(object);
+		if (result == null) {
+			result = computeFilter(parent, object);
+			filterResults.put(object, result);
+		}
+		return result;
+	}
+
+	private boolean computeFilter(Object parent, Object object) {
 		boolean notSearching = containsNoFilterText(this.taskListView.getFilteredTree().getFilterString());
 		for (AbstractTaskListFilter filter : this.taskListView.getFilters()) {
 			if (notSearching || filter.applyToFilteredText()) {
@@ -14,10 +14,14 @@
 package org.eclipse.mylyn.internal.tasks.ui.views;
 
 import java.util.Arrays;
+import java.util.Date;
 import java.util.HashSet;
+import java.util.Iterator;
+import java.util.LinkedHashSet;
 import java.util.Set;
 
 import org.eclipse.core.runtime.IStatus;
+import org.eclipse.core.runtime.Platform;
 import org.eclipse.core.runtime.Status;
 import org.eclipse.jface.viewers.ISelection;
 import org.eclipse.jface.viewers.TreePath;
@@ -43,54 +47,106 @@ import org.eclipse.swt.widgets.TreeItem;
 import org.eclipse.ui.PlatformUI;
 
 public final class TaskListRefreshJob extends DelayedRefreshJob {
+
+	private static final boolean TRACE_ENABLED = Boolean
+			.valueOf(Platform.getDebugOption("org.eclipse.mylyn.tasks.ui/debug/refresh")); //$NON-NLS-1$
+
 	private final AbstractTaskListView taskListView;
 
+	private int refreshCount;
+
+	private long totalRefreshTime;
+
+	private long maxRefreshTime;
+
+	/**
+	 * The number of changed elements above which the viewer is refreshed completely since that is cheaper than
+	 * refreshing each element.
+	 */
+	static final int FULL_REFRESH_THRESHOLD = 500;
+
+	/**
+	 * The maximum number of elements that are refreshed at once to keep the UI responsive. Remaining elements are
+	 * refreshed by a subsequent run of the job.
+	 */
+	static final int MAX_ELEMENTS_PER_REFRESH = 100;
+
+	private final Object pendingLock = new Object();
+
+	/**
+	 * Elements that have changed since the last flush in the order of change, guarded by {@link #pendingLock}.
+	 */
+	private final Set<Object> pendingElements = new LinkedHashSet<Object>();
+
+	private boolean pendingFullRefresh;
+
+	private boolean flushScheduled;
+
+	private final Runnable flushRunnable = new Runnable() {
+		public void run() {
+			flushPendingChanges();
+		}
+	};
+
 	private final ITaskListChangeListener TASKLIST_CHANGE_LISTENER = new TaskListChangeAdapter() {
 
 		@Override
-		public void containersChanged(final Set<TaskContainerDelta> deltas) {
-			PlatformUI.getWorkbench().getDisplay().asyncExec(new Runnable() {
-				public void run() {
-					for (TaskContainerDelta taskContainerDelta : deltas) {
-						if (taskListView.isScheduledPresentation()) {
-							// TODO: implement refresh policy for scheduled presentation
-							refresh();
-						} else {
-							switch (taskContainerDelta.getKind()) {
-							case ROOT:
-								refresh();
-								break;
-							case ADDED:
-							case REMOVED:
-								if (isFilteredContainer(taskContainerDelta)) {
-									// container may have changed visibility, refresh root
-									refresh();
-								} else {
-									if (taskContainerDelta.getElement() != null) {
-										refreshElement(taskContainerDelta.getElement());
-									}
-									if (taskContainerDelta.getParent() != null) {
-										refreshElement(taskContainerDelta.getParent());
-									} else {
-										// element was added/removed from the root
-										refresh();
-									}
-								}
-								break;
-							case CONTENT:
-								refreshElement(taskContainerDelta.getElement());
-							}
-
-						}
+		public void containersChanged(Set<TaskContainerDelta> deltas) {
+			// collect changes on the notifying thread and post a single update to the UI thread for all changes that
+			// arrive until it runs
+			synchronized (pendingLock) {
+				for (TaskContainerDelta taskContainerDelta : deltas) {
+					if (pendingFullRefresh) {
+						break;
 					}
+					addPendingChange(taskContainerDelta);
+				}
+				if (pendingElements.size() > FULL_REFRESH_THRESHOLD) {
+					pendingFullRefresh = true;
+				}
+				if (pendingFullRefresh) {
+					pendingElements.clear();
+				}
+				if (!flushScheduled) {
+					flushScheduled = true;
+					PlatformUI.getWorkbench().getDisplay().asyncExec(flushRunnable);
 				}
+			}
+		}
 
-				private boolean isFilteredContainer(TaskContainerDelta taskContainerDelta) {
-					ITaskContainer parent = taskContainerDelta.getParent();
-					return parent instanceof UnsubmittedTaskContainer || parent instanceof UnmatchedTaskContainer
-							|| parent instanceof UncategorizedTaskContainer;
+		private void addPendingChange(TaskContainerDelta taskContainerDelta) {
+			switch (taskContainerDelta.getKind()) {
+			case ROOT:
+				pendingFullRefresh = true;
+				break;
+			case ADDED:
+			case REMOVED:
+				if (isFilteredContainer(taskContainerDelta)) {
+					// container may have changed visibility, refresh root
+					pendingFullRefresh = true;
+				} else {
+					if (taskContainerDelta.getElement() != null) {
+						pendingElements.add(taskContainerDelta.getElement());
+					}
+					if (taskContainerDelta.getParent() != null) {
+						pendingElements.add(taskContainerDelta.getParent());
+					} else {
+						// element was added/removed from the root
+						pendingFullRefresh = true;
+					}
+				}
+				break;
+			case CONTENT:
+				if (taskContainerDelta.getElement() != null) {
+					pendingElements.add(taskContainerDelta.getElement());
 				}
-			});
+			}
+		}
+
+		private boolean isFilteredContainer(TaskContainerDelta taskContainerDelta) {
+			ITaskContainer parent = taskContainerDelta.getParent();
+			return parent instanceof UnsubmittedTaskContainer || parent instanceof UnmatchedTaskContainer
+					|| parent instanceof UncategorizedTaskContainer;
 		}
 	};
 
@@ -100,8 +156,92 @@ public final class TaskListRefreshJob extends DelayedRefreshJob {
 		TasksUiInternal.getTaskList().addChangeListener(TASKLIST_CHANGE_LISTENER);
 	}
 
+	private void flushPendingChanges() {
+		Object[] elements;
+		boolean fullRefresh;
+		synchronized (pendingLock) {
+			elements = pendingElements.toArray();
+			fullRefresh = pendingFullRefresh;
+			pendingElements.clear();
+			pendingFullRefresh = false;
+			flushScheduled = false;
+		}
+		if (taskListView.isScheduledPresentation()) {
+			refreshScheduledPresentation();
+		} else if (fullRefresh) {
+			refresh();
+		} else {
+			for (Object element : elements) {
+				refreshElement(element);
+			}
+		}
+	}
+
+	private void refreshScheduledPresentation() {
+		// the content provider tracks which containers are affected by the changes
+		Set<Object> elements = null;
+		if (viewer.getContentProvider() instanceof TaskScheduleContentProvider) {
+			elements = ((TaskScheduleContentProvider) viewer.getContentProvider()).getChangedElements();
+		}
+		if (elements == null) {
+			refresh();
+		} else {
+			for (Object element : elements) {
+				refreshElement(element);
+			}
+		}
+	}
+
 	@Override
 	protected void doRefresh(Object[] items) {
+		if (items != null) {
+			// the same element may have been queued several times
+			Set<Object> elements = new LinkedHashSet<Object>(Arrays.asList(items));
+			if (elements.size() > FULL_REFRESH_THRESHOLD) {
+				items = null;
+			} else if (elements.size() > MAX_ELEMENTS_PER_REFRESH) {
+				items = new Object[MAX_ELEMENTS_PER_REFRESH];
+				Iterator<Object> it = elements.iterator();
+				for (int i = 0; i < items.length; i++) {
+					items[i] = it.next();
+				}
+				// defer remaining elements to the next run
+				while (it.hasNext()) {
+					refreshElement(it.next());
+				}
+				if (TRACE_ENABLED) {
+					trace("Deferred refresh of " + (elements.size() - items.length) + " elements"); //$NON-NLS-1$ //$NON-NLS-2$
+				}
+			} else {
+				items = elements.toArray();
+			}
+		}
+
+		TaskListContentProvider contentProvider = (viewer.getContentProvider() instanceof TaskListContentProvider)
+				? (TaskListContentProvider) viewer.getContentProvider()
+				: null;
+		if (contentProvider != null) {
+			contentProvider.beginRefresh();
+		}
+		long startTime = System.nanoTime();
+		try {
+			refreshViewer(items);
+		} finally {
+			if (contentProvider != null) {
+				contentProvider.endRefresh();
+			}
+			long time = (System.nanoTime() - startTime) / 1000000;
+			refreshCount++;
+			totalRefreshTime += time;
+			maxRefreshTime = Math.max(maxRefreshTime, time);
+			if (TRACE_ENABLED) {
+				trace("Refreshed " + ((items != null) ? items.length + " elements" : "all elements") + " in " + time //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$ //$NON-NLS-4$
+						+ " ms"); //$NON-NLS-1$
+			}
+		}
+	}
+
+	private void refreshViewer(Object[] items) {
 		TreePath selection = preserveSelection();
 
 		if (items == null) {
@@ -191,7 +331,36 @@ public final class TaskListRefreshJob extends DelayedRefreshJob {
 		}
 	}
 
+	/**
+	 * Returns the number of refreshes of the viewer.
+	 */
+	public int getRefreshCount() {
+		return refreshCount;
+	}
+
+	/**
+	 * Returns the total time in milliseconds spent refreshing the viewer on the UI thread.
+	 */
+	public long getTotalRefreshTime() {
+		return totalRefreshTime;
+	}
+
+	/**
+	 * Returns the maximum time in milliseconds spent on a single refresh of the viewer.
+	 */
+	public long getMaxRefreshTime() {
+		return maxRefreshTime;
+	}
+
+	private void trace(String message) {
+		System.err.println("[" + new Date() + "] " + message); //$NON-NLS-1$ //$NON-NLS-2$
+	}
+
 	public void dispose() {
 		TasksUiInternal.getTaskList().removeChangeListener(TASKLIST_CHANGE_LISTENER);
+		synchronized (pendingLock) {
+			pendingElements.clear();
+			pendingFullRefresh = false;
+		}
 	}
 }
\ No newline at end of file
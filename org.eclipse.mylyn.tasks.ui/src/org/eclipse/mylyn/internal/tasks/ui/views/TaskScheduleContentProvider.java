@@ -27,15 +27,19 @@ import org.eclipse.core.runtime.IStatus;
 import org.eclipse.core.runtime.Platform;
 import org.eclipse.core.runtime.Status;
 import org.eclipse.core.runtime.jobs.Job;
+import org.eclipse.jface.viewers.TreePath;
 import org.eclipse.mylyn.internal.tasks.core.AbstractTask;
 import org.eclipse.mylyn.internal.tasks.core.AbstractTaskContainer;
 import org.eclipse.mylyn.internal.tasks.core.DateRange;
+import org.eclipse.mylyn.internal.tasks.core.ITaskListChangeListener;
 import org.eclipse.mylyn.internal.tasks.core.ITasksCoreConstants;
 import org.eclipse.mylyn.internal.tasks.core.ScheduledTaskContainer;
 import org.eclipse.mylyn.internal.tasks.core.TaskActivityManager;
 import org.eclipse.mylyn.internal.tasks.core.TaskActivityUtil;
+import org.eclipse.mylyn.internal.tasks.core.TaskContainerDelta;
 import org.eclipse.mylyn.internal.tasks.core.WeekDateRange;
 import org.eclipse.mylyn.internal.tasks.ui.TasksUiPlugin;
+import org.eclipse.mylyn.internal.tasks.ui.editors.TaskListChangeAdapter;
 import org.eclipse.mylyn.tasks.core.IRepositoryElement;
 import org.eclipse.mylyn.tasks.core.ITask;
 import org.eclipse.mylyn.tasks.core.ITask.SynchronizationState;
@@ -69,6 +73,38 @@ public class TaskScheduleContentProvider extends TaskListContentProvider impleme
 
 	private final Completed completed;
 
+	private final StateTaskContainer[] stateContainers;
+
+	/**
+	 * Whether the children of the state containers reflect the task list. Guarded by <code>this</code>.
+	 */
+	private boolean stateContainersValid;
+
+	/**
+	 * The focused mode of the view when the children of the state containers were computed.
+	 */
+	private boolean stateContainersFocusedMode;
+
+	/**
+	 * Tasks that may show in date containers. Changes to these tasks require a full refresh since the affected date
+	 * containers are not tracked.
+	 */
+	private final Set<ITask> datedTasks = new HashSet<ITask>();
+
+	/**
+	 * Elements that need to be refreshed in the viewer due to task list changes.
+	 */
+	private final Set<Object> changedElements = new HashSet<Object>();
+
+	private boolean refreshAll;
+
+	private final ITaskListChangeListener taskListListener = new TaskListChangeAdapter() {
+		@Override
+		public void containersChanged(Set<TaskContainerDelta> deltas) {
+			updateStateContainers(deltas);
+		}
+	};
+
 	public TaskScheduleContentProvider(AbstractTaskListView taskListView) {
 		super(taskListView);
 		this.taskActivityManager = TasksUiPlugin.getTaskActivityManager();
@@ -91,6 +127,8 @@ public class TaskScheduleContentProvider extends TaskListContentProvider impleme
 		COMPLETED_TIME.setTimeInMillis(END_OF_TIME.getTimeInMillis() + 2);
 		completed = new Completed();
 
+		stateContainers = new StateTaskContainer[] { incoming, outgoing, unscheduled, completed };
+		TasksUiPlugin.getTaskList().addChangeListener(taskListListener);
 	}
 
 	@Override
@@ -175,9 +213,23 @@ public class TaskScheduleContentProvider extends TaskListContentProvider impleme
 
 	@Override
 	public boolean hasChildren(Object parent) {
+		if (parent instanceof ScheduledTaskContainer) {
+			// avoid filtering all children
+			for (ITask child : ((ScheduledTaskContainer) parent).getChildren()) {
+				if (!filter(parent, child)) {
+					return true;
+				}
+			}
+			return false;
+		}
 		return getChildren(parent).length > 0;
 	}
 
+	@Override
+	public boolean hasChildren(TreePath path) {
+		return hasChildren(path.getLastSegment());
+	}
+
 	@Override
 	protected List<IRepositoryElement> getFilteredChildrenFor(Object parent) {
 		if (parent instanceof ITask) {
@@ -220,6 +272,87 @@ public class TaskScheduleContentProvider extends TaskListContentProvider impleme
 //		return result.toArray();
 //	}
 
+	/**
+	 * Returns the elements that need to be refreshed in the viewer due to task list changes since the last invocation
+	 * or <code>null</code>, if the viewer needs to be refreshed completely.
+	 */
+	public synchronized Set<Object> getChangedElements() {
+		if (refreshAll) {
+			refreshAll = false;
+			changedElements.clear();
+			return null;
+		}
+		Set<Object> elements = new HashSet<Object>(changedElements);
+		changedElements.clear();
+		return elements;
+	}
+
+	private synchronized void updateStateContainers(Set<TaskContainerDelta> deltas) {
+		if (!stateContainersValid) {
+			refreshAll = true;
+			return;
+		}
+		for (TaskContainerDelta delta : deltas) {
+			if (delta.getKind() == TaskContainerDelta.Kind.ROOT) {
+				stateContainersValid = false;
+				refreshAll = true;
+				return;
+			}
+			if (delta.getElement() instanceof ITask) {
+				ITask task = (ITask) delta.getElement();
+				boolean exists = TasksUiPlugin.getTaskList().getTask(task.getHandleIdentifier()) != null;
+				boolean dated = exists && isDated(task);
+				if (datedTasks.remove(task) || dated) {
+					refreshAll = true;
+				}
+				if (dated) {
+					datedTasks.add(task);
+				}
+				for (StateTaskContainer container : stateContainers) {
+					if ((exists) ? container.update(task) : container.children.remove(task)) {
+						changedElements.add(container);
+					}
+				}
+				if (exists) {
+					changedElements.add(task);
+				}
+			}
+			// changes to other containers do not affect the scheduled presentation
+		}
+	}
+
+	private synchronized void validateStateContainers() {
+		boolean focusedMode = taskListView.isFocusedMode();
+		if (stateContainersValid && stateContainersFocusedMode == focusedMode) {
+			return;
+		}
+		for (StateTaskContainer container : stateContainers) {
+			container.children.clear();
+		}
+		datedTasks.clear();
+		for (ITask task : TasksUiPlugin.getTaskList().getAllTasks()) {
+			for (StateTaskContainer container : stateContainers) {
+				container.update(task);
+			}
+			if (isDated(task)) {
+				datedTasks.add(task);
+			}
+		}
+		stateContainersValid = true;
+		stateContainersFocusedMode = focusedMode;
+	}
+
+	private synchronized void invalidateStateContainers() {
+		stateContainersValid = false;
+	}
+
+	/**
+	 * Returns true, if <code>task</code> may show in one of the date containers.
+	 */
+	private boolean isDated(ITask task) {
+		return ((AbstractTask) task).getScheduledForDate() != null || task.getDueDate() != null || task.isActive();
+	}
+
 	private void refresh() {
 		if (Platform.isRunning() && PlatformUI.getWorkbench() != null && !PlatformUI.getWorkbench().isClosing()) {
 			PlatformUI.getWorkbench().getDisplay().asyncExec(new Runnable() {
@@ -238,10 +371,12 @@ public class TaskScheduleContentProvider extends TaskListContentProvider impleme
 			}
 		}
 		taskActivityManager.removeActivityListener(this);
+		TasksUiPlugin.getTaskList().removeChangeListener(taskListListener);
 		super.dispose();
 	}
 
 	public void activityReset() {
+		invalidateStateContainers();
 		refresh();
 	}
 
@@ -272,19 +407,33 @@ public class TaskScheduleContentProvider extends TaskListContentProvider impleme
 
 		Calendar temp = TaskActivityUtil.getCalendar();
 
+		/**
+		 * Maintained incrementally from task list changes. Guarded by the enclosing content provider.
+		 */
+		private final Set<ITask> children = new HashSet<ITask>();
+
 		public StateTaskContainer(DateRange range, String summary) {
 			super(taskActivityManager, range, summary, summary);
 		}
 
 		@Override
 		public Collection<ITask> getChildren() {
-			Set<ITask> children = new HashSet<ITask>();
-			for (ITask task : TasksUiPlugin.getTaskList().getAllTasks()) {
-				if (select(task) && include(task)) {
-					children.add(task);
-				}
+			synchronized (TaskScheduleContentProvider.this) {
+				validateStateContainers();
+				return new HashSet<ITask>(children);
+			}
+		}
+
+		/**
+		 * Adds or removes <code>task</code> depending on whether it belongs to this container. Returns true, if the
+		 * children of this container have changed.
+		 */
+		private boolean update(ITask task) {
+			if (select(task) && include(task)) {
+				return children.add(task);
+			} else {
+				return children.remove(task);
 			}
-			return children;
 		}
 
 		private boolean include(ITask task) {
@@ -383,6 +532,8 @@ public class TaskScheduleContentProvider extends TaskListContentProvider impleme
 
 		@Override
 		protected IStatus run(IProgressMonitor monitor) {
+			// containers depend on the current date
+			invalidateStateContainers();
 			refresh();
 			return Status.OK_STATUS;
 		}
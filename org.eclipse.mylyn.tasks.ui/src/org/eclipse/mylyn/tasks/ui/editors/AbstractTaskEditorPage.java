@@ -18,6 +18,7 @@ package org.eclipse.mylyn.tasks.ui.editors;
 
 import java.util.Collection;
 import java.util.Collections;
+import java.util.Date;
 import java.util.Iterator;
 import java.util.LinkedHashSet;
 import java.util.LinkedList;
@@ -32,8 +33,10 @@ import org.eclipse.core.runtime.IStatus;
 import org.eclipse.core.runtime.ListenerList;
 import org.eclipse.core.runtime.NullProgressMonitor;
 import org.eclipse.core.runtime.OperationCanceledException;
+import org.eclipse.core.runtime.Platform;
 import org.eclipse.core.runtime.SafeRunner;
 import org.eclipse.core.runtime.Status;
+import org.eclipse.core.runtime.jobs.Job;
 import org.eclipse.jface.action.Action;
 import org.eclipse.jface.action.IMenuCreator;
 import org.eclipse.jface.action.IToolBarManager;
@@ -161,6 +164,9 @@ import org.eclipse.ui.views.contentoutline.IContentOutlinePage;
 public abstract class AbstractTaskEditorPage extends TaskFormPage
 		implements ISelectionProvider, ISelectionChangedListener {
 
+	private static final boolean TRACE_ENABLED = Boolean
+			.valueOf(Platform.getDebugOption("org.eclipse.mylyn.tasks.ui/debug/editor/open")); //$NON-NLS-1$
+
 	/**
 	 * Causes the form page to reflow on resize.
 	 */
@@ -188,6 +194,50 @@ public abstract class AbstractTaskEditorPage extends TaskFormPage
 		}
 	}
 
+	/**
+	 * Reads the task data and creates the model in the background while the editor is opened.
+	 */
+	private class LoadModelJob extends Job {
+
+		private final TaskEditorInput input;
+
+		private volatile TaskDataModel result;
+
+		private volatile CoreException error;
+
+		private volatile RuntimeException failure;
+
+		public LoadModelJob(TaskEditorInput input) {
+			super(Messages.AbstractTaskEditorPage_Loading_task);
+			this.input = input;
+			setSystem(true);
+			setPriority(INTERACTIVE);
+		}
+
+		@Override
+		protected IStatus run(IProgressMonitor monitor) {
+			long startTime = System.currentTimeMillis();
+			try {
+				result = createModel(input);
+			} catch (CoreException e) {
+				error = e;
+			} catch (RuntimeException e) {
+				failure = e;
+			}
+			if (TRACE_ENABLED) {
+				trace("Loaded task data for " + input.getTask().getHandleIdentifier() + " in " //$NON-NLS-1$ //$NON-NLS-2$
+						+ (System.currentTimeMillis() - startTime) + " ms"); //$NON-NLS-1$
+			}
+			PlatformUI.getWorkbench().getDisplay().asyncExec(new Runnable() {
+				public void run() {
+					modelLoaded();
+				}
+			});
+			return Status.OK_STATUS;
+		}
+
+	}
+
 	private class SubmitTaskJobListener extends SubmitJobListener {
 
 		private final boolean attachContext;
@@ -430,6 +480,22 @@ public abstract class AbstractTaskEditorPage extends TaskFormPage
 
 	private TaskDataModel model;
 
+	/**
+	 * Set while the model is loaded in the background, the model is initialized on first access.
+	 */
+	private LoadModelJob modelLoadJob;
+
+	/**
+	 * Shown in place of the editor contents while the model is loaded.
+	 */
+	private Control loadingControl;
+
+	/**
+	 * The object passed to {@link #selectReveal(Object)} while the model was loaded, revealed once the editor contents
+	 * have been created.
+	 */
+	private Object pendingReveal;
+
 	private boolean needsAddToCategory;
 
 	private boolean reflow;
@@ -626,11 +692,17 @@ public abstract class AbstractTaskEditorPage extends TaskFormPage
 				});
 			}
 
-			if (taskData != null) {
-				createFormContentInternal();
-			}
+			if (isModelLoading()) {
+				// show a placeholder and create the contents once the task data has been read
+				loadingControl = toolkit.createLabel(editorComposite, Messages.AbstractTaskEditorPage_Loading_task);
+			} else {
+				getModel();
+				if (taskData != null) {
+					createFormContentInternal();
+				}
 
-			updateHeaderMessage();
+				updateHeaderMessage();
+			}
 		} finally {
 			setReflow(true);
 
@@ -667,6 +739,8 @@ public abstract class AbstractTaskEditorPage extends TaskFormPage
 	}
 
 	private void createFormContentInternal() {
+		long startTime = System.currentTimeMillis();
+
 		// end life-cycle of previous editor controls
 		if (attributeEditorToolkit != null) {
 			attributeEditorToolkit.dispose();
@@ -686,8 +760,57 @@ public abstract class AbstractTaskEditorPage extends TaskFormPage
 
 		focusTracker = new FocusTracker();
 		focusTracker.track(editorComposite);
+
+		if (TRACE_ENABLED) {
+			trace("Created editor contents for " + task.getHandleIdentifier() + " in " //$NON-NLS-1$ //$NON-NLS-2$
+					+ (System.currentTimeMillis() - startTime) + " ms"); //$NON-NLS-1$
+		}
 	}
 
+	/**
+	 * Replaces the placeholder by the editor contents after the model has been loaded in the background.
+	 */
+	private void modelLoaded() {
+		if (loadingControl == null || loadingControl.isDisposed() || getManagedForm() == null
+				|| getManagedForm().getForm().isDisposed()) {
+			return;
+		}
+
+		try {
+			setReflow(false);
+			loadingControl.dispose();
+			loadingControl = null;
+
+			getModel();
+			if (taskData != null) {
+				createFormContentInternal();
+			}
+
+			updateOutlinePage();
+			updateHeaderMessage();
+			getManagedForm().dirtyStateChanged();
+			getTaskEditor().updateHeaderToolBar();
+		} finally {
+			setReflow(true);
+		}
+		reflow();
+
+		if (pendingReveal != null) {
+			Object object = pendingReveal;
+			pendingReveal = null;
+			selectReveal(object);
+		}
+	}
+
+	/**
+	 * Creates the model for the task data of <code>input</code>.
+	 * <p>
+	 * If {@link #canCreateModelInBackground()} returns true, this method is invoked in a background thread while the
+	 * editor is opened and must not access the display or the editor controls. Otherwise it is invoked on the UI
+	 * thread.
+	 *
+	 * @see #canCreateModelInBackground()
+	 */
 	protected TaskDataModel createModel(TaskEditorInput input) throws CoreException {
 		ITaskDataWorkingCopy taskDataState;
 		try {
@@ -815,9 +938,14 @@ public abstract class AbstractTaskEditorPage extends TaskFormPage
 					}
 
 					public void run() throws Exception {
+						long startTime = System.currentTimeMillis();
 						AbstractTaskEditorPart part = descriptor.createPart();
 						part.setPartId(descriptor.getId());
 						initializePart(parent, part, descriptors);
+						if (TRACE_ENABLED) {
+							trace("Created part " + descriptor.getId() + " in " //$NON-NLS-1$ //$NON-NLS-2$
+									+ (System.currentTimeMillis() - startTime) + " ms"); //$NON-NLS-1$
+						}
 					}
 				});
 				it.remove();
@@ -855,6 +983,10 @@ public abstract class AbstractTaskEditorPage extends TaskFormPage
 
 	@Override
 	public void dispose() {
+		if (modelLoadJob != null) {
+			modelLoadJob.cancel();
+			modelLoadJob = null;
+		}
 		if (textSupport != null) {
 			textSupport.dispose();
 		}
@@ -957,7 +1089,11 @@ public abstract class AbstractTaskEditorPage extends TaskFormPage
 	 */
 	@Override
 	public void fillToolBar(IToolBarManager toolBarManager) {
-		final TaskRepository taskRepository = (model != null) ? getModel().getTaskRepository() : null;
+		if (isModelLoading()) {
+			// the tool bar is filled once the model has been loaded
+			return;
+		}
+		final TaskRepository taskRepository = (getModel() != null) ? getModel().getTaskRepository() : null;
 
 		if (taskData == null) {
 			synchronizeEditorAction = new SynchronizeEditorAction();
@@ -1129,6 +1265,9 @@ public abstract class AbstractTaskEditorPage extends TaskFormPage
 	}
 
 	public TaskDataModel getModel() {
+		if (modelLoadJob != null) {
+			completeModelLoad();
+		}
 		return model;
 	}
 
@@ -1240,31 +1379,112 @@ public abstract class AbstractTaskEditorPage extends TaskFormPage
 		this.textSupport.setSelectionChangedListener(this);
 		createFindSupport();
 
-		initModel(taskEditorInput);
+		if (canCreateModelInBackground()) {
+			// read the task data in the background while the editor controls are created, the model is initialized on
+			// first access
+			modelLoadJob = new LoadModelJob(taskEditorInput);
+			modelLoadJob.schedule();
+		} else {
+			initModel(taskEditorInput);
+		}
 
 		TasksUiPlugin.getTaskDataManager().addListener(TASK_DATA_LISTENER);
 	}
 
+	/**
+	 * Returns true, if {@link #createModel(TaskEditorInput)} may be invoked in a background thread while the editor is
+	 * opened. The default implementation returns true, unless a subclass overrides
+	 * {@link #createModel(TaskEditorInput)} in which case the model is created on the UI thread. Subclasses that
+	 * override {@link #createModel(TaskEditorInput)} without accessing the display may override this method to return
+	 * true.
+	 *
+	 * @since 3.26
+	 */
+	protected boolean canCreateModelInBackground() {
+		for (Class<?> clazz = getClass(); clazz != AbstractTaskEditorPage.class; clazz = clazz.getSuperclass()) {
+			try {
+				clazz.getDeclaredMethod("createModel", TaskEditorInput.class); //$NON-NLS-1$
+				return false;
+			} catch (NoSuchMethodException e) {
+				// continue with super class
+			}
+		}
+		return true;
+	}
+
 	private void initModel(TaskEditorInput input) {
 		Assert.isTrue(model == null);
 		try {
-			this.model = createModel(input);
-			this.connector = TasksUi.getRepositoryManager().getRepositoryConnector(getConnectorKind());
-			setTaskData(model.getTaskData());
-			model.addModelListener(new TaskDataModelListener() {
-				@Override
-				public void attributeChanged(TaskDataModelEvent event) {
-					IManagedForm form = getManagedForm();
-					if (form != null && !form.isDirty()) {
-						form.dirtyStateChanged();
-					}
-				}
-			});
-			setNeedsAddToCategory(model.getTaskData().isNew());
+			initModel(createModel(input));
 		} catch (final CoreException e) {
-			StatusHandler.log(new Status(IStatus.ERROR, TasksUiPlugin.ID_PLUGIN, "Error opening task", e)); //$NON-NLS-1$
-			getTaskEditor().setStatus(Messages.AbstractTaskEditorPage_Error_opening_task,
-					Messages.AbstractTaskEditorPage_Open_failed, e.getStatus());
+			handleOpenError(e);
+		}
+	}
+
+	private void initModel(TaskDataModel model) {
+		long startTime = System.currentTimeMillis();
+		this.model = model;
+		this.connector = TasksUi.getRepositoryManager().getRepositoryConnector(getConnectorKind());
+		setTaskData(model.getTaskData());
+		model.addModelListener(new TaskDataModelListener() {
+			@Override
+			public void attributeChanged(TaskDataModelEvent event) {
+				IManagedForm form = getManagedForm();
+				if (form != null && !form.isDirty()) {
+					form.dirtyStateChanged();
+				}
+			}
+		});
+		setNeedsAddToCategory(model.getTaskData().isNew());
+		if (TRACE_ENABLED) {
+			trace("Initialized model for " + task.getHandleIdentifier() + " in " //$NON-NLS-1$ //$NON-NLS-2$
+					+ (System.currentTimeMillis() - startTime) + " ms"); //$NON-NLS-1$
+		}
+	}
+
+	private void handleOpenError(CoreException e) {
+		StatusHandler.log(new Status(IStatus.ERROR, TasksUiPlugin.ID_PLUGIN, "Error opening task", e)); //$NON-NLS-1$
+		getTaskEditor().setStatus(Messages.AbstractTaskEditorPage_Error_opening_task,
+				Messages.AbstractTaskEditorPage_Open_failed, e.getStatus());
+	}
+
+	/**
+	 * Returns true, if the model is still being loaded in the background.
+	 */
+	private boolean isModelLoading() {
+		LoadModelJob job = modelLoadJob;
+		return job != null && job.getResult() == null;
+	}
+
+	/**
+	 * Initializes the model from the result of {@link #modelLoadJob}. Waits for the job if it is still running.
+	 */
+	private void completeModelLoad() {
+		LoadModelJob job = modelLoadJob;
+		modelLoadJob = null;
+		long startTime = System.currentTimeMillis();
+		if ((job.getState() == Job.WAITING || job.getState() == Job.SLEEPING) && job.cancel()) {
+			// the job has not started, read the task data in the calling thread instead
+			initModel(job.input);
+			return;
+		}
+		try {
+			job.join();
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+		}
+		if (TRACE_ENABLED) {
+			trace("Waited " + (System.currentTimeMillis() - startTime) + " ms for task data of " //$NON-NLS-1$ //$NON-NLS-2$
+					+ task.getHandleIdentifier());
+		}
+		if (job.failure != null) {
+			throw job.failure;
+		} else if (job.error != null) {
+			handleOpenError(job.error);
+		} else if (job.result != null) {
+			initModel(job.result);
+		} else {
+			initModel(job.input);
 		}
 	}
 
@@ -1393,7 +1613,7 @@ public abstract class AbstractTaskEditorPage extends TaskFormPage
 			if (getTask() != null) {
 				hasIncoming = getTask().getSynchronizationState().isIncoming();
 			}
-			if (model != null) {
+			if (getModel() != null) {
 				doSave(new NullProgressMonitor());
 				refreshInput();
 			} else {
@@ -1695,6 +1915,11 @@ public abstract class AbstractTaskEditorPage extends TaskFormPage
 
 	@Override
 	public boolean selectReveal(Object object) {
+		if (loadingControl != null && !loadingControl.isDisposed()) {
+			// reveal once the editor contents have been created
+			pendingReveal = object;
+			return true;
+		}
 		if (object instanceof TaskEditorOutlineNode) {
 			TaskEditorOutlineNode node = (TaskEditorOutlineNode) object;
 			TaskAttribute attribute = node.getData();
@@ -1732,4 +1957,8 @@ public abstract class AbstractTaskEditorPage extends TaskFormPage
 		}
 	}
 
+	private static void trace(String message) {
+		System.err.println("[" + new Date() + "] " + message); //$NON-NLS-1$ //$NON-NLS-2$
+	}
+
 }